@@ -25,6 +25,7 @@ import org.eclipse.edc.connector.core.vault.InMemoryVault;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
@@ -45,6 +46,11 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Core Default Services";
 
+    private static final int DEFAULT_EVENT_THREADS = 1;
+
+    @Setting(value = "Number of threads used to deliver events to the async subscribers. Default value " + DEFAULT_EVENT_THREADS, type = "int")
+    public static final String EVENT_THREADS_SETTING = "edc.events.threads";
+
     /**
      * An optional OkHttp {@link EventListener} that can be used to instrument OkHttp client for collecting metrics.
      */
@@ -76,8 +82,9 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     }
 
     @Provider(isDefault = true)
-    public EventExecutorServiceContainer eventExecutorServiceContainer() {
-        return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1)); // TODO: make configurable
+    public EventExecutorServiceContainer eventExecutorServiceContainer(ServiceExtensionContext context) {
+        var threads = context.getSetting(EVENT_THREADS_SETTING, DEFAULT_EVENT_THREADS);
+        return new EventExecutorServiceContainer(Executors.newFixedThreadPool(threads));
     }
 
     @Provider(isDefault = true)
@@ -36,6 +36,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.agent.ParticipantAgentService;
 import org.eclipse.edc.spi.command.CommandHandlerRegistry;
 import org.eclipse.edc.spi.event.EventRouter;
@@ -53,7 +54,9 @@ import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
 import java.time.Duration;
+import java.util.Arrays;
 
+import static java.lang.String.format;
 import static org.eclipse.edc.spi.agent.ParticipantAgentService.DEFAULT_IDENTITY_CLAIM_KEY;
 
 @BaseExtension
@@ -77,10 +80,19 @@ public class CoreServicesExtension implements ServiceExtension {
     @Setting
     public static final String IDENTITY_KEY = "edc.agent.identity.key";
 
+    @Setting(value = "the max number of scope-filtered policies cached by the policy engine, 0 disables the cache. Default value " + DEFAULT_POLICY_CACHE_SIZE, type = "int")
+    public static final String POLICY_CACHE_SIZE_SETTING = "edc.policy.engine.cache.size";
+
+    @Setting(value = "Ordering guaranteed to the async event subscribers: NONE, SUBSCRIBER (every subscriber receives the events in publishing order) " +
+            "or ENTITY (every subscriber receives the events of the same entity in publishing order). Default value " + DEFAULT_EVENT_ORDERING)
+    public static final String EVENT_ORDERING_SETTING = "edc.events.ordering";
+
     public static final String NAME = "Core Services";
     private static final long DEFAULT_DURATION = 60;
     private static final int DEFAULT_TP_SIZE = 3;
     private static final String DEFAULT_HOSTNAME = "localhost";
+    private static final int DEFAULT_POLICY_CACHE_SIZE = 0;
+    private static final String DEFAULT_EVENT_ORDERING = "NONE";
 
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
@@ -157,14 +169,17 @@ public class CoreServicesExtension implements ServiceExtension {
     }
 
     @Provider
-    public PolicyEngine policyEngine() {
+    public PolicyEngine policyEngine(ServiceExtensionContext context) {
         var scopeFilter = new ScopeFilter(ruleBindingRegistry);
-        return new PolicyEngineImpl(scopeFilter);
+        var policyCacheSize = context.getSetting(POLICY_CACHE_SIZE_SETTING, DEFAULT_POLICY_CACHE_SIZE);
+        return new PolicyEngineImpl(scopeFilter, policyCacheSize);
     }
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        var ordering = eventOrdering(context);
+        var executor = executorInstrumentation.instrument(eventExecutorServiceContainer.getExecutorService(), "Event router");
+        return new EventRouterImpl(context.getMonitor(), executor, ordering);
     }
 
 
@@ -193,6 +208,15 @@ public class CoreServicesExtension implements ServiceExtension {
         return CriterionOperatorRegistryImpl.ofDefaults();
     }
 
+    private EventRouterImpl.Ordering eventOrdering(ServiceExtensionContext context) {
+        var value = context.getSetting(EVENT_ORDERING_SETTING, DEFAULT_EVENT_ORDERING);
+        return Arrays.stream(EventRouterImpl.Ordering.values())
+                .filter(ordering -> ordering.name().equalsIgnoreCase(value.trim()))
+                .findFirst()
+                .orElseThrow(() -> new EdcException(format("Invalid value '%s' for setting %s, allowed values are %s",
+                        value, EVENT_ORDERING_SETTING, Arrays.toString(EventRouterImpl.Ordering.values()))));
+    }
+
     private HealthCheckServiceConfiguration getHealthCheckConfig(ServiceExtensionContext context) {
         return HealthCheckServiceConfiguration.Builder.newInstance()
                 .livenessPeriod(Duration.ofSeconds(context.getSetting(LIVENESS_PERIOD_SECONDS_SETTING, DEFAULT_DURATION)))
@@ -32,6 +32,8 @@ import org.eclipse.edc.spi.system.configuration.Config;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -58,15 +60,31 @@ public class LocalPublicKeyDefaultExtension implements ServiceExtension {
     @Setting(context = CONFIG_ALIAS, value = "Path to a file that holds the public key, e.g. a PEM file. Multiple formats are supported, depending on the KeyParsers registered in the runtime")
     public static final String PATH_SUFFIX = "path";
 
+    private static final int DEFAULT_VAULT_CACHE_SIZE = 100;
+    private static final long DEFAULT_VAULT_CACHE_TTL = 300;
+
+    @Setting(value = "the max number of public keys resolved from the vault to be cached, 0 disables the cache. Default value " + DEFAULT_VAULT_CACHE_SIZE, type = "int")
+    public static final String VAULT_CACHE_SIZE = "edc.iam.localpublickey.cache.size";
+
+    @Setting(value = "the time in seconds after which a cached public key gets resolved from the vault again. Default value " + DEFAULT_VAULT_CACHE_TTL, type = "long")
+    public static final String VAULT_CACHE_TTL = "edc.iam.localpublickey.cache.ttl";
+
     @Inject
     public KeyParserRegistry keyParserRegistry;
 
     private Config keysConfiguration;
 
+    private int vaultCacheSize = DEFAULT_VAULT_CACHE_SIZE;
+
+    private Duration vaultCacheTtl = Duration.ofSeconds(DEFAULT_VAULT_CACHE_TTL);
+
     private LocalPublicKeyServiceImpl localPublicKeyService;
     @Inject
     private Vault vault;
 
+    @Inject
+    private Clock clock;
+
     @Provider(isDefault = true)
     public LocalPublicKeyService localPublicKeyService() {
         return localPublicKeyServiceImpl();
@@ -74,7 +92,7 @@ public class LocalPublicKeyDefaultExtension implements ServiceExtension {
 
     private LocalPublicKeyServiceImpl localPublicKeyServiceImpl() {
         if (localPublicKeyService == null) {
-            localPublicKeyService = new LocalPublicKeyServiceImpl(vault, keyParserRegistry);
+            localPublicKeyService = new LocalPublicKeyServiceImpl(vault, keyParserRegistry, vaultCacheSize, vaultCacheTtl, clock);
         }
         return localPublicKeyService;
     }
@@ -82,6 +100,8 @@ public class LocalPublicKeyDefaultExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         keysConfiguration = context.getConfig(EDC_PUBLIC_KEYS_PREFIX);
+        vaultCacheSize = context.getSetting(VAULT_CACHE_SIZE, DEFAULT_VAULT_CACHE_SIZE);
+        vaultCacheTtl = Duration.ofSeconds(context.getSetting(VAULT_CACHE_TTL, DEFAULT_VAULT_CACHE_TTL));
     }
 
     @Override
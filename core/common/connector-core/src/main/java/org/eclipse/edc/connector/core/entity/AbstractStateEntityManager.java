@@ -28,7 +28,11 @@ import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
 
 /**
  * Abstraction that provides a common ground for state machine manager implementation.
@@ -42,10 +46,14 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     public static final int DEFAULT_BATCH_SIZE = 20;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
+    public static final int DEFAULT_WORKERS = 1;
 
     protected Monitor monitor;
     protected int batchSize = DEFAULT_BATCH_SIZE;
-    protected WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
+    protected int workers = DEFAULT_WORKERS;
+    protected Map<Integer, Integer> stateConcurrency = new HashMap<>();
+    protected ThreadFactory threadFactory;
+    protected Supplier<WaitStrategy> waitStrategySupplier = () -> () -> DEFAULT_ITERATION_WAIT;
     protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
     protected Telemetry telemetry = new Telemetry();
     protected EntityRetryProcessConfiguration entityRetryProcessConfiguration = defaultEntityRetryProcessConfiguration();
@@ -58,7 +66,9 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     public void start() {
         entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategySupplier)
+                .workers(workers)
+                .threadFactory(threadFactory);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
 
         stateMachineManager.start();
@@ -71,6 +81,13 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
         }
     }
 
+    @Override
+    public void wakeUp() {
+        if (stateMachineManager != null) {
+            stateMachineManager.wakeUp();
+        }
+    }
+
     /**
      * configures the State Machine Manager builder
      *
@@ -79,6 +96,17 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
      */
     protected abstract StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder);
 
+    /**
+     * Returns the number of concurrent loops that should process entities in the given state. This only has effect
+     * when more than one worker is configured.
+     *
+     * @param state the state code.
+     * @return the concurrency, 1 by default.
+     */
+    protected int concurrencyFor(int state) {
+        return stateConcurrency.getOrDefault(state, 1);
+    }
+
     @NotNull
     private EntityRetryProcessConfiguration defaultEntityRetryProcessConfiguration() {
         return new EntityRetryProcessConfiguration(DEFAULT_SEND_RETRY_LIMIT, () -> new ExponentialWaitStrategy(DEFAULT_SEND_RETRY_BASE_DELAY));
@@ -89,6 +117,9 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
         monitor.debug(() -> "[%s] %s %s is now in state %s"
                 .formatted(this.getClass().getSimpleName(), entity.getClass().getSimpleName(),
                         entity.getId(), entity.stateAsString()));
+        if (stateMachineManager != null) {
+            stateMachineManager.wakeUp(entity.getState());
+        }
     }
 
     protected void breakLease(E entity) {
@@ -115,8 +146,45 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        /**
+         * Number of worker threads of the state machine. With more than one worker every state gets processed by its
+         * own loop, so that a slow state does not stall the others.
+         */
+        public B workers(int workers) {
+            manager.workers = workers;
+            return self();
+        }
+
+        /**
+         * Number of concurrent loops that process entities in a specific state. Only has effect when more than one
+         * worker is configured.
+         */
+        public B stateConcurrency(int state, int concurrency) {
+            manager.stateConcurrency.put(state, concurrency);
+            return self();
+        }
+
+        /**
+         * Thread factory for the state machine workers, e.g. to use virtual threads on runtimes that support them.
+         */
+        public B threadFactory(ThreadFactory threadFactory) {
+            manager.threadFactory = threadFactory;
+            return self();
+        }
+
+        /**
+         * Wait strategy shared by all the loops of the state machine.
+         */
         public B waitStrategy(WaitStrategy waitStrategy) {
-            manager.waitStrategy = waitStrategy;
+            manager.waitStrategySupplier = () -> waitStrategy;
+            return self();
+        }
+
+        /**
+         * Supplies a wait strategy for every loop of the state machine, so that each one applies its own backoff.
+         */
+        public B waitStrategySupplier(Supplier<WaitStrategy> waitStrategySupplier) {
+            manager.waitStrategySupplier = waitStrategySupplier;
             return self();
         }
 
@@ -21,47 +21,67 @@ import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.runAsync;
 
+/**
+ * Default {@link EventRouter} implementation.
+ * <p>
+ * The subscribers of every event class are resolved once and cached until a new subscriber is registered. Async
+ * subscribers run on the provided executor, and the {@link Ordering} defines which events are guaranteed to be handled
+ * in the order they have been published: events handled by the same lane run one after the other, different lanes
+ * run concurrently, up to the number of threads of the executor.
+ */
 public class EventRouterImpl implements EventRouter {
 
     private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
     private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
+    // replaced on registration, so that a resolution running concurrently cannot leave a stale entry behind
+    private volatile Map<Class<?>, List<EventSubscriber>> resolvedSubscribers = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, List<EventSubscriber>> resolvedSyncSubscribers = new ConcurrentHashMap<>();
+    private final Map<Lane, CompletableFuture<Void>> lanes = new ConcurrentHashMap<>();
 
     private final Monitor monitor;
     private final ExecutorService executor;
+    private final Ordering ordering;
 
     public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+        this(monitor, executor, Ordering.NONE);
+    }
+
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, Ordering ordering) {
         this.monitor = monitor;
         this.executor = executor;
+        this.ordering = ordering;
     }
 
     @Override
     public <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
-        syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        syncSubscribers.computeIfAbsent(eventKind, s -> new CopyOnWriteArrayList<>()).add(subscriber);
+        resolvedSyncSubscribers = new ConcurrentHashMap<>();
     }
 
     @Override
     public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
-        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        subscribers.computeIfAbsent(eventKind, s -> new CopyOnWriteArrayList<>()).add(subscriber);
+        resolvedSubscribers = new ConcurrentHashMap<>();
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
-        subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
+        var eventClass = event.getPayload().getClass();
+
+        resolve(eventClass, syncSubscribers, resolvedSyncSubscribers).forEach(subscriber -> subscriber.on(event));
 
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
+        resolve(eventClass, subscribers, resolvedSubscribers).forEach(subscriber -> dispatch(subscriber, event)
+                .whenComplete((v, throwable) -> {
                     if (throwable != null) {
                         var subscriberName = subscriber.getClass().getSimpleName();
                         var eventName = event.getClass().getSimpleName();
@@ -70,18 +90,59 @@ public class EventRouterImpl implements EventRouter {
                 }));
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
-        return subscribers;
+    private <E extends Event> CompletableFuture<Void> dispatch(EventSubscriber subscriber, EventEnvelope<E> event) {
+        var lane = switch (ordering) {
+            case NONE -> null;
+            case SUBSCRIBER -> new Lane(subscriber, null);
+            case ENTITY -> new Lane(subscriber, event.getPayload().entityId());
+        };
+
+        if (lane == null) {
+            return runAsync(() -> subscriber.on(event), executor);
+        }
+
+        // the event becomes the tail of the lane first, then it's chained after the previous tail, whatever its outcome was
+        var future = new CompletableFuture<Void>();
+        var tail = lanes.put(lane, future);
+        var previous = tail == null ? CompletableFuture.<Void>completedFuture(null) : tail.handle((v, throwable) -> (Void) null);
+        previous.thenRunAsync(() -> subscriber.on(event), executor)
+                .whenComplete((v, throwable) -> {
+                    lanes.remove(lane, future);
+                    if (throwable != null) {
+                        future.completeExceptionally(throwable);
+                    } else {
+                        future.complete(null);
+                    }
+                });
+        return future;
+    }
+
+    private List<EventSubscriber> resolve(Class<?> eventClass, Map<Class<?>, List<EventSubscriber>> registered, Map<Class<?>, List<EventSubscriber>> resolved) {
+        return resolved.computeIfAbsent(eventClass, c -> registered.entrySet().stream()
+                .filter(entry -> entry.getKey().isAssignableFrom(c))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList());
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSyncSubscribers() {
-        return syncSubscribers;
+    /**
+     * Defines which events handled by async subscribers are guaranteed to be handled in publishing order.
+     */
+    public enum Ordering {
+        /**
+         * No guarantee, every event is handled as soon as a thread is available. This is the default.
+         */
+        NONE,
+        /**
+         * Every subscriber handles the events in publishing order.
+         */
+        SUBSCRIBER,
+        /**
+         * Every subscriber handles the events of the same entity (see {@link Event#entityId()}) in publishing order,
+         * events without an entity id are ordered per subscriber.
+         */
+        ENTITY
     }
 
-    private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
-        return supplier.get().entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().isAssignableFrom(envelope.getPayload().getClass()))
-                .flatMap(entry -> entry.getValue().stream());
+    private record Lane(EventSubscriber subscriber, String entityId) {
     }
 }
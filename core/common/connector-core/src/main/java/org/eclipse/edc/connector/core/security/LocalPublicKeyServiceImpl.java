@@ -18,42 +18,96 @@ import org.eclipse.edc.spi.iam.LocalPublicKeyService;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.KeyParserRegistry;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.util.collection.ConcurrentCache;
 
 import java.security.PublicKey;
-import java.util.HashMap;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of {@link LocalPublicKeyService} which looks-up for the key by id
  * first in the locally cached keys and as fallback in the vault.
+ * <p>
+ * Keys resolved from the vault are cached, once parsed, for {@code vaultCacheTtl}, so that the vault is not hit on every
+ * lookup. They can be removed from the cache explicitly through {@link #invalidate(String)}, e.g. after a key rotation.
  */
 public class LocalPublicKeyServiceImpl implements LocalPublicKeyService {
+    private static final int DEFAULT_VAULT_CACHE_SIZE = 100;
+    private static final Duration DEFAULT_VAULT_CACHE_TTL = Duration.ofMinutes(5);
+
     private final Vault vault;
 
     private final KeyParserRegistry registry;
 
-    private final Map<String, PublicKey> cachedKeys = new HashMap<>();
+    private final Map<String, PublicKey> cachedKeys = new ConcurrentHashMap<>();
+
+    private final ConcurrentCache<String, PublicKey> vaultKeys;
 
     public LocalPublicKeyServiceImpl(Vault vault, KeyParserRegistry registry) {
+        this(vault, registry, DEFAULT_VAULT_CACHE_SIZE, DEFAULT_VAULT_CACHE_TTL, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param vault          the vault.
+     * @param registry       the key parser registry.
+     * @param vaultCacheSize max number of keys resolved from the vault to be cached, 0 disables the cache.
+     * @param vaultCacheTtl  time to live of the keys resolved from the vault.
+     * @param clock          the clock.
+     */
+    public LocalPublicKeyServiceImpl(Vault vault, KeyParserRegistry registry, int vaultCacheSize, Duration vaultCacheTtl, Clock clock) {
         this.vault = vault;
         this.registry = registry;
+        this.vaultKeys = vaultCacheSize > 0
+                ? ConcurrentCache.Builder.<String, PublicKey>newInstance().maximumWeight(vaultCacheSize).timeToLive(vaultCacheTtl).clock(clock).build()
+                : null;
     }
 
     @Override
     public Result<PublicKey> resolveKey(String id) {
         return resolveFromCache(id)
                 .map(Result::success)
-                .or(() -> resolveFromVault(id).map(this::parseKey))
+                .or(() -> resolveFromVault(id).map(this::parseKey).map(result -> result.onSuccess(pk -> cacheVaultKey(id, pk))))
                 .orElseGet(() -> Result.failure("No public key could be resolved for key-ID '%s'".formatted(id)));
     }
 
+    /**
+     * Removes the key resolved from the vault from the cache, so that it gets resolved again on the next lookup.
+     *
+     * @param id the key id.
+     */
+    public void invalidate(String id) {
+        if (vaultKeys != null) {
+            vaultKeys.invalidate(id);
+        }
+    }
+
+    /**
+     * Removes all the keys resolved from the vault from the cache.
+     */
+    public void invalidateAll() {
+        if (vaultKeys != null) {
+            vaultKeys.invalidateAll();
+        }
+    }
+
+    private void cacheVaultKey(String id, PublicKey publicKey) {
+        if (vaultKeys != null) {
+            vaultKeys.put(id, publicKey);
+        }
+    }
+
     private Optional<String> resolveFromVault(String id) {
         return Optional.ofNullable(vault.resolveSecret(id));
     }
 
     private Optional<PublicKey> resolveFromCache(String id) {
-        return Optional.ofNullable(cachedKeys.get(id));
+        return Optional.ofNullable(cachedKeys.get(id))
+                .or(() -> Optional.ofNullable(vaultKeys).map(cache -> cache.get(id)));
     }
 
     private Result<PublicKey> parseKey(String encodedKey) {
@@ -17,12 +17,8 @@ package org.eclipse.edc.connector.core.store;
 import org.eclipse.edc.spi.query.PropertyLookup;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 
-import java.util.Map;
-import java.util.Objects;
+import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Stream;
-
-import static java.util.Map.entry;
 
 public class AssetPropertyLookup implements PropertyLookup {
 
@@ -30,20 +26,30 @@ public class AssetPropertyLookup implements PropertyLookup {
 
     @Override
     public Object getProperty(String key, Object object) {
-        if (object instanceof Asset asset) {
-            Stream<Map.Entry<String, Function<Asset, Map<String, Object>>>> mappings = Stream.of(
-                    entry("%s", Asset::getProperties),
-                    entry("'%s'", Asset::getProperties),
-                    entry("%s", Asset::getPrivateProperties),
-                    entry("'%s'", Asset::getPrivateProperties));
-
-            return mappings
-                    .map(entry -> fallbackPropertyLookup.getProperty(entry.getKey().formatted(key), entry.getValue().apply(asset)))
-                    .filter(Objects::nonNull)
-                    .findFirst()
-                    .orElseGet(() -> fallbackPropertyLookup.getProperty(key, asset));
-        }
-
-        return null;
+        return compile(key).apply(object);
+    }
+
+    @Override
+    public Function<Object, Object> compile(String key) {
+        var plain = fallbackPropertyLookup.compile(key);
+        var quoted = fallbackPropertyLookup.compile("'%s'".formatted(key));
+        var lookups = List.<Function<Asset, Object>>of(
+                asset -> plain.apply(asset.getProperties()),
+                asset -> quoted.apply(asset.getProperties()),
+                asset -> plain.apply(asset.getPrivateProperties()),
+                asset -> quoted.apply(asset.getPrivateProperties()),
+                plain::apply);
+
+        return object -> {
+            if (object instanceof Asset asset) {
+                for (var lookup : lookups) {
+                    var property = lookup.apply(asset);
+                    if (property != null) {
+                        return property;
+                    }
+                }
+            }
+            return null;
+        };
     }
 }
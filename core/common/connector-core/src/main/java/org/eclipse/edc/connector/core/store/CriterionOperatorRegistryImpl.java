@@ -23,7 +23,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.Predicate;
 
 import static java.lang.String.format;
@@ -74,21 +73,19 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
             throw new IllegalArgumentException(format("Operator [%s] is not supported.", criterion.getOperator()));
         }
 
-        return t -> {
-
-            var operandLeft = (String) criterion.getOperandLeft();
-
-            var property = propertyLookups.stream()
-                    .map(it -> it.getProperty(operandLeft, t))
-                    .filter(Objects::nonNull)
-                    .findFirst()
-                    .orElse(null);
+        // compile once per criterion, the returned predicate is then evaluated for every object
+        var operandLeft = (String) criterion.getOperandLeft();
+        var lookups = propertyLookups.stream().map(it -> it.compile(operandLeft)).toList();
+        var operatorPredicate = predicate.compile(criterion.getOperandRight());
 
-            if (property == null) {
-                return false;
+        return t -> {
+            for (var lookup : lookups) {
+                var property = lookup.apply(t);
+                if (property != null) {
+                    return operatorPredicate.test(property);
+                }
             }
-
-            return predicate.test(property, criterion.getOperandRight());
+            return false;
         };
 
     }
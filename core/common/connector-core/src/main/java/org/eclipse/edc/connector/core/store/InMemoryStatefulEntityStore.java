@@ -28,12 +28,21 @@ import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -44,15 +53,23 @@ import static java.util.stream.Collectors.toList;
 /**
  * An in-memory, threadsafe entity store for a {@link StatefulEntity}. This implementation is intended for testing
  * purposes only.
+ * <p>
+ * Entities are indexed by state, ordered by state timestamp, so that {@link #nextNotLeased(int, Criterion...)} with a
+ * state criterion visits only the entities in that state, oldest first, instead of scanning and sorting the whole
+ * store. Subclasses can register additional hash indexes through {@link #addIndex(String, Function)}.
  */
 public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements StateEntityStore<T> {
     private static final Duration DEFAULT_LEASE_TIME = Duration.ofSeconds(60);
+    private static final String STATE_PROPERTY = "state";
     private final Map<String, T> entitiesById = new ConcurrentHashMap<>();
     private final QueryResolver<T> queryResolver;
     private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
     private final String lockId;
     private final Clock clock;
-    private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Map<Integer, NavigableSet<StateKey>> stateIndex = new HashMap<>();
+    private final Map<String, StateKey> stateKeys = new HashMap<>();
+    private final Map<String, HashIndex<T>> indexes = new HashMap<>();
     protected final CriterionOperatorRegistry criterionOperatorRegistry;
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
@@ -75,12 +92,29 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
         return lockManager.writeLock(() -> {
             var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::toPredicate).reduce(x -> true, Predicate::and);
-            var entities = entitiesById.values().stream()
-                    .filter(filterPredicate)
-                    .filter(e -> !isLeased(e.getId()))
-                    .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
-                    .limit(max)
-                    .toList();
+            var state = Arrays.stream(criteria).map(this::stateOf).filter(Objects::nonNull).findFirst();
+
+            List<T> entities;
+            if (state.isPresent()) {
+                // the state index is already ordered by state timestamp, oldest first
+                entities = new ArrayList<>();
+                for (var key : stateIndex.getOrDefault(state.get(), Collections.emptyNavigableSet())) {
+                    if (entities.size() >= max) {
+                        break;
+                    }
+                    var entity = entitiesById.get(key.id());
+                    if (entity != null && !isLeased(entity.getId()) && filterPredicate.test(entity)) {
+                        entities.add(entity);
+                    }
+                }
+            } else {
+                entities = entitiesById.values().stream()
+                        .filter(filterPredicate)
+                        .filter(e -> !isLeased(e.getId()))
+                        .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
+                        .limit(max)
+                        .toList();
+            }
             entities.forEach(i -> acquireLease(i.getId()));
             return entities.stream().map(StatefulEntity::copy).collect(toList());
         });
@@ -105,16 +139,26 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
 
     @Override
     public void save(T entity) {
-        acquireLease(entity.getId());
-        entitiesById.put(entity.getId(), entity.copy());
-        freeLease(entity.getId());
+        lockManager.writeLock(() -> {
+            acquireLease(entity.getId());
+            var copy = entity.copy();
+            entitiesById.put(entity.getId(), copy);
+            unindex(entity.getId());
+            index(copy);
+            freeLease(entity.getId());
+            return null;
+        });
     }
 
     public void delete(String id) {
-        if (isLeased(id)) {
-            throw new IllegalStateException("Entity is leased and cannot be deleted!");
-        }
-        entitiesById.remove(id);
+        lockManager.writeLock(() -> {
+            if (isLeased(id)) {
+                throw new IllegalStateException("Entity is leased and cannot be deleted!");
+            }
+            entitiesById.remove(id);
+            unindex(id);
+            return null;
+        });
     }
 
     public Stream<T> findAll(QuerySpec querySpec) {
@@ -125,6 +169,37 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
         return entitiesById.values().stream();
     }
 
+    /**
+     * Registers a hash index on a property of the entities, usually in the constructor of the subclass.
+     *
+     * @param name         the index name.
+     * @param keyExtractor extracts the indexed property from an entity, null values are not indexed.
+     */
+    protected void addIndex(String name, Function<T, Object> keyExtractor) {
+        lockManager.writeLock(() -> {
+            var index = new HashIndex<>(keyExtractor);
+            entitiesById.values().forEach(index::add);
+            return indexes.put(name, index);
+        });
+    }
+
+    /**
+     * Returns the entities whose indexed property equals the key, using the index registered with the name.
+     *
+     * @param name the index name.
+     * @param key  the property value.
+     * @return the matching entities.
+     */
+    protected Stream<T> findAllByIndex(String name, Object key) {
+        return lockManager.readLock(() -> {
+            var index = Objects.requireNonNull(indexes.get(name), "index " + name);
+            return index.get(key).stream()
+                    .map(entitiesById::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }).stream();
+    }
+
     public void acquireLease(String id, String lockId, Duration leaseTime) {
         if (!isLeased(id) || isLeasedBy(id, lockId)) {
             leases.put(id, new Lease(lockId, clock.millis(), leaseTime.toMillis()));
@@ -146,7 +221,82 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     private boolean isLeased(String id) {
-        return leases.containsKey(id) && !leases.get(id).isExpired(clock.millis());
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis());
+    }
+
+    private void index(T entity) {
+        var key = new StateKey(entity.getState(), entity.getStateTimestamp(), entity.getId());
+        stateKeys.put(entity.getId(), key);
+        stateIndex.computeIfAbsent(key.state(), s -> new TreeSet<>()).add(key);
+        indexes.values().forEach(index -> index.add(entity));
+    }
+
+    // the indexed keys are looked up by id, because the stored entity could have been modified in the meantime
+    private void unindex(String id) {
+        var key = stateKeys.remove(id);
+        if (key != null) {
+            var keys = stateIndex.get(key.state());
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                stateIndex.remove(key.state());
+            }
+        }
+        indexes.values().forEach(index -> index.remove(id));
+    }
+
+    /**
+     * Returns the state required by the criterion, if it is an equality on the state, null otherwise.
+     */
+    @Nullable
+    private Integer stateOf(Criterion criterion) {
+        if (STATE_PROPERTY.equals(criterion.getOperandLeft()) && "=".equals(criterion.getOperator()) && criterion.getOperandRight() instanceof Integer state) {
+            return state;
+        }
+        return null;
+    }
+
+    private record StateKey(int state, long stateTimestamp, String id) implements Comparable<StateKey> {
+
+        private static final Comparator<StateKey> COMPARATOR = Comparator.comparingLong(StateKey::stateTimestamp).thenComparing(StateKey::id);
+
+        @Override
+        public int compareTo(@NotNull StateKey other) {
+            return COMPARATOR.compare(this, other);
+        }
+    }
+
+    private static class HashIndex<T extends StatefulEntity<T>> {
+        private final Function<T, Object> keyExtractor;
+        private final Map<Object, Set<String>> ids = new HashMap<>();
+        private final Map<String, Object> keys = new HashMap<>();
+
+        HashIndex(Function<T, Object> keyExtractor) {
+            this.keyExtractor = keyExtractor;
+        }
+
+        void add(T entity) {
+            var key = keyExtractor.apply(entity);
+            if (key != null) {
+                keys.put(entity.getId(), key);
+                ids.computeIfAbsent(key, k -> new HashSet<>()).add(entity.getId());
+            }
+        }
+
+        void remove(String id) {
+            var key = keys.remove(id);
+            if (key != null) {
+                var entityIds = ids.get(key);
+                entityIds.remove(id);
+                if (entityIds.isEmpty()) {
+                    ids.remove(key);
+                }
+            }
+        }
+
+        Set<String> get(Object key) {
+            return ids.getOrDefault(key, Set.of());
+        }
     }
 
 }
@@ -15,23 +15,70 @@
 package org.eclipse.edc.connector.core.store;
 
 import org.eclipse.edc.spi.query.OperatorPredicate;
+import org.eclipse.edc.util.collection.ConcurrentCache;
 
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
+/**
+ * Implements the SQL LIKE operator: {@code %} matches any sequence of characters, {@code _} matches a single
+ * character. Simple patterns are evaluated as exact, prefix, suffix or substring matches, every other pattern is
+ * translated into a {@link Pattern} once and cached.
+ */
 public class LikeOperatorPredicate implements OperatorPredicate {
 
+    private static final int CACHE_SIZE = 1000;
+
+    private final ConcurrentCache<String, Predicate<String>> matchers = ConcurrentCache.Builder.<String, Predicate<String>>newInstance()
+            .maximumWeight(CACHE_SIZE)
+            .build();
+
     @Override
     public boolean test(Object property, Object operandRight) {
+        return compile(operandRight).test(property);
+    }
+
+    @Override
+    public Predicate<Object> compile(Object operandRight) {
         if (operandRight instanceof String stringOperand) {
-            var regexPattern = Pattern.quote(stringOperand)
-                    .replace("%", "\\E.*\\Q")
-                    .replace("_", "\\E.\\Q");
+            var matcher = matchers.get(stringOperand, LikeOperatorPredicate::toMatcher);
+            return property -> matcher.test(property.toString());
+        }
 
-            regexPattern = "^" + regexPattern + "$";
+        return property -> false;
+    }
 
-            return Pattern.compile(regexPattern).matcher(property.toString()).matches();
+    private static Predicate<String> toMatcher(String operand) {
+        if (operand.indexOf('_') < 0) {
+            var start = 0;
+            var end = operand.length();
+            while (start < end && operand.charAt(start) == '%') {
+                start++;
+            }
+            while (end > start && operand.charAt(end - 1) == '%') {
+                end--;
+            }
+            var literal = operand.substring(start, end);
+            if (literal.indexOf('%') < 0) {
+                var anyPrefix = start > 0;
+                var anySuffix = end < operand.length();
+                if (anyPrefix && anySuffix) {
+                    return value -> value.contains(literal);
+                } else if (anyPrefix) {
+                    return value -> value.endsWith(literal);
+                } else if (anySuffix) {
+                    return value -> value.startsWith(literal);
+                } else {
+                    return literal::equals;
+                }
+            }
         }
 
-        return false;
+        var regexPattern = Pattern.quote(operand)
+                .replace("%", "\\E.*\\Q")
+                .replace("_", "\\E.\\Q");
+
+        var pattern = Pattern.compile("^" + regexPattern + "$", Pattern.DOTALL);
+        return value -> pattern.matcher(value).matches();
     }
 }
@@ -15,16 +15,27 @@
 package org.eclipse.edc.connector.core.store;
 
 import org.eclipse.edc.spi.query.PropertyLookup;
+import org.eclipse.edc.spi.types.PathItem;
 import org.eclipse.edc.util.reflection.ReflectionException;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 
+import java.util.function.Function;
+
 public class ReflectionPropertyLookup implements PropertyLookup {
     @Override
     public Object getProperty(String key, Object object) {
-        try {
-            return ReflectionUtil.getFieldValue(key, object);
-        } catch (ReflectionException e) {
-            return null;
-        }
+        return compile(key).apply(object);
+    }
+
+    @Override
+    public Function<Object, Object> compile(String key) {
+        var path = PathItem.parse(key);
+        return object -> {
+            try {
+                return ReflectionUtil.getFieldValue(path, object);
+            } catch (ReflectionException e) {
+                return null;
+            }
+        };
     }
 }
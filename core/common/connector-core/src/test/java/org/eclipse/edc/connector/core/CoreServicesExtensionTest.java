@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.core;
 import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -28,8 +29,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.concurrent.Executors;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.connector.core.CoreServicesExtension.EVENT_ORDERING_SETTING;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
 class CoreServicesExtensionTest {
@@ -59,4 +65,15 @@ class CoreServicesExtensionTest {
         PolicyRegistrationTypes.TYPES.forEach(t -> verify(typeManager).registerTypes(t));
     }
 
+    @Test
+    void eventRouter_shouldFail_whenOrderingIsNotValid() {
+        when(context.getSetting(eq(EVENT_ORDERING_SETTING), anyString())).thenReturn("unknown");
+
+        assertThatThrownBy(() -> extension.eventRouter(context))
+                .isInstanceOf(EdcException.class)
+                .hasMessageContaining(EVENT_ORDERING_SETTING)
+                .hasMessageContaining("unknown")
+                .hasMessageContaining("NONE, SUBSCRIBER, ENTITY");
+    }
+
 }
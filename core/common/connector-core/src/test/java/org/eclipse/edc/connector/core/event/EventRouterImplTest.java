@@ -21,15 +21,22 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -149,16 +156,60 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldPublishToSubscribersRegisteredAfterPublishing() {
+        var subscriberA = mock(EventSubscriber.class);
+        var subscriberB = mock(EventSubscriber.class);
+        eventRouter.registerSync(TestEvent.class, subscriberA);
+        eventRouter.publish(EventEnvelope.Builder.newInstance().at(clock.millis()).payload(TestEvent.Builder.newInstance().build()).build());
+
+        eventRouter.registerSync(TestEventBase.class, subscriberB);
+        eventRouter.publish(EventEnvelope.Builder.newInstance().at(clock.millis()).payload(TestEvent.Builder.newInstance().build()).build());
+
+        verify(subscriberA, times(2)).on(any());
+        verify(subscriberB).on(any());
+    }
+
+    @Test
+    void shouldDeliverEventsOfTheSameEntityInOrder() {
+        var router = new EventRouterImpl(monitor, Executors.newFixedThreadPool(4), EventRouterImpl.Ordering.ENTITY);
+        var received = new ConcurrentHashMap<String, List<Long>>();
+        router.register(TestEvent.class, new EventSubscriber() {
+            @Override
+            public <E extends Event> void on(EventEnvelope<E> event) {
+                received.computeIfAbsent(event.getPayload().entityId(), id -> new CopyOnWriteArrayList<>()).add(event.getAt());
+            }
+        });
+
+        var expected = LongStream.range(0, 100).boxed().toList();
+        expected.forEach(sequence -> Stream.of("a", "b").forEach(entityId -> router.publish(EventEnvelope.Builder.newInstance()
+                .at(sequence)
+                .payload(TestEvent.Builder.newInstance().entityId(entityId).build())
+                .build())));
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(received.get("a")).containsExactlyElementsOf(expected);
+            assertThat(received.get("b")).containsExactlyElementsOf(expected);
+        });
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
     private static class TestEvent extends TestEventBase {
 
+        private String entityId;
+
         @Override
         public String name() {
             return "test";
         }
 
+        @Override
+        public String entityId() {
+            return entityId;
+        }
+
         public static class Builder {
 
             private final TestEvent event;
@@ -171,6 +222,11 @@ class EventRouterImplTest {
                 return new TestEvent.Builder();
             }
 
+            public TestEvent.Builder entityId(String entityId) {
+                event.entityId = entityId;
+                return this;
+            }
+
             public TestEvent build() {
                 return event;
             }
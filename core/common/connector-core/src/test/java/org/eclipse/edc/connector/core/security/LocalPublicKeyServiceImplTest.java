@@ -22,9 +22,13 @@ import org.junit.jupiter.api.Test;
 
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -80,4 +84,54 @@ class LocalPublicKeyServiceImplTest {
         assertThat(localPublicKeyService.resolveKey("id")).isFailed();
         verify(vault).resolveSecret("id");
     }
+
+    @Test
+    void resolve_withVault_shouldCacheParsedKey() {
+        when(vault.resolveSecret("id")).thenReturn("value");
+        when(keyParserRegistry.parse("value")).thenReturn(Result.success(mock(PublicKey.class)));
+
+        assertThat(localPublicKeyService.resolveKey("id")).isSucceeded();
+        assertThat(localPublicKeyService.resolveKey("id")).isSucceeded();
+
+        verify(vault, times(1)).resolveSecret("id");
+        verify(keyParserRegistry, times(1)).parse("value");
+    }
+
+    @Test
+    void resolve_withVault_shouldResolveAgain_whenCacheExpired() {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        var service = new LocalPublicKeyServiceImpl(vault, keyParserRegistry, 10, Duration.ofSeconds(60), clock);
+        when(vault.resolveSecret("id")).thenReturn("value");
+        when(keyParserRegistry.parse("value")).thenReturn(Result.success(mock(PublicKey.class)));
+
+        assertThat(service.resolveKey("id")).isSucceeded();
+        when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(60));
+        assertThat(service.resolveKey("id")).isSucceeded();
+
+        verify(vault, times(2)).resolveSecret("id");
+    }
+
+    @Test
+    void resolve_withVault_shouldResolveAgain_whenInvalidated() {
+        when(vault.resolveSecret("id")).thenReturn("value");
+        when(keyParserRegistry.parse("value")).thenReturn(Result.success(mock(PublicKey.class)));
+
+        assertThat(localPublicKeyService.resolveKey("id")).isSucceeded();
+        localPublicKeyService.invalidate("id");
+        assertThat(localPublicKeyService.resolveKey("id")).isSucceeded();
+
+        verify(vault, times(2)).resolveSecret("id");
+    }
+
+    @Test
+    void resolve_withVault_shouldNotCacheFailures() {
+        when(vault.resolveSecret("id")).thenReturn("value");
+        when(keyParserRegistry.parse("value")).thenReturn(Result.failure("failure"));
+
+        assertThat(localPublicKeyService.resolveKey("id")).isFailed();
+        assertThat(localPublicKeyService.resolveKey("id")).isFailed();
+
+        verify(vault, times(2)).resolveSecret("id");
+    }
 }
@@ -23,8 +23,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class CriterionOperatorRegistryImplTest {
@@ -81,6 +81,7 @@ class CriterionOperatorRegistryImplTest {
         @Test
         void shouldConvertUsingTheRegisteredConverter() {
             OperatorPredicate predicate = mock();
+            when(predicate.compile(any())).thenCallRealMethod();
             when(predicate.test(any(), any())).thenReturn(true);
             registry.registerOperatorPredicate("operator", predicate);
             registry.registerPropertyLookup((key, object) -> "propertyValue");
@@ -95,6 +96,7 @@ class CriterionOperatorRegistryImplTest {
         @Test
         void shouldIgnoreOperatorCase() {
             OperatorPredicate predicate = mock();
+            when(predicate.compile(any())).thenCallRealMethod();
             when(predicate.test(any(), any())).thenReturn(true);
             registry.registerOperatorPredicate("OPerATOr", predicate);
             registry.registerPropertyLookup((key, object) -> "propertyValue");
@@ -109,6 +111,7 @@ class CriterionOperatorRegistryImplTest {
         @Test
         void shouldReturnAlwaysFalsePredicate_whenPropertyCannotBeFound() {
             OperatorPredicate predicate = mock();
+            when(predicate.compile(any())).thenCallRealMethod();
             when(predicate.test(any(), any())).thenReturn(true);
             registry.registerOperatorPredicate("operator", predicate);
             registry.registerPropertyLookup((key, object) -> null);
@@ -117,7 +120,22 @@ class CriterionOperatorRegistryImplTest {
             var result = registry.toPredicate(criterion).test("any");
 
             assertThat(result).isFalse();
-            verifyNoInteractions(predicate);
+            verify(predicate, never()).test(any(), any());
+        }
+
+        @Test
+        void shouldCompileOperatorPredicateOnce() {
+            OperatorPredicate predicate = mock();
+            when(predicate.compile(any())).thenReturn(property -> true);
+            registry.registerOperatorPredicate("operator", predicate);
+            registry.registerPropertyLookup((key, object) -> "propertyValue");
+
+            var result = registry.toPredicate(criterion("any", "operator", "operandRight"));
+
+            assertThat(result.test("any")).isTrue();
+            assertThat(result.test("other")).isTrue();
+            verify(predicate).compile("operandRight");
+            verify(predicate, never()).test(any(), any());
         }
     }
 
@@ -129,6 +147,7 @@ class CriterionOperatorRegistryImplTest {
             registry.registerPropertyLookup((key, object) -> "firstOne");
             registry.registerPropertyLookup((key, object) -> "secondOne");
             OperatorPredicate operatorPredicate = mock();
+            when(operatorPredicate.compile(any())).thenCallRealMethod();
             registry.registerOperatorPredicate("=", operatorPredicate);
 
             registry.toPredicate(criterion("any", "=", "value")).test("any");
@@ -141,6 +160,7 @@ class CriterionOperatorRegistryImplTest {
             registry.registerPropertyLookup((key, object) -> "firstOne");
             registry.registerPropertyLookup((key, object) -> null);
             OperatorPredicate operatorPredicate = mock();
+            when(operatorPredicate.compile(any())).thenCallRealMethod();
             registry.registerOperatorPredicate("=", operatorPredicate);
 
             registry.toPredicate(criterion("any", "=", "value")).test("any");
@@ -43,4 +43,36 @@ class LikeOperatorPredicateTest {
         assertThat(predicate.test("invalid", "%test%")).isFalse();
     }
 
+    @Test
+    void shouldHandleExactMatch() {
+        assertThat(predicate.test("test", "test")).isTrue();
+        assertThat(predicate.test("tests", "test")).isFalse();
+    }
+
+    @Test
+    void shouldHandlePercentAndUnderscoreInTheMiddleOfTheString() {
+        assertThat(predicate.test("this is a test", "this%test")).isTrue();
+        assertThat(predicate.test("this is a test", "this is _ test")).isTrue();
+        assertThat(predicate.test("this is the test", "this is _ test")).isFalse();
+    }
+
+    @Test
+    void shouldNotInterpretRegexCharacters() {
+        assertThat(predicate.test("a.b", "a.%")).isTrue();
+        assertThat(predicate.test("axb", "a.%")).isFalse();
+    }
+
+    @Test
+    void compile_shouldReturnReusablePredicate() {
+        var compiled = predicate.compile("%test");
+
+        assertThat(compiled.test("this is a test")).isTrue();
+        assertThat(compiled.test("not tested")).isFalse();
+    }
+
+    @Test
+    void compile_shouldReturnFalse_whenOperandIsNotString() {
+        assertThat(predicate.compile(1).test("1")).isFalse();
+    }
+
 }
@@ -21,6 +21,7 @@ dependencies {
     api(project(":spi:common:policy-engine-spi"))
     api(project(":spi:common:policy-model"))
     implementation(project(":core:common:policy-evaluator"))
+    implementation(project(":core:common:util"))
 
     testImplementation(project(":core:common:junit"))
 }
@@ -27,14 +27,22 @@ import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.policy.model.Prohibition;
 import org.eclipse.edc.policy.model.Rule;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ConcurrentCache;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.edc.spi.result.Result.failure;
@@ -42,22 +50,37 @@ import static org.eclipse.edc.spi.result.Result.success;
 
 /**
  * Default implementation of the policy engine.
+ * <p>
+ * Registered functions and validators are kept in an immutable snapshot, replaced on every registration, so that
+ * evaluations never lock nor see a registration half done. Functions and validators registered for a scope are resolved
+ * into a function table the first time the scope is evaluated, and reused until a new function or validator gets
+ * registered. Optionally, the result of applying the {@link ScopeFilter} to a policy evaluated through
+ * {@link #evaluate(String, String, Policy, PolicyContext)} can be cached as well, keyed by the policy id, by passing a
+ * positive {@code policyCacheSize}: this is only safe when rule bindings are not changed after the runtime has started.
  */
 public class PolicyEngineImpl implements PolicyEngine {
 
     private static final String ALL_SCOPES_DELIMITED = ALL_SCOPES + DELIMITER;
 
-    private final Map<String, List<ConstraintFunctionEntry<Rule>>> constraintFunctions = new TreeMap<>();
-
-    private final List<DynamicConstraintFunctionEntry<Rule>> dynamicConstraintFunctions = new ArrayList<>();
-
-    private final Map<String, List<RuleFunctionEntry<Rule>>> ruleFunctions = new TreeMap<>();
-    private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> preValidators = new HashMap<>();
-    private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> postValidators = new HashMap<>();
+    private final AtomicReference<Registrations> registrations = new AtomicReference<>(Registrations.empty());
+    private final ConcurrentCache<FilteredPolicyKey, Policy> filteredPolicies;
     private final ScopeFilter scopeFilter;
 
     public PolicyEngineImpl(ScopeFilter scopeFilter) {
+        this(scopeFilter, 0);
+    }
+
+    /**
+     * Creates the policy engine.
+     *
+     * @param scopeFilter     the filter used to scope policies before evaluation.
+     * @param policyCacheSize max number of scope-filtered policies to be cached, 0 disables the cache.
+     */
+    public PolicyEngineImpl(ScopeFilter scopeFilter, int policyCacheSize) {
         this.scopeFilter = scopeFilter;
+        this.filteredPolicies = policyCacheSize > 0
+                ? ConcurrentCache.Builder.<FilteredPolicyKey, Policy>newInstance().maximumWeight(policyCacheSize).build()
+                : null;
     }
 
     @Override
@@ -67,10 +90,14 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public Result<Void> evaluate(String scope, Policy policy, PolicyContext context) {
-        var delimitedScope = scope + ".";
+        return evaluate(scope, null, policy, context);
+    }
 
-        var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-        for (var validator : scopedPreValidators) {
+    @Override
+    public Result<Void> evaluate(String scope, @Nullable String policyId, Policy policy, PolicyContext context) {
+        var functions = scopedFunctions(scope);
+
+        for (var validator : functions.preValidators()) {
             if (!validator.apply(policy, context)) {
                 return failValidator("Pre-validator", validator, context);
             }
@@ -78,7 +105,7 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         var evalBuilder = PolicyEvaluator.Builder.newInstance();
 
-        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+        for (var entry : functions.ruleFunctions()) {
             if (Duty.class.isAssignableFrom(entry.type)) {
                 evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
             } else if (Permission.class.isAssignableFrom(entry.type)) {
@@ -86,9 +113,9 @@ public class PolicyEngineImpl implements PolicyEngine {
             } else if (Prohibition.class.isAssignableFrom(entry.type)) {
                 evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
             }
-        });
+        }
 
-        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+        for (var entry : functions.constraintFunctions()) {
             if (Duty.class.isAssignableFrom(entry.type)) {
                 evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
             } else if (Permission.class.isAssignableFrom(entry.type)) {
@@ -96,9 +123,9 @@ public class PolicyEngineImpl implements PolicyEngine {
             } else if (Prohibition.class.isAssignableFrom(entry.type)) {
                 evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
             }
-        });
+        }
 
-        dynamicConstraintFunctions.stream().filter(entry -> scopeFilter(entry.scope, delimitedScope)).forEach(entry -> {
+        for (var entry : functions.dynamicConstraintFunctions()) {
             if (Duty.class.isAssignableFrom(entry.type)) {
                 evalBuilder.dynamicDutyFunction(entry.function::canHandle, (key, operator, value, duty) -> entry.function.evaluate(key, operator, value, duty, context));
             } else if (Permission.class.isAssignableFrom(entry.type)) {
@@ -106,18 +133,17 @@ public class PolicyEngineImpl implements PolicyEngine {
             } else if (Prohibition.class.isAssignableFrom(entry.type)) {
                 evalBuilder.dynamicProhibitionFunction(entry.function::canHandle, (key, operator, value, prohibition) -> entry.function.evaluate(key, operator, value, prohibition, context));
             }
-        });
+        }
 
         var evaluator = evalBuilder.build();
 
-        var filteredPolicy = scopeFilter.applyScope(policy, scope);
+        var filteredPolicy = applyScope(policy, policyId, scope);
 
         var result = evaluator.evaluate(filteredPolicy);
 
         if (result.valid()) {
 
-            var scopedPostValidators = postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-            for (var validator : scopedPostValidators) {
+            for (var validator : functions.postValidators()) {
                 if (!validator.apply(policy, context)) {
                     return failValidator("Post-validator", validator, context);
                 }
@@ -132,35 +158,75 @@ public class PolicyEngineImpl implements PolicyEngine {
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
-        constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        var entry = new ConstraintFunctionEntry(type, key, function);
+        register(registrations -> registrations.withConstraintFunction(scope + DELIMITER, entry));
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, DynamicAtomicConstraintFunction<R> function) {
-        dynamicConstraintFunctions.add(new DynamicConstraintFunctionEntry(type, scope + DELIMITER, function));
+        var entry = new DynamicConstraintFunctionEntry(type, scope + DELIMITER, function);
+        register(registrations -> registrations.withDynamicConstraintFunction(entry));
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
-        ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        var entry = new RuleFunctionEntry(type, function);
+        register(registrations -> registrations.withRuleFunction(scope + DELIMITER, entry));
     }
 
     @Override
     public void registerPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
-        preValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        register(registrations -> registrations.withPreValidator(scope + DELIMITER, validator));
     }
 
     @Override
     public void registerPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
-        postValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        register(registrations -> registrations.withPostValidator(scope + DELIMITER, validator));
     }
 
-    private boolean scopeFilter(String entry, String scope) {
+    private static boolean scopeFilter(String entry, String scope) {
         return ALL_SCOPES_DELIMITED.equals(entry) || scope.startsWith(entry);
     }
 
+    private static <T> Map<String, List<T>> append(Map<String, List<T>> map, String key, T value, Supplier<Map<String, List<T>>> mapFactory) {
+        var copy = mapFactory.get();
+        copy.putAll(map);
+        var values = new ArrayList<>(copy.getOrDefault(key, List.of()));
+        values.add(value);
+        copy.put(key, List.copyOf(values));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private void register(UnaryOperator<Registrations> update) {
+        registrations.updateAndGet(update);
+        if (filteredPolicies != null) {
+            filteredPolicies.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns the function table of the scope, compiled against the current registrations. Concurrent evaluations of
+     * a scope that is not compiled yet could compile it more than once, the first table stored is kept.
+     */
+    private ScopedFunctions scopedFunctions(String scope) {
+        var current = registrations.get();
+        var functions = current.compiledScopes().get(scope);
+        if (functions == null) {
+            var compiled = current.compile(scope);
+            functions = Objects.requireNonNullElse(current.compiledScopes().putIfAbsent(scope, compiled), compiled);
+        }
+        return functions;
+    }
+
+    private Policy applyScope(Policy policy, @Nullable String policyId, String scope) {
+        if (filteredPolicies == null || policyId == null) {
+            return scopeFilter.applyScope(policy, scope);
+        }
+        return filteredPolicies.get(new FilteredPolicyKey(scope, policyId), key -> scopeFilter.applyScope(policy, scope));
+    }
+
     @NotNull
     private Result<Void> failValidator(String type, BiFunction<Policy, PolicyContext, Boolean> validator, PolicyContext context) {
         return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.getClass().getName()));
@@ -200,4 +266,68 @@ public class PolicyEngineImpl implements PolicyEngine {
         }
     }
 
+    private record ScopedFunctions(List<BiFunction<Policy, PolicyContext, Boolean>> preValidators,
+                                   List<BiFunction<Policy, PolicyContext, Boolean>> postValidators,
+                                   List<RuleFunctionEntry<Rule>> ruleFunctions,
+                                   List<ConstraintFunctionEntry<Rule>> constraintFunctions,
+                                   List<DynamicConstraintFunctionEntry<Rule>> dynamicConstraintFunctions) {
+    }
+
+    /**
+     * Immutable snapshot of the registered functions and validators, together with the function tables compiled from
+     * it.
+     */
+    private record Registrations(Map<String, List<ConstraintFunctionEntry<Rule>>> constraintFunctions,
+                                 List<DynamicConstraintFunctionEntry<Rule>> dynamicConstraintFunctions,
+                                 Map<String, List<RuleFunctionEntry<Rule>>> ruleFunctions,
+                                 Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> preValidators,
+                                 Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> postValidators,
+                                 Map<String, ScopedFunctions> compiledScopes) {
+
+        static Registrations empty() {
+            return new Registrations(Map.of(), List.of(), Map.of(), Map.of(), Map.of(), new ConcurrentHashMap<>());
+        }
+
+        Registrations withConstraintFunction(String scope, ConstraintFunctionEntry<Rule> entry) {
+            return new Registrations(append(constraintFunctions, scope, entry, TreeMap::new), dynamicConstraintFunctions, ruleFunctions,
+                    preValidators, postValidators, new ConcurrentHashMap<>());
+        }
+
+        Registrations withDynamicConstraintFunction(DynamicConstraintFunctionEntry<Rule> entry) {
+            var functions = new ArrayList<>(dynamicConstraintFunctions);
+            functions.add(entry);
+            return new Registrations(constraintFunctions, List.copyOf(functions), ruleFunctions,
+                    preValidators, postValidators, new ConcurrentHashMap<>());
+        }
+
+        Registrations withRuleFunction(String scope, RuleFunctionEntry<Rule> entry) {
+            return new Registrations(constraintFunctions, dynamicConstraintFunctions, append(ruleFunctions, scope, entry, TreeMap::new),
+                    preValidators, postValidators, new ConcurrentHashMap<>());
+        }
+
+        Registrations withPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
+            return new Registrations(constraintFunctions, dynamicConstraintFunctions, ruleFunctions,
+                    append(preValidators, scope, validator, HashMap::new), postValidators, new ConcurrentHashMap<>());
+        }
+
+        Registrations withPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
+            return new Registrations(constraintFunctions, dynamicConstraintFunctions, ruleFunctions,
+                    preValidators, append(postValidators, scope, validator, HashMap::new), new ConcurrentHashMap<>());
+        }
+
+        ScopedFunctions compile(String scope) {
+            var delimitedScope = scope + DELIMITER;
+            return new ScopedFunctions(
+                    preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList(),
+                    postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList(),
+                    ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).toList(),
+                    constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).toList(),
+                    dynamicConstraintFunctions.stream().filter(entry -> scopeFilter(entry.scope, delimitedScope)).toList()
+            );
+        }
+    }
+
+    private record FilteredPolicyKey(String scope, String policyId) {
+    }
+
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.policy.engine;
 
+import org.eclipse.edc.policy.engine.spi.AtomicConstraintFunction;
 import org.eclipse.edc.policy.engine.spi.DynamicAtomicConstraintFunction;
 import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
@@ -47,6 +48,8 @@ import static org.junit.jupiter.params.provider.Arguments.of;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -385,6 +388,71 @@ class PolicyEngineImplTest {
         verifyNoInteractions(function);
     }
 
+    @Test
+    void shouldApplyFunctionsRegisteredAfterFirstEvaluation() {
+        bindingRegistry.bind("foo", TEST_SCOPE);
+        var policy = createTestPolicy();
+        var context = PolicyContextImpl.Builder.newInstance().build();
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isSucceeded();
+
+        policyEngine.registerFunction(TEST_SCOPE, Prohibition.class, "foo", (op, rv, prohibition, ctx) -> true);
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, PolicyContextImpl.Builder.newInstance().build())).isFailed();
+    }
+
+    @Test
+    void shouldEvaluateFunctionsOnEveryCall_whenPolicyCacheEnabled() {
+        var engine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry), 10);
+        bindingRegistry.bind("foo", TEST_SCOPE);
+        AtomicConstraintFunction<Prohibition> function = mock(AtomicConstraintFunction.class);
+        when(function.evaluate(any(), any(), any(), any())).thenReturn(false, true);
+        engine.registerFunction(TEST_SCOPE, Prohibition.class, "foo", function);
+        var policy = createTestPolicy();
+
+        assertThat(engine.evaluate(TEST_SCOPE, policy, PolicyContextImpl.Builder.newInstance().build())).isSucceeded();
+        assertThat(engine.evaluate(TEST_SCOPE, createTestPolicy(), PolicyContextImpl.Builder.newInstance().build())).isFailed();
+
+        verify(function, times(2)).evaluate(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldFilterPolicyOnce_whenPolicyCacheEnabledAndSameIdEvaluated() {
+        var scopeFilter = spy(new ScopeFilter(bindingRegistry));
+        var engine = new PolicyEngineImpl(scopeFilter, 10);
+
+        assertThat(engine.evaluate(TEST_SCOPE, "agreement-id", createTestPolicy(), PolicyContextImpl.Builder.newInstance().build())).isSucceeded();
+        assertThat(engine.evaluate(TEST_SCOPE, "agreement-id", createTestPolicy(), PolicyContextImpl.Builder.newInstance().build())).isSucceeded();
+
+        verify(scopeFilter, times(1)).applyScope(any(), eq(TEST_SCOPE));
+    }
+
+    @Test
+    void shouldFilterPolicyOnEveryCall_whenNoIdProvided() {
+        var scopeFilter = spy(new ScopeFilter(bindingRegistry));
+        var engine = new PolicyEngineImpl(scopeFilter, 10);
+        var policy = createTestPolicy();
+
+        assertThat(engine.evaluate(TEST_SCOPE, policy, PolicyContextImpl.Builder.newInstance().build())).isSucceeded();
+        assertThat(engine.evaluate(TEST_SCOPE, policy, PolicyContextImpl.Builder.newInstance().build())).isSucceeded();
+
+        verify(scopeFilter, times(2)).applyScope(any(), eq(TEST_SCOPE));
+    }
+
+    @Test
+    void shouldFilterPolicyAgain_whenFunctionRegisteredAfterCaching() {
+        var scopeFilter = spy(new ScopeFilter(bindingRegistry));
+        var engine = new PolicyEngineImpl(scopeFilter, 10);
+        bindingRegistry.bind("foo", TEST_SCOPE);
+
+        assertThat(engine.evaluate(TEST_SCOPE, "agreement-id", createTestPolicy(), PolicyContextImpl.Builder.newInstance().build())).isSucceeded();
+
+        engine.registerFunction(TEST_SCOPE, Prohibition.class, "foo", (op, rv, prohibition, ctx) -> true);
+
+        assertThat(engine.evaluate(TEST_SCOPE, "agreement-id", createTestPolicy(), PolicyContextImpl.Builder.newInstance().build())).isFailed();
+        verify(scopeFilter, times(2)).applyScope(any(), eq(TEST_SCOPE));
+    }
+
     private Policy createTestPolicy() {
         var left = new LiteralExpression("foo");
         var right = new LiteralExpression("bar");
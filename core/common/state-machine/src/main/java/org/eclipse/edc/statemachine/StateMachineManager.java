@@ -21,11 +21,19 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -33,29 +41,38 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Handles a loop that processes entities continuously.
- * On every iteration it runs all the set processors sequentially,
+ * By default, on every iteration it runs all the set processors sequentially on a single thread,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * <p>
+ * When more than one worker is configured, every processor gets its own loop (or more than one, depending on its
+ * concurrency), that fetches and processes entities independently of the others on a shared pool of worker threads.
+ * This way a slow processor does not stall the others. Concurrent loops on the same processor rely on the store leases
+ * to avoid processing the same entity twice. Every loop gets its own wait strategy from the supplier, so the backoff of
+ * a failing loop does not affect the others.
+ * <p>
+ * The wait applied when no entities are processed can be interrupted by {@link #wakeUp()}, that permits to react
+ * immediately to changes made by other components, leaving the polling as a safety net. Processors registered for a
+ * specific entity state can be woken up selectively through {@link #wakeUp(int)}.
  */
 public class StateMachineManager {
 
-    private final List<Processor> processors = new ArrayList<>();
-    private final ScheduledExecutorService executor;
+    private final List<Registration> registrations = new ArrayList<>();
+    private final List<Lane> lanes = new ArrayList<>();
     private final AtomicBoolean active = new AtomicBoolean();
-    private final WaitStrategy waitStrategy;
+    private final Supplier<WaitStrategy> waitStrategySupplier;
     private final Monitor monitor;
+    private final ExecutorInstrumentation instrumentation;
     private final String name;
+    private ScheduledExecutorService executor;
+    private ThreadFactory threadFactory;
+    private int workers = 1;
     private int shutdownTimeout = 10;
 
-    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
+    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategySupplier) {
         this.name = name;
         this.monitor = monitor;
-        this.waitStrategy = waitStrategy;
-        executor = instrumentation.instrument(
-                Executors.newSingleThreadScheduledExecutor(r -> {
-                    var thread = Executors.defaultThreadFactory().newThread(r);
-                    thread.setName("StateMachineManager-" + name);
-                    return thread;
-                }), name);
+        this.instrumentation = instrumentation;
+        this.waitStrategySupplier = waitStrategySupplier;
     }
 
     /**
@@ -65,7 +82,11 @@ public class StateMachineManager {
      */
     public Future<?> start() {
         active.set(true);
-        return scheduleNextIterationIn(0L);
+        var futures = lanes.stream().map(lane -> lane.scheduleNextIterationIn(0L)).toList();
+        if (futures.size() == 1) {
+            return futures.get(0);
+        }
+        return CompletableFuture.runAsync(() -> futures.forEach(this::awaitQuietly));
     }
 
     /**
@@ -86,6 +107,29 @@ public class StateMachineManager {
         });
     }
 
+    /**
+     * Signals that there could be entities ready to be processed: every loop that is currently waiting because
+     * its last iteration didn't process anything gets executed immediately, every loop that is currently running
+     * won't wait after the current iteration.
+     */
+    public void wakeUp() {
+        if (active.get()) {
+            lanes.forEach(Lane::wakeUp);
+        }
+    }
+
+    /**
+     * Signals that there could be entities in the given state ready to be processed. Works as {@link #wakeUp()}, but
+     * only on the loops that run a processor registered for that state, or a processor registered without a state.
+     *
+     * @param state the entity state code.
+     */
+    public void wakeUp(int state) {
+        if (active.get()) {
+            lanes.stream().filter(lane -> lane.handles(state)).forEach(Lane::wakeUp);
+        }
+    }
+
     /**
      * Tells if the loop is active and running
      *
@@ -95,53 +139,220 @@ public class StateMachineManager {
         return active.get();
     }
 
-    private Runnable loop() {
-        return () -> {
-            if (active.get()) {
-                performLogic();
-            }
+    private void awaitQuietly(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            monitor.severe(format("StateMachineManager [%s] failed to start", name), e);
+        }
+    }
+
+    private void initialize() {
+        if (workers > 1) {
+            registrations.forEach(registration -> IntStream.range(0, registration.concurrency())
+                    .forEach(i -> lanes.add(new Lane(List.of(registration)))));
+        } else {
+            lanes.add(new Lane(registrations));
+        }
+
+        var factory = threadFactory != null ? threadFactory : defaultThreadFactory();
+        executor = instrumentation.instrument(workers > 1
+                ? Executors.newScheduledThreadPool(workers, factory)
+                : Executors.newSingleThreadScheduledExecutor(factory), name);
+    }
+
+    @NotNull
+    private ThreadFactory defaultThreadFactory() {
+        var counter = new AtomicInteger();
+        return r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName(workers > 1 ? "StateMachineManager-" + name + "-" + counter.incrementAndGet() : "StateMachineManager-" + name);
+            return thread;
         };
     }
 
-    private void performLogic() {
-        try {
-            var processed = processors.stream()
-                    .mapToLong(Processor::process)
-                    .sum();
+    private record Registration(Processor processor, int concurrency, Integer state) {
+    }
 
-            waitStrategy.success();
+    /**
+     * A loop that runs a set of processors sequentially, with its own scheduling and wait strategy application.
+     */
+    private class Lane {
 
-            var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+        private final List<Processor> processors;
+        private final Set<Integer> states;
+        private final WaitStrategy waitStrategy;
+        private ScheduledFuture<?> next;
+        private long generation;
+        private boolean idle;
+        private boolean wakeUpRequested;
 
-            scheduleNextIterationIn(delay);
-        } catch (Error e) {
-            active.set(false);
-            monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
-        } catch (Throwable e) {
-            monitor.severe(format("StateMachineManager [%s] error caught", name), e);
-            scheduleNextIterationIn(waitStrategy.retryInMillis());
+        Lane(List<Registration> registrations) {
+            this.processors = registrations.stream().map(Registration::processor).toList();
+            this.states = registrations.stream().allMatch(registration -> registration.state() != null)
+                    ? registrations.stream().map(Registration::state).collect(Collectors.toUnmodifiableSet())
+                    : null;
+            this.waitStrategy = waitStrategySupplier.get();
         }
-    }
 
-    @NotNull
-    private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+        /**
+         * Tells if the lane runs a processor for the given state. A lane running a processor registered without a
+         * state is considered to handle every state.
+         */
+        private boolean handles(int state) {
+            return states == null || states.contains(state);
+        }
+
+        private synchronized void wakeUp() {
+            wakeUpRequested = true;
+            if (idle && next != null && next.cancel(false)) {
+                scheduleNextIterationIn(0L);
+            }
+        }
+
+        private Runnable loop(long iteration) {
+            return () -> {
+                if (isCurrent(iteration) && active.get()) {
+                    performLogic();
+                }
+            };
+        }
+
+        /**
+         * Verifies that the iteration has not been superseded by a wake-up, which could happen when the wake-up
+         * cancels an iteration that has already been started.
+         */
+        private synchronized boolean isCurrent(long iteration) {
+            if (iteration != generation) {
+                return false;
+            }
+            idle = false;
+            wakeUpRequested = false;
+            return true;
+        }
+
+        private void performLogic() {
+            try {
+                var processed = processors.stream()
+                        .mapToLong(Processor::process)
+                        .sum();
+
+                waitStrategy.success();
+
+                scheduleNextIteration(processed);
+            } catch (Error e) {
+                active.set(false);
+                monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
+            } catch (Throwable e) {
+                monitor.severe(format("StateMachineManager [%s] error caught", name), e);
+                scheduleNextIterationIn(waitStrategy.retryInMillis());
+            }
+        }
+
+        /**
+         * Schedules the iteration that follows a completed one. The wake-up check, the idle flag and the scheduling
+         * happen under the lane lock, so a wake-up requested while the iteration was running cannot be lost.
+         */
+        private synchronized void scheduleNextIteration(long processed) {
+            if (processed == 0 && !wakeUpRequested) {
+                scheduleNextIterationIn(waitStrategy.waitForMillis(), true);
+            } else {
+                wakeUpRequested = false;
+                scheduleNextIterationIn(0L);
+            }
+        }
+
+        @NotNull
+        private Future<?> scheduleNextIterationIn(long delayMillis) {
+            return scheduleNextIterationIn(delayMillis, false);
+        }
+
+        @NotNull
+        private synchronized Future<?> scheduleNextIterationIn(long delayMillis, boolean idle) {
+            this.idle = idle;
+            next = executor.schedule(loop(++generation), delayMillis, MILLISECONDS);
+            return next;
+        }
     }
 
     public static class Builder {
 
         private final StateMachineManager loop;
 
-        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
-            loop = new StateMachineManager(name, monitor, instrumentation, waitStrategy);
+        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategySupplier) {
+            loop = new StateMachineManager(name, monitor, instrumentation, waitStrategySupplier);
         }
 
+        /**
+         * Creates a builder whose loops all share the same wait strategy instance. With more than one worker, prefer
+         * {@link #newInstance(String, Monitor, ExecutorInstrumentation, Supplier)} so that every loop gets its own.
+         */
         public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
-            return new Builder(name, monitor, instrumentation, waitStrategy);
+            return new Builder(name, monitor, instrumentation, () -> waitStrategy);
+        }
+
+        /**
+         * Creates a builder that obtains a wait strategy for every loop from the supplier.
+         */
+        public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategySupplier) {
+            return new Builder(name, monitor, instrumentation, waitStrategySupplier);
         }
 
         public Builder processor(Processor processor) {
-            loop.processors.add(processor);
+            return processor(processor, 1);
+        }
+
+        /**
+         * Registers a processor with the number of loops that will run it concurrently. The concurrency is only taken
+         * into account when more than one worker is configured.
+         *
+         * @param processor the processor.
+         * @param concurrency the number of concurrent loops.
+         * @return the builder.
+         */
+        public Builder processor(Processor processor, int concurrency) {
+            return register(processor, concurrency, null);
+        }
+
+        /**
+         * Registers a processor of the entities in a specific state, with the number of loops that will run it
+         * concurrently. Its loops are woken up by {@link StateMachineManager#wakeUp(int)} only for that state.
+         *
+         * @param processor the processor.
+         * @param concurrency the number of concurrent loops.
+         * @param state the code of the state whose entities are processed.
+         * @return the builder.
+         */
+        public Builder processor(Processor processor, int concurrency, int state) {
+            return register(processor, concurrency, state);
+        }
+
+        /**
+         * Number of worker threads. With 1 worker (the default) all the processors run sequentially on the same loop,
+         * with more each processor runs on its own loop(s).
+         *
+         * @param workers the number of worker threads.
+         * @return the builder.
+         */
+        public Builder workers(int workers) {
+            if (workers < 1) {
+                throw new IllegalArgumentException("Workers must be greater than 0, but was " + workers);
+            }
+            loop.workers = workers;
+            return this;
+        }
+
+        /**
+         * The thread factory used to create the worker threads, e.g. a virtual thread factory on runtimes that support
+         * them. By default, platform threads named after the state machine are used.
+         *
+         * @param threadFactory the thread factory.
+         * @return the builder.
+         */
+        public Builder threadFactory(ThreadFactory threadFactory) {
+            loop.threadFactory = threadFactory;
             return this;
         }
 
@@ -151,7 +362,16 @@ public class StateMachineManager {
         }
 
         public StateMachineManager build() {
+            loop.initialize();
             return loop;
         }
+
+        private Builder register(Processor processor, int concurrency, Integer state) {
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("Processor concurrency must be greater than 0, but was " + concurrency);
+            }
+            loop.registrations.add(new Registration(processor, concurrency, state));
+            return this;
+        }
     }
 }
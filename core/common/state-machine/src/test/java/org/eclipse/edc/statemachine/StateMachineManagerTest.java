@@ -21,13 +21,22 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -135,4 +144,148 @@ class StateMachineManagerTest {
             verify(waitStrategy).retryInMillis();
         });
     }
+
+    @Test
+    void shouldNotStallOtherProcessors_whenMultipleWorkers() {
+        var latch = new CountDownLatch(1);
+        var slowProcessor = mock(Processor.class);
+        when(slowProcessor.process()).thenAnswer(i -> {
+            latch.await();
+            return 1L;
+        });
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(1L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(slowProcessor)
+                .processor(processor)
+                .workers(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> verify(processor, atLeast(2)).process());
+        latch.countDown();
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldApplyWaitStrategyPerLoop_whenMultipleWorkers() {
+        var failingWaitStrategy = mock(WaitStrategy.class);
+        when(failingWaitStrategy.retryInMillis()).thenReturn(1L);
+        var succeedingWaitStrategy = mock(WaitStrategy.class);
+        when(succeedingWaitStrategy.waitForMillis()).thenReturn(1L);
+        var waitStrategies = new ArrayDeque<>(List.of(failingWaitStrategy, succeedingWaitStrategy));
+        var failingProcessor = mock(Processor.class);
+        when(failingProcessor.process()).thenThrow(new EdcException("error"));
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategies::pop)
+                .processor(failingProcessor)
+                .processor(processor)
+                .workers(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            verify(failingWaitStrategy, atLeast(2)).retryInMillis();
+            verify(succeedingWaitStrategy, atLeast(2)).success();
+        });
+        stateMachine.stop();
+        verify(failingWaitStrategy, never()).success();
+        verify(succeedingWaitStrategy, never()).retryInMillis();
+    }
+
+    @Test
+    void shouldRunProcessorConcurrently_whenConcurrencyIsSet() {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var processor = mock(Processor.class);
+        when(processor.process()).thenAnswer(i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50L);
+            running.decrementAndGet();
+            return 1L;
+        });
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor, 3)
+                .workers(3)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> assertThat(maxRunning.get()).isEqualTo(3));
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldRejectInvalidConcurrency() {
+        var builder = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy);
+
+        assertThatThrownBy(() -> builder.processor(mock(Processor.class), 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.workers(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRunImmediately_whenWokenUp() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> verify(processor).process());
+
+        stateMachine.wakeUp();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldRunAgainImmediately_whenWokenUpDuringIteration() {
+        var stateMachine = new AtomicReference<StateMachineManager>();
+        var processor = mock(Processor.class);
+        when(processor.process()).thenAnswer(i -> {
+            stateMachine.get().wakeUp();
+            return 0L;
+        }).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        stateMachine.set(StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build());
+
+        stateMachine.get().start();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+        stateMachine.get().stop();
+    }
+
+    @Test
+    void shouldWakeUpOnlyLoopsOfTheState_whenWokenUpForState() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        var otherProcessor = mock(Processor.class);
+        when(otherProcessor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor, 1, 100)
+                .processor(otherProcessor, 1, 200)
+                .workers(2)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> {
+            verify(processor).process();
+            verify(otherProcessor).process();
+        });
+
+        stateMachine.wakeUp(100);
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+        verify(otherProcessor, times(1)).process();
+        stateMachine.stop();
+    }
 }
@@ -15,12 +15,18 @@
 package org.eclipse.edc.token;
 
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.token.spi.TokenDecoratorRegistry;
 import org.eclipse.edc.token.spi.TokenValidationRulesRegistry;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import static org.eclipse.edc.token.TokenServicesExtension.NAME;
 
 /**
@@ -31,14 +37,28 @@ import static org.eclipse.edc.token.TokenServicesExtension.NAME;
 public class TokenServicesExtension implements ServiceExtension {
     public static final String NAME = "Token Services Extension";
 
+    private static final int DEFAULT_VALIDATION_CACHE_SIZE = 1000;
+    private static final long DEFAULT_VALIDATION_CACHE_TTL = 60;
+
+    @Setting(value = "the max number of verified tokens cached by the token validation service, 0 disables the cache. Default value " + DEFAULT_VALIDATION_CACHE_SIZE, type = "int")
+    private static final String VALIDATION_CACHE_SIZE = "edc.token.validation.cache.size";
+
+    @Setting(value = "the max time in seconds a verified token is cached for, it is never cached beyond its expiration. Default value " + DEFAULT_VALIDATION_CACHE_TTL, type = "long")
+    private static final String VALIDATION_CACHE_TTL = "edc.token.validation.cache.ttl";
+
+    @Inject
+    private Clock clock;
+
     @Provider
     public TokenValidationRulesRegistry tokenValidationRulesRegistry() {
         return new TokenValidationRulesRegistryImpl();
     }
 
     @Provider
-    public TokenValidationService validationService() {
-        return new TokenValidationServiceImpl();
+    public TokenValidationService validationService(ServiceExtensionContext context) {
+        var cacheSize = context.getSetting(VALIDATION_CACHE_SIZE, DEFAULT_VALIDATION_CACHE_SIZE);
+        var cacheTtl = Duration.ofSeconds(context.getSetting(VALIDATION_CACHE_TTL, DEFAULT_VALIDATION_CACHE_TTL));
+        return new TokenValidationServiceImpl(clock, cacheSize, cacheTtl);
     }
 
     @Provider
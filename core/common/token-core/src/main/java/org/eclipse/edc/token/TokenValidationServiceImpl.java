@@ -15,6 +15,7 @@
 package org.eclipse.edc.token;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.security.token.jwt.CryptoConverter;
 import org.eclipse.edc.spi.iam.ClaimToken;
@@ -24,16 +25,56 @@ import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationRule;
 import org.eclipse.edc.token.spi.TokenValidationService;
+import org.eclipse.edc.util.collection.ConcurrentCache;
+import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
 import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-
+import java.util.Map;
+
+/**
+ * Default {@link TokenValidationService}, that verifies the signature of a JWT and then checks the validation rules.
+ * <p>
+ * Signature verification can be cached by passing a positive {@code cacheSize}: a successfully verified token is
+ * remembered, keyed by its SHA-256 hash, until its expiration or until {@code cacheTtl} elapsed, whichever comes first.
+ * The public key is still resolved on every validation and the cached verification is used only if it was done with
+ * that very same key, so revoked or rotated keys, or different {@link PublicKeyResolver}s, are honored. The validation
+ * rules always run, because they could depend on the request-specific additional data. Verifiers are cached per
+ * public key as well.
+ */
 public class TokenValidationServiceImpl implements TokenValidationService {
 
-    private final CryptoConverter cryptoConverter;
+    private final Clock clock;
+    private final Duration cacheTtl;
+    private final ConcurrentCache<String, VerifiedToken> verifiedTokens;
+    private final ConcurrentCache<PublicKey, JWSVerifier> verifiers;
 
     public TokenValidationServiceImpl() {
-        cryptoConverter = new CryptoConverter();
+        this(Clock.systemUTC(), 0, Duration.ZERO);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param clock     the clock.
+     * @param cacheSize max number of verified tokens and verifiers to be cached, 0 disables the caches.
+     * @param cacheTtl  max time a verified token is cached for.
+     */
+    public TokenValidationServiceImpl(Clock clock, int cacheSize, Duration cacheTtl) {
+        this.clock = clock;
+        this.cacheTtl = cacheTtl;
+        this.verifiedTokens = cacheSize > 0 ? ConcurrentCache.Builder.<String, VerifiedToken>newInstance().maximumWeight(cacheSize).build() : null;
+        this.verifiers = cacheSize > 0 ? ConcurrentCache.Builder.<PublicKey, JWSVerifier>newInstance().maximumWeight(cacheSize).build() : null;
     }
 
     @Override
@@ -41,25 +82,33 @@ public class TokenValidationServiceImpl implements TokenValidationService {
         var token = tokenRepresentation.getToken();
         var additional = tokenRepresentation.getAdditional();
         try {
-            var signedJwt = SignedJWT.parse(token);
-            var publicKeyId = signedJwt.getHeader().getKeyID();
-
-            var publicKeyResolutionResult = publicKeyResolver.resolveKey(publicKeyId);
-
-            if (publicKeyResolutionResult.failed()) {
-                return publicKeyResolutionResult.mapTo();
+            var tokenHash = verifiedTokens != null && token != null ? hash(token) : null;
+            var verifiedToken = tokenHash != null ? verifiedTokens.get(tokenHash) : null;
+            if (verifiedToken != null && !clock.instant().isBefore(verifiedToken.expiresAt())) {
+                verifiedTokens.invalidate(tokenHash);
+                verifiedToken = null;
             }
 
-            var verifierCreationResult = cryptoConverter.createVerifierFor(publicKeyResolutionResult.getContent());
+            Result<Map<String, Object>> claimsResult;
+            if (verifiedToken != null) {
+                var publicKeyResolutionResult = publicKeyResolver.resolveKey(verifiedToken.publicKeyId());
+                if (publicKeyResolutionResult.failed()) {
+                    return publicKeyResolutionResult.mapTo();
+                }
+
+                claimsResult = publicKeyResolutionResult.getContent().equals(verifiedToken.publicKey())
+                        ? Result.success(verifiedToken.claims())
+                        : verify(token, tokenHash, publicKeyResolver);
+            } else {
+                claimsResult = verify(token, tokenHash, publicKeyResolver);
+            }
 
-            if (!signedJwt.verify(verifierCreationResult)) {
-                return Result.failure("Token verification failed");
+            if (claimsResult.failed()) {
+                return claimsResult.mapTo();
             }
 
             var tokenBuilder = ClaimToken.Builder.newInstance();
-            signedJwt.getJWTClaimsSet().getClaims().entrySet().stream()
-                    .filter(entry -> entry.getValue() != null)
-                    .forEach(entry -> tokenBuilder.claim(entry.getKey(), entry.getValue()));
+            claimsResult.getContent().forEach(tokenBuilder::claim);
 
             var claimToken = tokenBuilder.build();
 
@@ -86,4 +135,53 @@ public class TokenValidationServiceImpl implements TokenValidationService {
         }
     }
 
+    private Result<Map<String, Object>> verify(String token, @Nullable String tokenHash, PublicKeyResolver publicKeyResolver) throws ParseException, JOSEException {
+        var signedJwt = SignedJWT.parse(token);
+        var publicKeyId = signedJwt.getHeader().getKeyID();
+
+        var publicKeyResolutionResult = publicKeyResolver.resolveKey(publicKeyId);
+
+        if (publicKeyResolutionResult.failed()) {
+            return publicKeyResolutionResult.mapTo();
+        }
+
+        var publicKey = publicKeyResolutionResult.getContent();
+        var verifier = verifiers != null
+                ? verifiers.get(publicKey, CryptoConverter::createVerifierFor)
+                : CryptoConverter.createVerifierFor(publicKey);
+
+        if (!signedJwt.verify(verifier)) {
+            return Result.failure("Token verification failed");
+        }
+
+        var claims = new HashMap<String, Object>();
+        var claimsSet = signedJwt.getJWTClaimsSet();
+        claimsSet.getClaims().entrySet().stream()
+                .filter(entry -> entry.getValue() != null)
+                .forEach(entry -> claims.put(entry.getKey(), entry.getValue()));
+
+        var expirationTime = claimsSet.getExpirationTime();
+        if (tokenHash != null && expirationTime != null) {
+            var maxExpiration = clock.instant().plus(cacheTtl);
+            var expiration = expirationTime.toInstant();
+            var expiresAt = expiration.isBefore(maxExpiration) ? expiration : maxExpiration;
+            verifiedTokens.put(tokenHash, new VerifiedToken(publicKeyId, publicKey, Collections.unmodifiableMap(claims), expiresAt));
+        }
+
+        return Result.success(claims);
+    }
+
+    private String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory for every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(String publicKeyId, PublicKey publicKey, Map<String, Object> claims, Instant expiresAt) {
+    }
+
 }
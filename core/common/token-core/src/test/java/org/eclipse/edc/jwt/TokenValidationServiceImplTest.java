@@ -34,6 +34,8 @@ import org.junit.jupiter.api.Test;
 
 import java.security.PrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
@@ -43,6 +45,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -121,6 +125,50 @@ class TokenValidationServiceImplTest {
         assertThat(result.getFailureMessages()).containsExactlyInAnyOrder("test-failure1", "test-failure2");
     }
 
+    @Test
+    void validationSuccess_withCache_shouldRunRulesOnEveryValidation() throws JOSEException {
+        var cachingService = new TokenValidationServiceImpl(Clock.systemUTC(), 10, Duration.ofMinutes(1));
+        var token = createJwt(publicKeyId, createClaims(now.plusSeconds(300)), key.toPrivateKey());
+        var ruleMock = mock(TokenValidationRule.class);
+        when(ruleMock.checkRule(any(), any())).thenReturn(Result.success(), Result.failure("Rule validation failed!"));
+
+        var first = cachingService.validate(token, publicKeyResolver, ruleMock);
+        var second = cachingService.validate(token, publicKeyResolver, ruleMock);
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.failed()).isTrue();
+        assertThat(second.getFailureMessages()).containsExactly("Rule validation failed!");
+        verify(ruleMock, times(2)).checkRule(any(), any());
+    }
+
+    @Test
+    void validationFailure_withCache_whenPublicKeyChanged() throws JOSEException {
+        var cachingService = new TokenValidationServiceImpl(Clock.systemUTC(), 10, Duration.ofMinutes(1));
+        var token = createJwt(publicKeyId, createClaims(now.plusSeconds(300)), key.toPrivateKey());
+
+        var first = cachingService.validate(token, publicKeyResolver);
+        when(publicKeyResolver.resolveKey(eq(publicKeyId))).thenReturn(Result.success(testKey().toRSAPublicKey()));
+        var second = cachingService.validate(token, publicKeyResolver);
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.failed()).isTrue();
+        assertThat(second.getFailureMessages()).containsExactly("Token verification failed");
+    }
+
+    @Test
+    void validationFailure_withCache_whenPublicKeyCannotBeResolvedAnymore() throws JOSEException {
+        var cachingService = new TokenValidationServiceImpl(Clock.systemUTC(), 10, Duration.ofMinutes(1));
+        var token = createJwt(publicKeyId, createClaims(now.plusSeconds(300)), key.toPrivateKey());
+
+        var first = cachingService.validate(token, publicKeyResolver);
+        when(publicKeyResolver.resolveKey(eq(publicKeyId))).thenReturn(Result.failure("revoked"));
+        var second = cachingService.validate(token, publicKeyResolver);
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.failed()).isTrue();
+        assertThat(second.getFailureMessages()).containsExactly("revoked");
+    }
+
     private String createJwt(String publicKeyId, JWTClaimsSet claimsSet, PrivateKey pk) {
         var header = new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(publicKeyId).build();
         try {
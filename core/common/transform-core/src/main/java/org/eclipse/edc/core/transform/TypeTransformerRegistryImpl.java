@@ -20,30 +20,46 @@ import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.lang.String.format;
 
+/**
+ * Default implementation of the {@link TypeTransformerRegistry}.
+ * <p>
+ * The transformer that handles a given input class and output type is resolved by scanning the registered transformers
+ * in registration order, then it's indexed by the pair (input class, output type) so following lookups don't need to
+ * scan the transformers again. The index is cleared every time a new transformer gets registered.
+ */
 public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     private final Map<String, Class<?>> aliases = new HashMap<>();
-    private final List<TypeTransformer<?, ?>> transformers = new ArrayList<>();
+    private final List<TypeTransformer<?, ?>> transformers = new CopyOnWriteArrayList<>();
+    private final Map<TransformerKey, TypeTransformer<?, ?>> index = new ConcurrentHashMap<>();
 
     @Override
     public void register(TypeTransformer<?, ?> transformer) {
         this.transformers.add(transformer);
+        this.index.clear();
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-        return transformers.stream()
-                .filter(t -> t.getInputType().isInstance(input) && t.getOutputType().equals(outputType))
-                .findAny()
-                .map(it -> (TypeTransformer<INPUT, OUTPUT>) it)
-                .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
+        var key = new TransformerKey(input.getClass(), outputType);
+        var transformer = index.get(key);
+        if (transformer == null) {
+            transformer = transformers.stream()
+                    .filter(t -> t.getInputType().isAssignableFrom(key.inputType()) && t.getOutputType().equals(outputType))
+                    .findFirst()
+                    .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
+            index.put(key, transformer);
+        }
+        return (TypeTransformer<INPUT, OUTPUT>) transformer;
     }
 
     @Override
@@ -75,4 +91,7 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     public void registerTypeAlias(String alias, Class<?> type) {
         aliases.put(alias, type);
     }
+
+    private record TransformerKey(Class<?> inputType, Class<?> outputType) {
+    }
 }
@@ -16,12 +16,15 @@ package org.eclipse.edc.core.transform;
 
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class TypeTransformerRegistryImplTest {
 
@@ -48,6 +51,30 @@ public class TypeTransformerRegistryImplTest {
         assertThatThrownBy(() -> registry.transformerFor(notString, Float.class)).isInstanceOf(EdcException.class);
     }
 
+    @Test
+    void transformerFor_shouldReturnFirstRegisteredTransformer_whenMoreThanOneCanHandleTheInput() {
+        var registry = new TypeTransformerRegistryImpl();
+        TypeTransformer<CharSequence, Integer> charSequenceTransformer = transformer(CharSequence.class, Integer.class);
+        TypeTransformer<String, Integer> stringTransformer = transformer(String.class, Integer.class);
+        registry.register(charSequenceTransformer);
+        registry.register(stringTransformer);
+
+        assertThat(registry.transformerFor("a string", Integer.class)).isSameAs(charSequenceTransformer);
+        assertThat(registry.transformerFor("another string", Integer.class)).isSameAs(charSequenceTransformer);
+        assertThat(registry.transformerFor(new StringBuilder(), Integer.class)).isSameAs(charSequenceTransformer);
+    }
+
+    @Test
+    void transformerFor_shouldConsiderTransformerRegisteredAfterLookup() {
+        var registry = new TypeTransformerRegistryImpl();
+        assertThatThrownBy(() -> registry.transformerFor("a string", Long.class)).isInstanceOf(EdcException.class);
+
+        TypeTransformer<String, Long> stringTransformer = transformer(String.class, Long.class);
+        registry.register(stringTransformer);
+
+        assertThat(registry.transformerFor("a string", Long.class)).isSameAs(stringTransformer);
+    }
+
     @Test
     void transform_shouldSucceed_whenInputAndOutputTypesAreHandledByRegisteredTransformer() {
         var result = registry.transform("5", Integer.class);
@@ -90,4 +117,12 @@ public class TypeTransformerRegistryImplTest {
         assertThat(registry.typeAlias("test-alias", Integer.class)).isEqualTo(String.class);
     }
 
+    @SuppressWarnings("unchecked")
+    private <I, O> TypeTransformer<I, O> transformer(Class<I> inputType, Class<O> outputType) {
+        TypeTransformer<I, O> transformer = mock(TypeTransformer.class);
+        when(transformer.getInputType()).thenReturn(inputType);
+        when(transformer.getOutputType()).thenReturn(outputType);
+        return transformer;
+    }
+
 }
@@ -0,0 +1,435 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A thread-safe, size bounded cache with optional per-entry expiration.
+ * <p>
+ * Entries are spread over a number of segments, each one of them being an access-ordered map guarded by its own
+ * lock, so concurrent lookups of different keys contend only when they hit the same segment. When the total weight
+ * of a segment exceeds its share of the {@code maximumWeight} its least recently used entries are evicted, so the
+ * cache as a whole approximates an LRU. Small caches use a single segment, which gives an exact LRU.
+ * <p>
+ * Additional features, all disabled by default:
+ * <ul>
+ *     <li>time to live: entries expire after the given time since they were written</li>
+ *     <li>negative caching: {@code null} values returned by the loader are cached for the given time</li>
+ *     <li>refresh ahead: once an entry is older than the given time, the next {@link #get(Object, Function)} reloads
+ *     it while concurrent callers keep getting the current value. If the reload throws, the current value is kept</li>
+ *     <li>weigher: weighs every entry, by default every entry weighs 1 and {@code maximumWeight} is the max number
+ *     of entries</li>
+ * </ul>
+ * A loader returns {@code null} when there is no value for the key, and throws when the value could not be loaded:
+ * failures are never cached, not even as negative entries. Loaders run without holding any lock, and every segment
+ * keeps a generation that is increased by {@link #put}, {@link #invalidate} and {@link #invalidateAll}: a loaded value
+ * is cached only if the generation of its segment has not changed meanwhile, so a value loaded before an invalidation
+ * is never put back after it.
+ * <p>
+ * Hit, miss and eviction counters are exposed through {@link #statistics()}.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ */
+public class ConcurrentCache<K, V> {
+
+    private static final int MIN_SEGMENT_WEIGHT = 16;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private Segment<K, V>[] segments;
+    private int segmentMask;
+    private long maximumWeight = 1000;
+    private int concurrencyLevel = 16;
+    private ToLongBiFunction<? super K, ? super V> weigher = (k, v) -> 1;
+    private Duration timeToLive;
+    private Duration negativeTimeToLive;
+    private Duration refreshAfter;
+    private Clock clock = Clock.systemUTC();
+
+    private ConcurrentCache() {
+    }
+
+    /**
+     * Returns the value cached for the key, null if it's not cached, expired or if a negative entry is cached.
+     *
+     * @param key the key.
+     * @return the value, null if not cached.
+     */
+    @Nullable
+    public V get(K key) {
+        var entry = lookup(key, clock.instant());
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Returns the value cached for the key, loading and caching it if it's not cached or expired. The loader is called
+     * without holding any lock, so concurrent callers could load the same key more than once.
+     *
+     * @param key    the key.
+     * @param loader the function that loads the value, it returns null if there's no value and throws if the value
+     *               could not be loaded.
+     * @return the value, null if the loader returned null.
+     * @throws RuntimeException the exception thrown by the loader, unless a cached value is being refreshed.
+     */
+    @Nullable
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        var now = clock.instant();
+        var entry = lookup(key, now);
+        if (entry == null) {
+            return load(key, loader);
+        }
+
+        if (entry.refreshAt != null && !now.isBefore(entry.refreshAt) && entry.refreshing.compareAndSet(false, true)) {
+            try {
+                return load(key, loader);
+            } catch (RuntimeException e) {
+                entry.refreshing.set(false);
+                return entry.value;
+            }
+        }
+
+        return entry.value;
+    }
+
+    /**
+     * Caches a value for the key, replacing the existing one, if any.
+     *
+     * @param key   the key.
+     * @param value the value.
+     */
+    public void put(K key, V value) {
+        Objects.requireNonNull(value, "value");
+        store(key, value);
+    }
+
+    /**
+     * Removes the entry for the key, if any.
+     *
+     * @param key the key.
+     */
+    public void invalidate(K key) {
+        segmentFor(key).remove(key);
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void invalidateAll() {
+        for (var segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Returns the number of entries, including the expired ones that have not been removed yet.
+     *
+     * @return the number of entries.
+     */
+    public long size() {
+        var size = 0L;
+        for (var segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the cache statistics.
+     *
+     * @return the statistics.
+     */
+    public Statistics statistics() {
+        var weight = 0L;
+        for (var segment : segments) {
+            weight += segment.weight();
+        }
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum(), size(), weight);
+    }
+
+    @Nullable
+    private Entry<V> lookup(K key, Instant now) {
+        var segment = segmentFor(key);
+        var entry = segment.get(key);
+        if (entry != null && entry.expiresAt != null && !now.isBefore(entry.expiresAt)) {
+            segment.remove(key, entry);
+            entry = null;
+        }
+
+        if (entry == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return entry;
+    }
+
+    private V load(K key, Function<? super K, ? extends V> loader) {
+        var segment = segmentFor(key);
+        var generation = segment.generation();
+        var value = loader.apply(key);
+        if (value != null || negativeTimeToLive != null) {
+            var evicted = segment.putIfCurrent(key, createEntry(key, value), generation);
+            if (evicted > 0) {
+                evictions.add(evicted);
+            }
+        } else {
+            segment.removeIfCurrent(key, generation);
+        }
+        return value;
+    }
+
+    private void store(K key, V value) {
+        var evicted = segmentFor(key).put(key, createEntry(key, value));
+        if (evicted > 0) {
+            evictions.add(evicted);
+        }
+    }
+
+    private Entry<V> createEntry(K key, @Nullable V value) {
+        var now = clock.instant();
+        var ttl = value != null ? timeToLive : negativeTimeToLive;
+        var expiresAt = ttl != null ? now.plus(ttl) : null;
+        var refreshAt = value != null && refreshAfter != null ? now.plus(refreshAfter) : null;
+        var weight = value != null ? weigher.applyAsLong(key, value) : 1;
+        return new Entry<>(value, expiresAt, refreshAt, weight);
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+        var hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    /**
+     * Cache statistics.
+     *
+     * @param hits      number of lookups that found a valid entry, negative ones included.
+     * @param misses    number of lookups that found no valid entry.
+     * @param evictions number of entries evicted to keep the cache under its maximum weight.
+     * @param size      number of entries.
+     * @param weight    total weight of the entries.
+     */
+    public record Statistics(long hits, long misses, long evictions, long size, long weight) {
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final Instant expiresAt;
+        private final Instant refreshAt;
+        private final long weight;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(V value, Instant expiresAt, Instant refreshAt, long weight) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Segment<K, V> {
+        private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final long maximumWeight;
+        private long weight;
+        private long generation;
+
+        Segment(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+
+        synchronized Entry<V> get(K key) {
+            return entries.get(key);
+        }
+
+        synchronized long generation() {
+            return generation;
+        }
+
+        /**
+         * Puts the entry and evicts the least recently used ones until the segment fits its maximum weight.
+         *
+         * @return the number of evicted entries.
+         */
+        synchronized int put(K key, Entry<V> entry) {
+            generation++;
+            return insert(key, entry);
+        }
+
+        /**
+         * Puts the entry only if the segment has not been modified since the given generation was read.
+         *
+         * @return the number of evicted entries.
+         */
+        synchronized int putIfCurrent(K key, Entry<V> entry, long expectedGeneration) {
+            if (generation != expectedGeneration) {
+                return 0;
+            }
+            return insert(key, entry);
+        }
+
+        private int insert(K key, Entry<V> entry) {
+            var previous = entries.put(key, entry);
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += entry.weight;
+
+            var evicted = 0;
+            var iterator = entries.values().iterator();
+            while (weight > maximumWeight && iterator.hasNext()) {
+                weight -= iterator.next().weight;
+                iterator.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        synchronized void remove(Object key) {
+            generation++;
+            delete(key);
+        }
+
+        synchronized void removeIfCurrent(Object key, long expectedGeneration) {
+            if (generation == expectedGeneration) {
+                delete(key);
+            }
+        }
+
+        private void delete(Object key) {
+            var removed = entries.remove(key);
+            if (removed != null) {
+                weight -= removed.weight;
+            }
+        }
+
+        synchronized void remove(Object key, Entry<V> entry) {
+            if (entries.remove(key, entry)) {
+                weight -= entry.weight;
+            }
+        }
+
+        synchronized void clear() {
+            generation++;
+            entries.clear();
+            weight = 0;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized long weight() {
+            return weight;
+        }
+    }
+
+    public static class Builder<K, V> {
+        private final ConcurrentCache<K, V> cache;
+
+        private Builder() {
+            cache = new ConcurrentCache<>();
+        }
+
+        public static <K, V> Builder<K, V> newInstance() {
+            return new Builder<>();
+        }
+
+        /**
+         * The max total weight of the entries, with the default weigher this is the max number of entries. It must be
+         * positive: callers that want no caching should not create the cache at all.
+         */
+        public Builder<K, V> maximumWeight(long maximumWeight) {
+            cache.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        /**
+         * The function that weighs every entry.
+         */
+        public Builder<K, V> weigher(ToLongBiFunction<? super K, ? super V> weigher) {
+            cache.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * The expected number of concurrently accessing threads, used as upper bound of the number of segments.
+         */
+        public Builder<K, V> concurrencyLevel(int concurrencyLevel) {
+            cache.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        /**
+         * The time after which an entry expires since it was written.
+         */
+        public Builder<K, V> timeToLive(Duration timeToLive) {
+            cache.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * The time after which a negative entry expires, when null values returned by the loader are not cached.
+         */
+        public Builder<K, V> negativeTimeToLive(Duration negativeTimeToLive) {
+            cache.negativeTimeToLive = negativeTimeToLive;
+            return this;
+        }
+
+        /**
+         * The time after which an entry gets reloaded by the next {@link ConcurrentCache#get(Object, Function)}.
+         */
+        public Builder<K, V> refreshAfter(Duration refreshAfter) {
+            cache.refreshAfter = refreshAfter;
+            return this;
+        }
+
+        public Builder<K, V> clock(Clock clock) {
+            cache.clock = clock;
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public ConcurrentCache<K, V> build() {
+            Objects.requireNonNull(cache.clock, "clock");
+            Objects.requireNonNull(cache.weigher, "weigher");
+            if (cache.maximumWeight <= 0) {
+                throw new IllegalArgumentException("maximumWeight must be positive");
+            }
+
+            var maxSegments = Math.max(1, Math.min(cache.concurrencyLevel, cache.maximumWeight / MIN_SEGMENT_WEIGHT));
+            var segmentCount = Integer.highestOneBit((int) Math.min(maxSegments, 1 << 16));
+            var segmentWeight = (cache.maximumWeight + segmentCount - 1) / segmentCount;
+
+            cache.segments = new Segment[segmentCount];
+            for (var i = 0; i < segmentCount; i++) {
+                cache.segments[i] = new Segment<>(segmentWeight);
+            }
+            cache.segmentMask = segmentCount - 1;
+            return cache;
+        }
+    }
+}
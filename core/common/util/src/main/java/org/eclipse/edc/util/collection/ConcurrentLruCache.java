@@ -27,7 +27,9 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  *
  * @param <K> the type of keys maintained by this cache
  * @param <V> the type of mapped values
+ * @deprecated please use {@link ConcurrentCache}, that supports expiration and scales better under contention.
  */
+@Deprecated(since = "0.5.2")
 public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     private final int capacity;
@@ -74,11 +76,12 @@ public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
 
     @Override
     public V get(Object key) {
-        lock.readLock().lock();
+        // access order is updated on get, so the map is modified
+        lock.writeLock().lock();
         try {
             return super.get(key);
         } finally {
-            lock.readLock().unlock();
+            lock.writeLock().unlock();
         }
     }
 
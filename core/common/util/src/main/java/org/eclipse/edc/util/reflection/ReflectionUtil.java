@@ -16,21 +16,43 @@ package org.eclipse.edc.util.reflection;
 
 import org.eclipse.edc.spi.types.PathItem;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 public class ReflectionUtil {
 
     private static final String ARRAY_INDEXER_REGEX = ".*\\[([0-9])+\\]";
+    private static final Pattern ARRAY_INDEXER_PATTERN = Pattern.compile(ARRAY_INDEXER_REGEX);
     private static final String OPENING_BRACKET = "[";
     private static final String CLOSING_BRACKET = "]";
+    /**
+     * Fields of every class by name, the first declared in the class hierarchy (starting from the topmost superclass) wins.
+     */
+    private static final ClassValue<Map<String, Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected Map<String, Field> computeValue(Class<?> type) {
+            var fields = new HashMap<String, Field>();
+            getAllFieldsRecursive(type).forEach(field -> fields.putIfAbsent(field.getName(), field));
+            return Collections.unmodifiableMap(fields);
+        }
+    };
+    /**
+     * Getters compiled once per field.
+     */
+    private static final Map<Field, MethodHandle> GETTERS = new ConcurrentHashMap<>();
 
     /**
      * Utility function to get value of a field from an object. For field names currently the dot notation and array
@@ -53,7 +75,16 @@ public class ReflectionUtil {
         return getFieldValue(path, object);
     }
 
-    private static <T> T getFieldValue(List<PathItem> path, Object object) {
+    /**
+     * Same as {@link #getFieldValue(String, Object)}, but with an already parsed path, useful when the same property
+     * has to be read from many objects.
+     *
+     * @param path   The parsed property path, see {@link PathItem#parse(String)}
+     * @param object The object
+     * @return The field's value.
+     * @throws ReflectionException if the field does not exist or is not accessible
+     */
+    public static <T> T getFieldValue(List<PathItem> path, Object object) {
         var first = path.get(0);
 
         if (path.size() > 1) {
@@ -63,7 +94,7 @@ public class ReflectionUtil {
             }
             var rest = path.stream().skip(1).toList();
             return getFieldValue(rest, nested);
-        } else if (first.toString().matches(ARRAY_INDEXER_REGEX)) { //array indexer
+        } else if (ARRAY_INDEXER_PATTERN.matcher(first.toString()).matches()) { //array indexer
             var openingBracketIx = first.toString().indexOf(OPENING_BRACKET);
             var closingBracketIx = first.toString().indexOf(CLOSING_BRACKET);
             var propName = first.toString().substring(0, openingBracketIx);
@@ -90,7 +121,10 @@ public class ReflectionUtil {
      * @return A field with the given name, null if the field does not exist
      */
     public static Field getFieldRecursive(Class<?> clazz, String fieldName) {
-        return getAllFieldsRecursive(clazz).stream().filter(f -> f.getName().equals(fieldName)).findFirst().orElse(null);
+        if (clazz == null) {
+            return null;
+        }
+        return FIELDS.get(clazz).get(fieldName);
     }
 
     /**
@@ -115,9 +149,23 @@ public class ReflectionUtil {
         if (field == null) {
             throw new ReflectionException(propertyName);
         }
+        try {
+            return (T) GETTERS.computeIfAbsent(field, ReflectionUtil::getter).invoke(object);
+        } catch (ReflectionException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    private static MethodHandle getter(Field field) {
         field.setAccessible(true);
         try {
-            return (T) field.get(object);
+            var getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                return MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return getter;
         } catch (IllegalAccessException e) {
             throw new ReflectionException(e);
         }
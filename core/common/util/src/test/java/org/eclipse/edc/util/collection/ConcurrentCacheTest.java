@@ -0,0 +1,229 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrentCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private final Clock clock = mock();
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        var cache = ConcurrentCache.Builder.<String, String>newInstance().maximumWeight(2).build();
+
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+        cache.get("foo");
+        cache.put("baz", "baz");
+
+        assertThat(cache.get("foo")).isEqualTo("foo");
+        assertThat(cache.get("baz")).isEqualTo("baz");
+        assertThat(cache.get("bar")).isNull();
+        assertThat(cache.statistics().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictByWeight() {
+        var cache = ConcurrentCache.Builder.<String, String>newInstance()
+                .maximumWeight(10)
+                .weigher((k, v) -> v.length())
+                .build();
+
+        cache.put("a", "12345");
+        cache.put("b", "12345");
+        cache.put("c", "1");
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.statistics().weight()).isEqualTo(6);
+    }
+
+    @Test
+    void build_shouldFail_whenMaximumWeightIsNotPositive() {
+        var builder = ConcurrentCache.Builder.<String, String>newInstance().maximumWeight(0);
+
+        assertThatThrownBy(builder::build).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldExpireEntries() {
+        when(clock.instant()).thenReturn(NOW);
+        var cache = ConcurrentCache.Builder.<String, String>newInstance()
+                .timeToLive(Duration.ofSeconds(10))
+                .clock(clock)
+                .build();
+
+        cache.put("foo", "foo");
+        assertThat(cache.get("foo")).isEqualTo("foo");
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(10));
+        assertThat(cache.get("foo")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_shouldLoadOnce_whenCached() {
+        Function<String, String> loader = mock();
+        when(loader.apply(any())).thenReturn("value");
+        var cache = ConcurrentCache.Builder.<String, String>newInstance().build();
+
+        assertThat(cache.get("key", loader)).isEqualTo("value");
+        assertThat(cache.get("key", loader)).isEqualTo("value");
+
+        verify(loader, times(1)).apply("key");
+        assertThat(cache.statistics().hits()).isEqualTo(1);
+        assertThat(cache.statistics().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldNotCacheNull_whenNegativeCachingDisabled() {
+        Function<String, String> loader = mock();
+        var cache = ConcurrentCache.Builder.<String, String>newInstance().build();
+
+        assertThat(cache.get("key", loader)).isNull();
+        assertThat(cache.get("key", loader)).isNull();
+
+        verify(loader, times(2)).apply("key");
+    }
+
+    @Test
+    void get_shouldCacheNull_whenNegativeCachingEnabled() {
+        when(clock.instant()).thenReturn(NOW);
+        Function<String, String> loader = mock();
+        var cache = ConcurrentCache.Builder.<String, String>newInstance()
+                .negativeTimeToLive(Duration.ofSeconds(5))
+                .clock(clock)
+                .build();
+
+        assertThat(cache.get("key", loader)).isNull();
+        assertThat(cache.get("key", loader)).isNull();
+        verify(loader, times(1)).apply("key");
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(5));
+        cache.get("key", loader);
+        verify(loader, times(2)).apply("key");
+    }
+
+    @Test
+    void get_shouldNotCacheFailure_whenNegativeCachingEnabled() {
+        Function<String, String> loader = mock();
+        when(loader.apply("key")).thenThrow(new IllegalStateException("failure")).thenReturn("value");
+        var cache = ConcurrentCache.Builder.<String, String>newInstance()
+                .negativeTimeToLive(Duration.ofSeconds(5))
+                .build();
+
+        assertThatThrownBy(() -> cache.get("key", loader)).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get("key", loader)).isEqualTo("value");
+
+        verify(loader, times(2)).apply("key");
+    }
+
+    @Test
+    void get_shouldNotCacheLoadedValue_whenInvalidatedDuringLoad() {
+        var cache = ConcurrentCache.Builder.<String, String>newInstance().build();
+
+        var value = cache.get("key", k -> {
+            cache.invalidate(k);
+            return "stale";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(cache.get("key")).isNull();
+    }
+
+    @Test
+    void get_shouldNotCacheLoadedValue_whenAllInvalidatedDuringRefresh() {
+        when(clock.instant()).thenReturn(NOW);
+        var cache = ConcurrentCache.Builder.<String, String>newInstance()
+                .refreshAfter(Duration.ofSeconds(30))
+                .clock(clock)
+                .build();
+        cache.get("key", k -> "value");
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(30));
+        cache.get("key", k -> {
+            cache.invalidateAll();
+            return "stale";
+        });
+
+        assertThat(cache.get("key")).isNull();
+    }
+
+    @Test
+    void get_shouldRefreshAhead() {
+        when(clock.instant()).thenReturn(NOW);
+        var counter = new AtomicInteger();
+        Function<String, String> loader = k -> "value" + counter.incrementAndGet();
+        var cache = ConcurrentCache.Builder.<String, String>newInstance()
+                .timeToLive(Duration.ofSeconds(60))
+                .refreshAfter(Duration.ofSeconds(30))
+                .clock(clock)
+                .build();
+
+        assertThat(cache.get("key", loader)).isEqualTo("value1");
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(29));
+        assertThat(cache.get("key", loader)).isEqualTo("value1");
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(30));
+        assertThat(cache.get("key", loader)).isEqualTo("value2");
+    }
+
+    @Test
+    void get_shouldKeepValue_whenRefreshFails() {
+        when(clock.instant()).thenReturn(NOW);
+        Function<String, String> loader = mock();
+        when(loader.apply(any())).thenReturn("value").thenThrow(new RuntimeException("error"));
+        var cache = ConcurrentCache.Builder.<String, String>newInstance()
+                .refreshAfter(Duration.ofSeconds(30))
+                .clock(clock)
+                .build();
+
+        cache.get("key", loader);
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(30));
+        assertThat(cache.get("key", loader)).isEqualTo("value");
+    }
+
+    @Test
+    void invalidate() {
+        var cache = ConcurrentCache.Builder.<String, String>newInstance().build();
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+
+        cache.invalidate("foo");
+        assertThat(cache.get("foo")).isNull();
+        assertThat(cache.get("bar")).isEqualTo("bar");
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.statistics().weight()).isZero();
+    }
+}
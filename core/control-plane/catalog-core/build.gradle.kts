@@ -20,6 +20,7 @@ dependencies {
     api(project(":spi:common:catalog-spi"))
     api(project(":spi:control-plane:contract-spi"))
     api(project(":spi:control-plane:transfer-spi"))
+    api(project(":spi:common:transaction-spi"))
 
     testImplementation(project(":core:common:junit"))
     testImplementation(project(":core:control-plane:control-plane-core"))
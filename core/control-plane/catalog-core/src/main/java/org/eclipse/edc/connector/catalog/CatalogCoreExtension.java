@@ -24,6 +24,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 
 @Extension(CatalogCoreExtension.NAME)
 public class CatalogCoreExtension implements ServiceExtension {
@@ -45,6 +46,9 @@ public class CatalogCoreExtension implements ServiceExtension {
     @Inject
     private CriterionOperatorRegistry criterionOperatorRegistry;
 
+    @Inject
+    private TransactionContext transactionContext;
+
     @Override
     public String name() {
         return NAME;
@@ -53,6 +57,6 @@ public class CatalogCoreExtension implements ServiceExtension {
     @Provider
     public DatasetResolver datasetResolver() {
         return new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
-                distributionResolver, criterionOperatorRegistry);
+                distributionResolver, criterionOperatorRegistry, transactionContext);
     }
 }
@@ -21,17 +21,23 @@ import org.eclipse.edc.connector.contract.spi.ContractOfferId;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.policy.model.PolicyType;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.lang.Integer.MAX_VALUE;
@@ -43,39 +49,126 @@ public class DatasetResolverImpl implements DatasetResolver {
     private final PolicyDefinitionStore policyDefinitionStore;
     private final DistributionResolver distributionResolver;
     private final CriterionOperatorRegistry criterionOperatorRegistry;
+    private final TransactionContext transactionContext;
 
     public DatasetResolverImpl(ContractDefinitionResolver contractDefinitionResolver, AssetIndex assetIndex,
                                PolicyDefinitionStore policyDefinitionStore, DistributionResolver distributionResolver,
-                               CriterionOperatorRegistry criterionOperatorRegistry) {
+                               CriterionOperatorRegistry criterionOperatorRegistry, TransactionContext transactionContext) {
         this.contractDefinitionResolver = contractDefinitionResolver;
         this.assetIndex = assetIndex;
         this.policyDefinitionStore = policyDefinitionStore;
         this.distributionResolver = distributionResolver;
         this.criterionOperatorRegistry = criterionOperatorRegistry;
+        this.transactionContext = transactionContext;
     }
 
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
-        return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset))
-                .filter(Dataset::hasOffers)
-                .skip(querySpec.getOffset())
-                .limit(querySpec.getLimit());
+        return query(resolveOffers(agent), querySpec, assetIndex::queryAssets);
+    }
+
+    @Override
+    @NotNull
+    public Stream<Dataset> queryInPages(ParticipantAgent agent, QuerySpec querySpec, int pageSize) {
+        return query(resolveOffers(agent), querySpec, assetsQuery -> queryAssetsInPages(assetsQuery, pageSize));
     }
 
     @Override
     public Dataset getById(ParticipantAgent agent, String id) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
+        var offers = resolveOffers(agent);
         return Optional.of(id)
                 .map(assetIndex::findById)
-                .map(asset -> toDataset(contractDefinitions, asset))
+                .map(asset -> toDataset(offers, asset, offer -> offer.selector().test(asset)))
                 .orElse(null);
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset) {
+    private Stream<Dataset> query(List<ResolvedOffer> offers, QuerySpec querySpec, Function<QuerySpec, Stream<Asset>> queryAssets) {
+        if (offers.isEmpty()) {
+            return Stream.empty();
+        }
+
+        var selectors = offers.stream().map(offer -> offer.definition().getAssetsSelector()).distinct().toList();
+        if (selectors.size() == 1) {
+            // every definition selects the same assets: selector and paging can be pushed down to the index
+            var assetsQuery = QuerySpec.Builder.newInstance()
+                    .offset(querySpec.getOffset())
+                    .limit(querySpec.getLimit())
+                    .filter(querySpec.getFilterExpression())
+                    .filter(selectors.get(0))
+                    .sortField(querySpec.getSortField())
+                    .sortOrder(querySpec.getSortOrder())
+                    .build();
+            return queryAssets.apply(assetsQuery)
+                    .map(asset -> toDataset(offers, asset, offer -> true));
+        }
+
+        var assetsQuery = QuerySpec.Builder.newInstance()
+                .offset(0)
+                .limit(MAX_VALUE)
+                .filter(querySpec.getFilterExpression())
+                .sortField(querySpec.getSortField())
+                .sortOrder(querySpec.getSortOrder())
+                .build();
+        return queryAssets.apply(assetsQuery)
+                .map(asset -> toDataset(offers, asset, offer -> offer.selector().test(asset)))
+                .filter(Dataset::hasOffers)
+                .skip(querySpec.getOffset())
+                .limit(querySpec.getLimit());
+    }
+
+    /**
+     * Fetches the assets selected by the query lazily, one page at a time, each page in its own transaction.
+     */
+    private Stream<Asset> queryAssetsInPages(QuerySpec assetsQuery, int pageSize) {
+        var end = (long) assetsQuery.getOffset() + assetsQuery.getLimit();
+        return LongStream.iterate(assetsQuery.getOffset(), offset -> offset < end, offset -> offset + pageSize)
+                .mapToObj(offset -> queryAssetsPage(assetsQuery, (int) offset, (int) Math.min(pageSize, end - offset)))
+                .takeWhile(page -> !page.isEmpty())
+                .flatMap(List::stream);
+    }
+
+    private List<Asset> queryAssetsPage(QuerySpec assetsQuery, int offset, int limit) {
+        var pageQuery = QuerySpec.Builder.newInstance()
+                .offset(offset)
+                .limit(limit)
+                .filter(assetsQuery.getFilterExpression())
+                .sortField(assetsQuery.getSortField())
+                .sortOrder(assetsQuery.getSortOrder())
+                .build();
+
+        return transactionContext.execute(() -> {
+            try (var assets = assetIndex.queryAssets(pageQuery)) {
+                return assets.toList();
+            }
+        });
+    }
+
+    /**
+     * Resolves the contract definitions available to the agent together with their offer policy and compiled assets
+     * selector. Definitions whose contract policy cannot be found are discarded.
+     */
+    private List<ResolvedOffer> resolveOffers(ParticipantAgent agent) {
+        var policies = new HashMap<String, Optional<Policy>>();
+        return contractDefinitionResolver.definitionsFor(agent)
+                .map(definition -> policies.computeIfAbsent(definition.getContractPolicyId(), this::findOfferPolicy)
+                        .map(policy -> new ResolvedOffer(definition, compile(definition.getAssetsSelector()), policy)))
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private Optional<Policy> findOfferPolicy(String policyId) {
+        return Optional.ofNullable(policyDefinitionStore.findById(policyId))
+                .map(policyDefinition -> policyDefinition.getPolicy().toBuilder().type(PolicyType.OFFER).build());
+    }
+
+    private Predicate<Asset> compile(List<Criterion> assetsSelector) {
+        return assetsSelector.stream()
+                .<Predicate<Asset>>map(criterionOperatorRegistry::toPredicate)
+                .reduce(x -> true, Predicate::and);
+    }
+
+    private Dataset toDataset(List<ResolvedOffer> offers, Asset asset, Predicate<ResolvedOffer> applies) {
 
         var distributions = distributionResolver.getDistributions(asset);
         var datasetBuilder = Dataset.Builder.newInstance()
@@ -83,22 +176,17 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .distributions(distributions)
                 .properties(asset.getProperties());
 
-        contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionOperatorRegistry::toPredicate)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
-                .forEach(contractDefinition -> {
-                    var policyDefinition = policyDefinitionStore.findById(contractDefinition.getContractPolicyId());
-                    if (policyDefinition != null) {
-                        var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
-                        var offerPolicy = policyDefinition.getPolicy().toBuilder().type(PolicyType.OFFER).build();
-                        datasetBuilder.offer(contractId.toString(), offerPolicy);
-                    }
+        offers.stream()
+                .filter(applies)
+                .forEach(offer -> {
+                    var contractId = ContractOfferId.create(offer.definition().getId(), asset.getId());
+                    datasetBuilder.offer(contractId.toString(), offer.policy());
                 });
 
         return datasetBuilder.build();
     }
 
+    private record ResolvedOffer(ContractDefinition definition, Predicate<Asset> selector, Policy policy) {
+    }
+
 }
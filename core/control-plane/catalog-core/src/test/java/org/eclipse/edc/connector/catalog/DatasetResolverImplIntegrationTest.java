@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.catalog;
 
+import org.eclipse.edc.catalog.spi.Dataset;
 import org.eclipse.edc.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
@@ -30,6 +31,7 @@ import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,7 +54,9 @@ import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -66,7 +70,7 @@ class DatasetResolverImplIntegrationTest {
     private final AssetIndex assetIndex = new InMemoryAssetIndex(criterionOperatorRegistry);
 
     private final DatasetResolver resolver = new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyStore,
-            mock(), criterionOperatorRegistry);
+            mock(), criterionOperatorRegistry, new NoopTransactionContext());
 
     @BeforeEach
     void setUp() {
@@ -159,6 +163,29 @@ class DatasetResolverImplIntegrationTest {
         assertThat(datasets).isEmpty();
     }
 
+    @Test
+    void queryInPages_shouldReturnSameDatasetsAsQuery_resolvingOffersOnce() {
+        var assets1 = range(10, 24).mapToObj(i -> createAsset("asset" + i).build()).toList();
+        var assets2 = range(24, 113).mapToObj(i -> createAsset("asset" + i).build()).toList();
+
+        assets1.forEach(assetIndex::create);
+        assets2.forEach(assetIndex::create);
+
+        var def1 = getContractDefBuilder("def1").assetsSelector(selectorFrom(assets1)).build();
+        var def2 = getContractDefBuilder("def2").assetsSelector(selectorFrom(assets2)).build();
+
+        when(contractDefinitionResolver.definitionsFor(isA(ParticipantAgent.class))).thenAnswer(i -> Stream.of(def1, def2));
+
+        var querySpec = QuerySpec.Builder.newInstance().range(new Range(5, 60)).build();
+
+        var expected = resolver.query(createAgent(), querySpec).map(Dataset::getId).toList();
+        clearInvocations(contractDefinitionResolver);
+        var datasets = resolver.queryInPages(createAgent(), querySpec, 7);
+
+        assertThat(datasets).extracting(Dataset::getId).containsExactlyElementsOf(expected).hasSize(55);
+        verify(contractDefinitionResolver).definitionsFor(any());
+    }
+
     @NotNull
     private ParticipantAgent createAgent() {
         return new ParticipantAgent(emptyMap(), emptyMap());
@@ -34,6 +34,7 @@ import org.eclipse.edc.spi.message.Range;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -53,7 +54,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class DatasetResolverImplTest {
@@ -68,7 +71,7 @@ class DatasetResolverImplTest {
     @BeforeEach
     void setUp() {
         datasetResolver = new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyStore, distributionResolver,
-                CriterionOperatorRegistryImpl.ofDefaults());
+                CriterionOperatorRegistryImpl.ofDefaults(), new NoopTransactionContext());
     }
 
     @Test
@@ -163,7 +166,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> paged(assets, i.getArgument(0)));
         when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 5)).build();
 
@@ -178,7 +181,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> paged(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(7, 15)).build();
 
@@ -193,7 +196,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 20).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> paged(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 14)).build();
 
@@ -208,7 +211,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> paged(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 8)).build();
 
@@ -219,6 +222,33 @@ class DatasetResolverImplTest {
                 .map(getId()).containsExactly("6", "7");
     }
 
+    @Test
+    void query_shouldPushSelectorAndPagingDown_whenDefinitionsShareSelector() {
+        var selector = List.of(new Criterion(EDC_NAMESPACE + "key", "=", "value"));
+        var contractDefinitions = range(0, 2).mapToObj(it -> contractDefinitionBuilder(String.valueOf(it)).assetsSelector(selector).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("assetId").build()));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 8)).build();
+
+        var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
+
+        assertThat(datasets).hasSize(1).first().satisfies(dataset -> assertThat(dataset.getOffers()).hasSize(2));
+        verify(assetIndex).queryAssets(argThat(q -> q.getOffset() == 6 && q.getLimit() == 2 && q.getFilterExpression().containsAll(selector)));
+        verify(policyStore, times(1)).findById("contract");
+    }
+
+    @Test
+    void query_shouldNotQueryAssets_whenNoDefinitionHasPolicy() {
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinitionBuilder("definitionId").build()));
+        when(policyStore.findById(any())).thenReturn(null);
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).isEmpty();
+        verifyNoInteractions(assetIndex);
+    }
+
     @Test
     void getById_shouldReturnDataset() {
         var policy1 = Policy.Builder.newInstance().inheritsFrom("inherits1").build();
@@ -262,6 +292,10 @@ class DatasetResolverImplTest {
         assertThat(dataset).isNull();
     }
 
+    private Stream<Asset> paged(List<Asset> assets, QuerySpec querySpec) {
+        return assets.stream().skip(querySpec.getOffset()).limit(querySpec.getLimit());
+    }
+
     private ContractDefinition.Builder contractDefinitionBuilder(String id) {
         return ContractDefinition.Builder.newInstance()
                 .id(id)
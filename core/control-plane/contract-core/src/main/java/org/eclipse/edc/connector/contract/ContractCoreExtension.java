@@ -46,6 +46,7 @@ import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -55,12 +56,14 @@ import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.contract.spi.validation.ContractValidationService.TRANSFER_SCOPE;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS;
 import static org.eclipse.edc.connector.core.policy.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
 
@@ -80,9 +83,15 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the consumer negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.consumer.state-machine.batch-size";
 
+    @Setting(value = "the number of worker threads in the consumer negotiation state machine. With more than one, every state is processed concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String NEGOTIATION_CONSUMER_STATE_MACHINE_WORKERS = "edc.negotiation.consumer.state-machine.workers";
+
     @Setting(value = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
 
+    @Setting(value = "the number of worker threads in the provider negotiation state machine. With more than one, every state is processed concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_WORKERS = "edc.negotiation.provider.state-machine.workers";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the consumer negotiation with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
 
@@ -187,13 +196,15 @@ public class ContractCoreExtension implements ServiceExtension {
         policyEngine.registerFunction(TRANSFER_SCOPE, Permission.class, CONTRACT_EXPIRY_EVALUATION_KEY, function);
 
         var iterationWaitMillis = context.getSetting(NEGOTIATION_STATE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = context.hasService(NegotiationWaitStrategy.class) ? context.getService(NegotiationWaitStrategy.class) : new ExponentialWaitStrategy(iterationWaitMillis);
+        Supplier<WaitStrategy> waitStrategySupplier = context.hasService(NegotiationWaitStrategy.class)
+                ? () -> context.getService(NegotiationWaitStrategy.class)
+                : () -> new ExponentialWaitStrategy(iterationWaitMillis);
 
         observable.registerListener(new ContractNegotiationEventListener(eventRouter, clock));
 
         consumerNegotiationManager = ConsumerContractNegotiationManagerImpl.Builder.newInstance()
                 .participantId(participantId)
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategySupplier)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .observable(observable)
@@ -203,6 +214,7 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS))
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
@@ -210,7 +222,7 @@ public class ContractCoreExtension implements ServiceExtension {
 
         providerNegotiationManager = ProviderContractNegotiationManagerImpl.Builder.newInstance()
                 .participantId(participantId)
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategySupplier)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .observable(observable)
@@ -220,6 +232,7 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS))
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
@@ -30,6 +30,7 @@ import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
@@ -41,6 +42,11 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
 
     public static final String NAME = "Contract Negotiation Default Services";
 
+    private static final int DEFAULT_POLICY_ARCHIVE_CACHE_SIZE = 1000;
+
+    @Setting(value = "the max number of contract agreement policies cached by the policy archive, 0 disables the cache. Default value " + DEFAULT_POLICY_ARCHIVE_CACHE_SIZE, type = "int")
+    private static final String POLICY_ARCHIVE_CACHE_SIZE = "edc.policy.archive.cache.size";
+
     @Inject
     private ContractDefinitionStore contractDefinitionStore;
 
@@ -69,8 +75,9 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
     }
 
     @Provider
-    public PolicyArchive policyArchive() {
-        return new PolicyArchiveImpl(store);
+    public PolicyArchive policyArchive(ServiceExtensionContext context) {
+        var cacheSize = context.getSetting(POLICY_ARCHIVE_CACHE_SIZE, DEFAULT_POLICY_ARCHIVE_CACHE_SIZE);
+        return new PolicyArchiveImpl(store, cacheSize);
     }
 
     @Provider(isDefault = true)
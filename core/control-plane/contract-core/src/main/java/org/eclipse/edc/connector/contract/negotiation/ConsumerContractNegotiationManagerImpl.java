@@ -52,12 +52,12 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processNegotiationsInState(INITIAL, this::processInitial))
-                .processor(processNegotiationsInState(REQUESTING, this::processRequesting))
-                .processor(processNegotiationsInState(ACCEPTING, this::processAccepting))
-                .processor(processNegotiationsInState(AGREED, this::processAgreed))
-                .processor(processNegotiationsInState(VERIFYING, this::processVerifying))
-                .processor(processNegotiationsInState(TERMINATING, this::processTerminating));
+                .processor(processNegotiationsInState(INITIAL, this::processInitial), concurrencyFor(INITIAL.code()), INITIAL.code())
+                .processor(processNegotiationsInState(REQUESTING, this::processRequesting), concurrencyFor(REQUESTING.code()), REQUESTING.code())
+                .processor(processNegotiationsInState(ACCEPTING, this::processAccepting), concurrencyFor(ACCEPTING.code()), ACCEPTING.code())
+                .processor(processNegotiationsInState(AGREED, this::processAgreed), concurrencyFor(AGREED.code()), AGREED.code())
+                .processor(processNegotiationsInState(VERIFYING, this::processVerifying), concurrencyFor(VERIFYING.code()), VERIFYING.code())
+                .processor(processNegotiationsInState(TERMINATING, this::processTerminating), concurrencyFor(TERMINATING.code()), TERMINATING.code());
     }
 
     /**
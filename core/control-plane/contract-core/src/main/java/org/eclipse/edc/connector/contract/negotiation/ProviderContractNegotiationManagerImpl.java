@@ -52,13 +52,13 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processNegotiationsInState(OFFERING, this::processOffering))
-                .processor(processNegotiationsInState(REQUESTED, this::processRequested))
-                .processor(processNegotiationsInState(ACCEPTED, this::processAccepted))
-                .processor(processNegotiationsInState(AGREEING, this::processAgreeing))
-                .processor(processNegotiationsInState(VERIFIED, this::processVerified))
-                .processor(processNegotiationsInState(FINALIZING, this::processFinalizing))
-                .processor(processNegotiationsInState(TERMINATING, this::processTerminating));
+                .processor(processNegotiationsInState(OFFERING, this::processOffering), concurrencyFor(OFFERING.code()), OFFERING.code())
+                .processor(processNegotiationsInState(REQUESTED, this::processRequested), concurrencyFor(REQUESTED.code()), REQUESTED.code())
+                .processor(processNegotiationsInState(ACCEPTED, this::processAccepted), concurrencyFor(ACCEPTED.code()), ACCEPTED.code())
+                .processor(processNegotiationsInState(AGREEING, this::processAgreeing), concurrencyFor(AGREEING.code()), AGREEING.code())
+                .processor(processNegotiationsInState(VERIFIED, this::processVerified), concurrencyFor(VERIFIED.code()), VERIFIED.code())
+                .processor(processNegotiationsInState(FINALIZING, this::processFinalizing), concurrencyFor(FINALIZING.code()), FINALIZING.code())
+                .processor(processNegotiationsInState(TERMINATING, this::processTerminating), concurrencyFor(TERMINATING.code()), TERMINATING.code());
     }
 
     @Override
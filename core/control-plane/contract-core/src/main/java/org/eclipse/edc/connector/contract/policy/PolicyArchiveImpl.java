@@ -18,20 +18,54 @@ import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiat
 import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.types.domain.agreement.ContractAgreement;
+import org.eclipse.edc.util.collection.ConcurrentCache;
 
 import java.util.Optional;
 
+/**
+ * {@link PolicyArchive} backed by the contract agreements held in the {@link ContractNegotiationStore}.
+ * <p>
+ * Contract agreements are immutable and cannot be deleted once stored, so the resolved agreement policies can be cached
+ * by passing a positive {@code cacheSize}: the least recently used entries are evicted when the cache is full. Only
+ * found agreements are cached, a missing agreement is looked up again on every call, because it could be stored later
+ * by another instance of the cluster.
+ */
 public class PolicyArchiveImpl implements PolicyArchive {
     private final ContractNegotiationStore contractNegotiationStore;
+    private final ConcurrentCache<String, Policy> policies;
 
     public PolicyArchiveImpl(ContractNegotiationStore contractNegotiationStore) {
+        this(contractNegotiationStore, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param contractNegotiationStore the contract negotiation store.
+     * @param cacheSize                max number of agreement policies to be cached, 0 disables the cache.
+     */
+    public PolicyArchiveImpl(ContractNegotiationStore contractNegotiationStore, int cacheSize) {
         this.contractNegotiationStore = contractNegotiationStore;
+        this.policies = cacheSize > 0
+                ? ConcurrentCache.Builder.<String, Policy>newInstance().maximumWeight(cacheSize).build()
+                : null;
     }
 
     @Override
     public Policy findPolicyForContract(String contractId) {
-        return Optional.ofNullable(contractId)
-                .map(contractNegotiationStore::findContractAgreement)
+        if (contractId == null) {
+            return null;
+        }
+
+        if (policies == null) {
+            return findAgreementPolicy(contractId);
+        }
+
+        return policies.get(contractId, this::findAgreementPolicy);
+    }
+
+    private Policy findAgreementPolicy(String contractId) {
+        return Optional.ofNullable(contractNegotiationStore.findContractAgreement(contractId))
                 .map(this::mapAgreementPolicy)
                 .orElse(null);
     }
@@ -82,7 +82,7 @@ public class ContractValidationServiceImpl implements ContractValidationService
                 .additional(ContractAgreement.class, agreement)
                 .additional(Instant.class, Instant.now())
                 .build();
-        var policyResult = policyEngine.evaluate(TRANSFER_SCOPE, agreement.getPolicy(), policyContext);
+        var policyResult = policyEngine.evaluate(TRANSFER_SCOPE, agreement.getId(), agreement.getPolicy(), policyContext);
         if (!policyResult.succeeded()) {
             return failure(format("Policy does not fulfill the agreement %s, policy evaluation %s", agreement.getId(), policyResult.getFailureDetail()));
         }
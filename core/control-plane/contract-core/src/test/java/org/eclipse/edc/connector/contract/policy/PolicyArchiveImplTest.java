@@ -20,7 +20,10 @@ import org.eclipse.edc.spi.types.domain.agreement.ContractAgreement;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PolicyArchiveImplTest {
@@ -66,6 +69,44 @@ class PolicyArchiveImplTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    void shouldCacheAgreementPolicy_whenCacheEnabled() {
+        var cachingPolicyArchive = new PolicyArchiveImpl(contractNegotiationStore, 10);
+        var contractAgreement = createContractAgreement(Policy.Builder.newInstance().build());
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(contractAgreement);
+
+        var first = cachingPolicyArchive.findPolicyForContract("contractId");
+        var second = cachingPolicyArchive.findPolicyForContract("contractId");
+
+        assertThat(second).isNotNull().isSameAs(first);
+        verify(contractNegotiationStore, times(1)).findContractAgreement("contractId");
+    }
+
+    @Test
+    void shouldNotCacheMissingAgreement() {
+        var cachingPolicyArchive = new PolicyArchiveImpl(contractNegotiationStore, 10);
+        var contractAgreement = createContractAgreement(Policy.Builder.newInstance().build());
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(null, contractAgreement);
+
+        assertThat(cachingPolicyArchive.findPolicyForContract("contractId")).isNull();
+        assertThat(cachingPolicyArchive.findPolicyForContract("contractId")).isNotNull();
+        verify(contractNegotiationStore, times(2)).findContractAgreement("contractId");
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedPolicy_whenCacheIsFull() {
+        var cachingPolicyArchive = new PolicyArchiveImpl(contractNegotiationStore, 1);
+        var contractAgreement = createContractAgreement(Policy.Builder.newInstance().build());
+        when(contractNegotiationStore.findContractAgreement(any())).thenReturn(contractAgreement);
+
+        cachingPolicyArchive.findPolicyForContract("contract1");
+        cachingPolicyArchive.findPolicyForContract("contract2");
+        cachingPolicyArchive.findPolicyForContract("contract1");
+
+        verify(contractNegotiationStore, times(2)).findContractAgreement("contract1");
+        verify(contractNegotiationStore, times(1)).findContractAgreement("contract2");
+    }
+
     private ContractAgreement createContractAgreement(Policy policyId) {
         return ContractAgreement.Builder.newInstance()
                 .id("any")
@@ -176,7 +176,7 @@ class ContractValidationServiceImplTest {
         var participantAgent = new ParticipantAgent(emptyMap(), Map.of(PARTICIPANT_IDENTITY, CONSUMER_ID));
         var captor = ArgumentCaptor.forClass(PolicyContext.class);
 
-        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        when(policyEngine.evaluate(any(), any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
 
         var agreement = createContractAgreement()
                 .contractSigningDate(now.getEpochSecond())
@@ -187,7 +187,7 @@ class ContractValidationServiceImplTest {
 
         assertThat(isValid.succeeded()).isTrue();
 
-        verify(policyEngine).evaluate(eq(TRANSFER_SCOPE), eq(newPolicy), captor.capture());
+        verify(policyEngine).evaluate(eq(TRANSFER_SCOPE), eq(agreement.getId()), eq(newPolicy), captor.capture());
 
         var context = captor.getValue();
         assertThat(context.getContextData(ContractAgreement.class)).isNotNull().isInstanceOf(ContractAgreement.class);
@@ -375,7 +375,7 @@ class ContractValidationServiceImplTest {
     @Test
     void validateAgreement_failWhenOutsideInForcePeriod_fixed() {
         var participantAgent = new ParticipantAgent(emptyMap(), Map.of(PARTICIPANT_IDENTITY, CONSUMER_ID));
-        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.failure("test-failure"));
+        when(policyEngine.evaluate(any(), any(), any(), isA(PolicyContext.class))).thenReturn(Result.failure("test-failure"));
 
         var agreement = createContractAgreement()
                 .id(ContractOfferId.create("1", "2").toString())
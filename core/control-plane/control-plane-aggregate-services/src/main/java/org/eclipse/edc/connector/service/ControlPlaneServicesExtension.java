@@ -19,6 +19,7 @@ import org.eclipse.edc.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.asset.spi.observe.AssetObservableImpl;
 import org.eclipse.edc.connector.contract.spi.definition.observe.ContractDefinitionObservableImpl;
 import org.eclipse.edc.connector.contract.spi.negotiation.ConsumerContractNegotiationManager;
+import org.eclipse.edc.connector.contract.spi.negotiation.ProviderContractNegotiationManager;
 import org.eclipse.edc.connector.contract.spi.negotiation.observe.ContractNegotiationObservable;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.contract.spi.offer.ConsumerOfferResolver;
@@ -102,6 +103,9 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     @Inject
     private ConsumerContractNegotiationManager consumerContractNegotiationManager;
 
+    @Inject
+    private ProviderContractNegotiationManager providerContractNegotiationManager;
+
     @Inject
     private PolicyDefinitionStore policyDefinitionStore;
 
@@ -197,7 +201,7 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     public ContractNegotiationProtocolService contractNegotiationProtocolService() {
         return new ContractNegotiationProtocolServiceImpl(contractNegotiationStore,
                 transactionContext, contractValidationService, consumerOfferResolver, protocolTokenValidator(), contractNegotiationObservable,
-                monitor, telemetry);
+                consumerContractNegotiationManager, providerContractNegotiationManager, monitor, telemetry);
     }
 
     @Provider
@@ -216,7 +220,8 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     @Provider
     public TransferProcessProtocolService transferProcessProtocolService() {
         return new TransferProcessProtocolServiceImpl(transferProcessStore, transactionContext, contractNegotiationStore,
-                contractValidationService, protocolTokenValidator(), dataAddressValidator, transferProcessObservable, clock, monitor, telemetry);
+                contractValidationService, protocolTokenValidator(), dataAddressValidator, transferProcessObservable, transferProcessManager,
+                clock, monitor, telemetry);
     }
 
     @Provider
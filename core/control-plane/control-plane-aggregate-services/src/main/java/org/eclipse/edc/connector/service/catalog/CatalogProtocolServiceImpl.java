@@ -19,6 +19,7 @@ import org.eclipse.edc.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.catalog.spi.DataServiceRegistry;
 import org.eclipse.edc.catalog.spi.Dataset;
 import org.eclipse.edc.catalog.spi.DatasetResolver;
+import org.eclipse.edc.catalog.spi.StreamedCatalog;
 import org.eclipse.edc.connector.spi.catalog.CatalogProtocolService;
 import org.eclipse.edc.connector.spi.protocol.ProtocolTokenValidator;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
@@ -29,6 +30,8 @@ import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 import static java.lang.String.format;
 import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
 
@@ -38,6 +41,7 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
     public static final String CATALOGING_REQUEST_SCOPE = "request.catalog";
 
     private static final String PARTICIPANT_ID_PROPERTY_KEY = "participantId";
+    static final int DATASETS_PAGE_SIZE = 100;
 
     private final DatasetResolver datasetResolver;
     private final DataServiceRegistry dataServiceRegistry;
@@ -76,6 +80,24 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
         );
     }
 
+    @Override
+    @NotNull
+    public ServiceResult<StreamedCatalog> streamCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation) {
+        return transactionContext.execute(() -> verifyToken(tokenRepresentation)
+                .map(agent -> {
+                    var catalog = Catalog.Builder.newInstance()
+                            .dataServices(dataServiceRegistry.getDataServices())
+                            .datasets(List.of())
+                            .property(EDC_NAMESPACE + PARTICIPANT_ID_PROPERTY_KEY, participantId)
+                            .build();
+
+                    // the datasets are consumed after the transaction has been committed, so they are fetched page by page
+                    var datasets = datasetResolver.queryInPages(agent, message.getQuerySpec(), DATASETS_PAGE_SIZE);
+                    return new StreamedCatalog(catalog, datasets);
+                })
+        );
+    }
+
     @Override
     public @NotNull ServiceResult<Dataset> getDataset(String datasetId, TokenRepresentation tokenRepresentation) {
         return transactionContext.execute(() -> verifyToken(tokenRepresentation)
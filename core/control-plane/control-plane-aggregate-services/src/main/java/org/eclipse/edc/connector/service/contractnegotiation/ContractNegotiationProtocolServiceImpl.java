@@ -16,6 +16,8 @@
 package org.eclipse.edc.connector.service.contractnegotiation;
 
 import io.opentelemetry.instrumentation.annotations.WithSpan;
+import org.eclipse.edc.connector.contract.spi.negotiation.ConsumerContractNegotiationManager;
+import org.eclipse.edc.connector.contract.spi.negotiation.ProviderContractNegotiationManager;
 import org.eclipse.edc.connector.contract.spi.negotiation.observe.ContractNegotiationObservable;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.contract.spi.offer.ConsumerOfferResolver;
@@ -45,6 +47,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation.Type.CONSUMER;
 import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation.Type.PROVIDER;
@@ -60,6 +63,8 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     private final ConsumerOfferResolver consumerOfferResolver;
     private final ProtocolTokenValidator protocolTokenValidator;
     private final ContractNegotiationObservable observable;
+    private final ConsumerContractNegotiationManager consumerManager;
+    private final ProviderContractNegotiationManager providerManager;
     private final Monitor monitor;
     private final Telemetry telemetry;
 
@@ -69,6 +74,8 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
                                                   ConsumerOfferResolver consumerOfferResolver,
                                                   ProtocolTokenValidator protocolTokenValidator,
                                                   ContractNegotiationObservable observable,
+                                                  ConsumerContractNegotiationManager consumerManager,
+                                                  ProviderContractNegotiationManager providerManager,
                                                   Monitor monitor, Telemetry telemetry) {
         this.store = store;
         this.transactionContext = transactionContext;
@@ -76,6 +83,8 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
         this.consumerOfferResolver = consumerOfferResolver;
         this.protocolTokenValidator = protocolTokenValidator;
         this.observable = observable;
+        this.consumerManager = consumerManager;
+        this.providerManager = providerManager;
         this.monitor = monitor;
         this.telemetry = telemetry;
     }
@@ -84,7 +93,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyRequested(ContractRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchValidatableOffer(message)
+        return executeAndWakeUp(() -> fetchValidatableOffer(message)
                 .compose(validatableOffer -> verifyRequest(tokenRepresentation, validatableOffer.getContractPolicy())
                         .compose(agent -> validateOffer(agent, validatableOffer))
                         .compose(validatedOffer -> {
@@ -110,7 +119,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyOffered(ContractOfferMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> verifyRequest(tokenRepresentation, message.getContractOffer().getPolicy())
+        return executeAndWakeUp(() -> verifyRequest(tokenRepresentation, message.getContractOffer().getPolicy())
                 .compose(agent -> {
                     ServiceResult<ContractNegotiation> result = message.getConsumerPid() == null
                             ? createNegotiation(message, agent.getIdentity(), CONSUMER, message.getCallbackAddress())
@@ -134,7 +143,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyAccepted(ContractNegotiationEventMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
+        return executeAndWakeUp(() -> getNegotiation(message.getProcessId())
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy())
                         .compose(agent -> validateRequest(agent, contractNegotiation)))
                 .compose(cn -> onMessageDo(message, contractNegotiation -> acceptedAction(message, contractNegotiation))));
@@ -145,7 +154,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyAgreed(ContractAgreementMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
+        return executeAndWakeUp(() -> getNegotiation(message.getProcessId())
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy())
                         .compose(agent -> validateAgreed(message, agent, contractNegotiation)))
                 .compose(cn -> onMessageDo(message, contractNegotiation -> agreedAction(message, contractNegotiation))));
@@ -155,7 +164,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyVerified(ContractAgreementVerificationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
+        return executeAndWakeUp(() -> getNegotiation(message.getProcessId())
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy())
                         .compose(agent -> validateRequest(agent, contractNegotiation)))
                 .compose(cn -> onMessageDo(message, contractNegotiation -> verifiedAction(message, contractNegotiation))));
@@ -165,7 +174,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyFinalized(ContractNegotiationEventMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
+        return executeAndWakeUp(() -> getNegotiation(message.getProcessId())
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy())
                         .compose(agent -> validateRequest(agent, contractNegotiation)))
                 .compose(cn -> onMessageDo(message, contractNegotiation -> finalizedAction(message, contractNegotiation))));
@@ -175,7 +184,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyTerminated(ContractNegotiationTerminationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
+        return executeAndWakeUp(() -> getNegotiation(message.getProcessId())
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy())
                         .compose(agent -> validateRequest(agent, contractNegotiation)))
                 .compose(cn -> onMessageDo(message, contractNegotiation -> terminatedAction(message, contractNegotiation))));
@@ -331,6 +340,19 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
                 .orElseGet(() -> ServiceResult.notFound("No negotiation with id %s found".formatted(negotiationId)));
     }
 
+    /**
+     * Executes the block in a transaction and, if it succeeded, wakes up the state machines after the commit, so that
+     * the negotiation gets processed without waiting for the next polling iteration.
+     */
+    private ServiceResult<ContractNegotiation> executeAndWakeUp(Supplier<ServiceResult<ContractNegotiation>> block) {
+        var result = transactionContext.execute(() -> block.get());
+        if (result.succeeded()) {
+            var manager = result.getContent().getType() == CONSUMER ? consumerManager : providerManager;
+            manager.wakeUp();
+        }
+        return result;
+    }
+
     private void update(ContractNegotiation negotiation) {
         store.save(negotiation);
         monitor.debug(() -> "[%s] ContractNegotiation %s is now in state %s."
@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiat
 import org.eclipse.edc.connector.contract.spi.validation.ContractValidationService;
 import org.eclipse.edc.connector.spi.protocol.ProtocolTokenValidator;
 import org.eclipse.edc.connector.spi.transferprocess.TransferProcessProtocolService;
+import org.eclipse.edc.connector.transfer.spi.TransferProcessManager;
 import org.eclipse.edc.connector.transfer.spi.observe.TransferProcessObservable;
 import org.eclipse.edc.connector.transfer.spi.observe.TransferProcessStartedData;
 import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
@@ -46,6 +47,7 @@ import org.jetbrains.annotations.NotNull;
 import java.time.Clock;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.util.UUID.randomUUID;
@@ -63,6 +65,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     private final ContractValidationService contractValidationService;
     private final DataAddressValidatorRegistry dataAddressValidator;
     private final TransferProcessObservable observable;
+    private final TransferProcessManager transferProcessManager;
 
     private final ProtocolTokenValidator protocolTokenValidator;
 
@@ -75,7 +78,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
                                               ContractValidationService contractValidationService,
                                               ProtocolTokenValidator protocolTokenValidator,
                                               DataAddressValidatorRegistry dataAddressValidator, TransferProcessObservable observable,
-                                              Clock clock, Monitor monitor, Telemetry telemetry) {
+                                              TransferProcessManager transferProcessManager, Clock clock, Monitor monitor, Telemetry telemetry) {
         this.transferProcessStore = transferProcessStore;
         this.transactionContext = transactionContext;
         this.negotiationStore = negotiationStore;
@@ -83,6 +86,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
         this.protocolTokenValidator = protocolTokenValidator;
         this.dataAddressValidator = dataAddressValidator;
         this.observable = observable;
+        this.transferProcessManager = transferProcessManager;
         this.clock = clock;
         this.monitor = monitor;
         this.telemetry = telemetry;
@@ -92,7 +96,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyRequested(TransferRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchNotifyRequestContext(message)
+        return executeAndWakeUp(() -> fetchNotifyRequestContext(message)
                 .compose(context -> verifyRequest(tokenRepresentation, context))
                 .compose(context -> validateDestination(message, context))
                 .compose(context -> validateAgreement(message, context))
@@ -103,7 +107,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyStarted(TransferStartMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess)
+        return executeAndWakeUp(() -> fetchRequestContext(message, this::findTransferProcess)
                 .compose(context -> verifyRequest(tokenRepresentation, context))
                 .compose(context -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> startedAction(message, transferProcess)))
         );
@@ -113,7 +117,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyCompleted(TransferCompletionMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess)
+        return executeAndWakeUp(() -> fetchRequestContext(message, this::findTransferProcess)
                 .compose(context -> verifyRequest(tokenRepresentation, context))
                 .compose(context -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> completedAction(message, transferProcess)))
         );
@@ -123,7 +127,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyTerminated(TransferTerminationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess)
+        return executeAndWakeUp(() -> fetchRequestContext(message, this::findTransferProcess)
                 .compose(context -> verifyRequest(tokenRepresentation, context))
                 .compose(context -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> terminatedAction(message, transferProcess)))
         );
@@ -314,6 +318,18 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
         return ServiceResult.notFound(format("No transfer process with id %s found", transferProcessId));
     }
 
+    /**
+     * Executes the block in a transaction and, if it succeeded, wakes up the state machine after the commit, so that
+     * the transfer process gets processed without waiting for the next polling iteration.
+     */
+    private ServiceResult<TransferProcess> executeAndWakeUp(Supplier<ServiceResult<TransferProcess>> block) {
+        var result = transactionContext.execute(() -> block.get());
+        if (result.succeeded()) {
+            transferProcessManager.wakeUp();
+        }
+        return result;
+    }
+
     private void breakLease(TransferProcess process) {
         transferProcessStore.save(process);
     }
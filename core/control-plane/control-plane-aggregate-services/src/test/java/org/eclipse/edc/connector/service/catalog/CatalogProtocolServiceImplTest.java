@@ -38,14 +38,18 @@ import java.util.stream.Stream;
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.service.catalog.CatalogProtocolServiceImpl.CATALOGING_REQUEST_SCOPE;
+import static org.eclipse.edc.connector.service.catalog.CatalogProtocolServiceImpl.DATASETS_PAGE_SIZE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNAUTHORIZED;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class CatalogProtocolServiceImplTest {
@@ -93,6 +97,42 @@ class CatalogProtocolServiceImplTest {
         assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(UNAUTHORIZED);
     }
 
+    @Test
+    void streamCatalog_shouldReturnCatalogWithDatasetsQueriedInPages() {
+        var querySpec = QuerySpec.none();
+        var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(querySpec).build();
+        var tokenRepresentation = createTokenRepresentation();
+        var participantAgent = createParticipantAgent();
+        var dataService = DataService.Builder.newInstance().build();
+
+        when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE), any())).thenReturn(ServiceResult.success(participantAgent));
+        when(dataServiceRegistry.getDataServices()).thenReturn(List.of(dataService));
+        when(datasetResolver.queryInPages(any(), any(), anyInt())).thenReturn(Stream.of(createDataset()));
+
+        var result = service.streamCatalog(message, tokenRepresentation);
+
+        assertThat(result).isSucceeded().satisfies(streamed -> {
+            assertThat(streamed.catalog().getDataServices()).hasSize(1).first().isSameAs(dataService);
+            assertThat(streamed.catalog().getDatasets()).isEmpty();
+            assertThat(streamed.datasets()).hasSize(1);
+        });
+        verify(datasetResolver).queryInPages(participantAgent, querySpec, DATASETS_PAGE_SIZE);
+        verify(datasetResolver, never()).query(any(), any());
+    }
+
+    @Test
+    void streamCatalog_shouldFail_whenTokenValidationFails() {
+        var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(QuerySpec.none()).build();
+        var tokenRepresentation = createTokenRepresentation();
+
+        when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE), any())).thenReturn(ServiceResult.unauthorized("unauthorized"));
+
+        var result = service.streamCatalog(message, tokenRepresentation);
+
+        assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(UNAUTHORIZED);
+        verifyNoInteractions(datasetResolver);
+    }
+
     @Test
     void getDataset_shouldReturnDataset() {
         var tokenRepresentation = createTokenRepresentation();
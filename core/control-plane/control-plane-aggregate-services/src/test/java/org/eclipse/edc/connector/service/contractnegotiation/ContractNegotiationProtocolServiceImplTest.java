@@ -16,6 +16,8 @@ package org.eclipse.edc.connector.service.contractnegotiation;
 
 import org.eclipse.edc.connector.contract.observe.ContractNegotiationObservableImpl;
 import org.eclipse.edc.connector.contract.spi.ContractOfferId;
+import org.eclipse.edc.connector.contract.spi.negotiation.ConsumerContractNegotiationManager;
+import org.eclipse.edc.connector.contract.spi.negotiation.ProviderContractNegotiationManager;
 import org.eclipse.edc.connector.contract.spi.negotiation.observe.ContractNegotiationListener;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.contract.spi.offer.ConsumerOfferResolver;
@@ -103,6 +105,8 @@ class ContractNegotiationProtocolServiceImplTest {
     private final ConsumerOfferResolver consumerOfferResolver = mock();
     private final ContractNegotiationListener listener = mock();
     private final ProtocolTokenValidator protocolTokenValidator = mock();
+    private final ConsumerContractNegotiationManager consumerManager = mock();
+    private final ProviderContractNegotiationManager providerManager = mock();
     private ContractNegotiationProtocolService service;
 
     @BeforeEach
@@ -110,7 +114,7 @@ class ContractNegotiationProtocolServiceImplTest {
         var observable = new ContractNegotiationObservableImpl();
         observable.registerListener(listener);
         service = new ContractNegotiationProtocolServiceImpl(store, transactionContext, validationService,
-                consumerOfferResolver, protocolTokenValidator, observable, mock(), mock());
+                consumerOfferResolver, protocolTokenValidator, observable, consumerManager, providerManager, mock(), mock());
     }
 
     @Nested
@@ -152,6 +156,8 @@ class ContractNegotiationProtocolServiceImplTest {
             verify(listener).requested(any());
             verify(validationService).validateInitialOffer(participantAgent, validatableOffer);
             verify(transactionContext, atLeastOnce()).execute(any(TransactionContext.ResultTransactionBlock.class));
+            verify(providerManager).wakeUp();
+            verifyNoInteractions(consumerManager);
         }
 
         @Test
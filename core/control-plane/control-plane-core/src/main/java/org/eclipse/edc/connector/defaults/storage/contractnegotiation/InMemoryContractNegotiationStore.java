@@ -29,6 +29,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -39,6 +40,9 @@ import static java.lang.String.format;
  */
 public class InMemoryContractNegotiationStore extends InMemoryStatefulEntityStore<ContractNegotiation> implements ContractNegotiationStore {
 
+    private static final String CORRELATION_ID_INDEX = "correlationId";
+    private static final String AGREEMENT_ID_INDEX = "contractAgreement.id";
+
     private final QueryResolver<ContractNegotiation> negotiationQueryResolver;
     private final QueryResolver<ContractAgreement> agreementQueryResolver;
 
@@ -50,19 +54,23 @@ public class InMemoryContractNegotiationStore extends InMemoryStatefulEntityStor
         super(ContractNegotiation.class, leaseHolder, clock, criterionOperatorRegistry);
         agreementQueryResolver = new ReflectionBasedQueryResolver<>(ContractAgreement.class, criterionOperatorRegistry);
         negotiationQueryResolver = new ReflectionBasedQueryResolver<>(ContractNegotiation.class, criterionOperatorRegistry);
+        addIndex(CORRELATION_ID_INDEX, ContractNegotiation::getCorrelationId);
+        addIndex(AGREEMENT_ID_INDEX, negotiation -> Optional.ofNullable(negotiation.getContractAgreement()).map(ContractAgreement::getId).orElse(null));
     }
 
     @Override
     public @Nullable ContractNegotiation findForCorrelationId(String correlationId) {
-        return super.findAll().filter(p -> correlationId.equals(p.getCorrelationId())).findFirst().orElse(null);
+        return findAllByIndex(CORRELATION_ID_INDEX, correlationId).findFirst().orElse(null);
     }
 
     @Override
     public @Nullable ContractAgreement findContractAgreement(String contractId) {
-        return super.findAll()
+        if (contractId == null) {
+            return null;
+        }
+        return findAllByIndex(AGREEMENT_ID_INDEX, contractId)
                 .map(ContractNegotiation::getContractAgreement)
                 .filter(Objects::nonNull)
-                .filter(a -> Objects.equals(contractId, a.getId()))
                 .findFirst()
                 .orElse(null);
     }
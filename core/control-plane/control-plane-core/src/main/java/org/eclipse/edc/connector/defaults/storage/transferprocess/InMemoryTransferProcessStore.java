@@ -27,26 +27,29 @@ import java.util.UUID;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
-import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
  * An in-memory, threadsafe process store. This implementation is intended for testing purposes only.
  */
 public class InMemoryTransferProcessStore extends InMemoryStatefulEntityStore<TransferProcess> implements TransferProcessStore {
 
+    private static final String CORRELATION_ID_INDEX = "dataRequest.id";
+
     public InMemoryTransferProcessStore(Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
         this(UUID.randomUUID().toString(), clock, criterionOperatorRegistry);
     }
 
     public InMemoryTransferProcessStore(String leaserId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
         super(TransferProcess.class, leaserId, clock, criterionOperatorRegistry);
+        addIndex(CORRELATION_ID_INDEX, process -> process.getDataRequest() != null ? process.getDataRequest().getId() : null);
     }
 
     @Override
     public @Nullable TransferProcess findForCorrelationId(String correlationId) {
-        var querySpec = QuerySpec.Builder.newInstance().filter(criterion("dataRequest.id", "=", correlationId)).build();
-
-        return super.findAll(querySpec).findFirst().orElse(null);
+        if (correlationId == null) {
+            return null;
+        }
+        return findAllByIndex(CORRELATION_ID_INDEX, correlationId).findFirst().orElse(null);
     }
 
     @Override
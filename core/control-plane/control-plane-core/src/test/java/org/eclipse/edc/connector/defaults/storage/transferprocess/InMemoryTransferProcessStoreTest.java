@@ -17,9 +17,18 @@ package org.eclipse.edc.connector.defaults.storage.transferprocess;
 import org.eclipse.edc.connector.core.store.CriterionOperatorRegistryImpl;
 import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.transfer.spi.testfixtures.store.TransferProcessStoreTestBase;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions.createDataRequestBuilder;
+import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions.createTransferProcessBuilder;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.INITIAL;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+
 class InMemoryTransferProcessStoreTest extends TransferProcessStoreTestBase {
 
     private final InMemoryTransferProcessStore store = new InMemoryTransferProcessStore(CONNECTOR_NAME, clock, CriterionOperatorRegistryImpl.ofDefaults());
@@ -39,4 +48,29 @@ class InMemoryTransferProcessStoreTest extends TransferProcessStoreTestBase {
         return store.isLeasedBy(entityId, owner);
     }
 
+    @Test
+    void nextNotLeased_shouldFollowStateChanges() {
+        store.save(createTransferProcessBuilder("newer").state(INITIAL.code()).stateTimestamp(2000).build());
+        store.save(createTransferProcessBuilder("older").state(INITIAL.code()).stateTimestamp(1000).build());
+        store.save(createTransferProcessBuilder("started").state(INITIAL.code()).stateTimestamp(500).build());
+        store.save(createTransferProcessBuilder("started").state(STARTED.code()).stateTimestamp(3000).build());
+
+        assertThat(store.nextNotLeased(10, hasState(INITIAL.code()))).extracting(TransferProcess::getId).containsExactly("older", "newer");
+        assertThat(store.nextNotLeased(10, hasState(STARTED.code()))).extracting(TransferProcess::getId).containsExactly("started");
+    }
+
+    @Test
+    void findForCorrelationId_shouldFollowUpdatesAndDeletion() {
+        var process = createTransferProcessBuilder("id").dataRequest(createDataRequestBuilder().id("correlation").build()).build();
+        store.save(process);
+        store.save(process.toBuilder().dataRequest(createDataRequestBuilder().id("updated").build()).build());
+
+        assertThat(store.findForCorrelationId("correlation")).isNull();
+        assertThat(store.findForCorrelationId("updated")).isNotNull().extracting(TransferProcess::getId).isEqualTo("id");
+
+        store.delete("id");
+
+        assertThat(store.findForCorrelationId("updated")).isNull();
+    }
+
 }
@@ -48,6 +48,7 @@ import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -59,11 +60,13 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 /**
  * Provides core data transfer services to the system.
@@ -81,6 +84,9 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
 
+    @Setting(value = "the number of worker threads in the transfer process state machine. With more than one, every state is processed concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String TRANSFER_STATE_MACHINE_WORKERS = "edc.transfer.state-machine.workers";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the transfer with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
 
@@ -155,7 +161,9 @@ public class TransferCoreExtension implements ServiceExtension {
         registerTypes(typeManager);
 
         var iterationWaitMillis = context.getSetting(TRANSFER_STATE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = context.hasService(TransferWaitStrategy.class) ? context.getService(TransferWaitStrategy.class) : new ExponentialWaitStrategy(iterationWaitMillis);
+        Supplier<WaitStrategy> waitStrategySupplier = context.hasService(TransferWaitStrategy.class)
+                ? () -> context.getService(TransferWaitStrategy.class)
+                : () -> new ExponentialWaitStrategy(iterationWaitMillis);
 
         typeTransformerRegistry.register(new DataAddressToEndpointDataReferenceTransformer());
 
@@ -171,7 +179,7 @@ public class TransferCoreExtension implements ServiceExtension {
         var deprovisionResponsesHandler = new DeprovisionResponsesHandler(observable, monitor, vault);
 
         processManager = TransferProcessManagerImpl.Builder.newInstance()
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategySupplier)
                 .manifestGenerator(resourceManifestGenerator)
                 .dataFlowManager(dataFlowManager)
                 .provisionManager(provisionManager)
@@ -185,6 +193,7 @@ public class TransferCoreExtension implements ServiceExtension {
                 .store(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(TRANSFER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhook(protocolWebhook)
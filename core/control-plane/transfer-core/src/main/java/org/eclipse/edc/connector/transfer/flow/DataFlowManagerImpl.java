@@ -28,7 +28,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static java.lang.String.format;
@@ -62,6 +64,19 @@ public class DataFlowManagerImpl implements DataFlowManager {
         }
     }
 
+    @WithSpan
+    @Override
+    public @NotNull CompletableFuture<StatusResult<DataFlowResponse>> initiateAsync(TransferProcess transferProcess, Policy policy) {
+        try {
+            return chooseController(transferProcess)
+                    .map(controller -> controller.initiateFlowAsync(transferProcess, policy))
+                    .orElseGet(() -> CompletableFuture.completedFuture(StatusResult.failure(FATAL_ERROR, controllerNotFound(transferProcess.getId()))))
+                    .exceptionally(throwable -> StatusResult.failure(FATAL_ERROR, runtimeException(transferProcess.getId(), throwable.getLocalizedMessage())));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(StatusResult.failure(FATAL_ERROR, runtimeException(transferProcess.getId(), e.getLocalizedMessage())));
+        }
+    }
+
     @Override
     public @NotNull StatusResult<Void> terminate(TransferProcess transferProcess) {
         return chooseControllerAndApply(transferProcess, controller -> controller.terminate(transferProcess));
@@ -78,13 +93,17 @@ public class DataFlowManagerImpl implements DataFlowManager {
 
     @NotNull
     private <T> StatusResult<T> chooseControllerAndApply(TransferProcess transferProcess, Function<DataFlowController, StatusResult<T>> function) {
+        return chooseController(transferProcess)
+                .map(function)
+                .orElseGet(() -> StatusResult.failure(FATAL_ERROR, controllerNotFound(transferProcess.getId())));
+    }
+
+    private Optional<DataFlowController> chooseController(TransferProcess transferProcess) {
         return controllers.stream()
                 .sorted(Comparator.comparingInt(a -> -a.priority))
                 .map(PrioritizedDataFlowController::controller)
                 .filter(controller -> controller.canHandle(transferProcess))
-                .findFirst()
-                .map(function)
-                .orElseGet(() -> StatusResult.failure(FATAL_ERROR, controllerNotFound(transferProcess.getId())));
+                .findFirst();
     }
 
     private String runtimeException(String id, String message) {
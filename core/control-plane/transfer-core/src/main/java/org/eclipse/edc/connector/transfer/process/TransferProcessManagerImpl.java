@@ -164,14 +164,14 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processTransfersInState(INITIAL, this::processInitial))
-                .processor(processTransfersInState(PROVISIONING, this::processProvisioning))
-                .processor(processTransfersInState(PROVISIONED, this::processProvisioned))
-                .processor(processConsumerTransfersInState(REQUESTING, this::processRequesting))
-                .processor(processProviderTransfersInState(STARTING, this::processStarting))
-                .processor(processTransfersInState(COMPLETING, this::processCompleting))
-                .processor(processTransfersInState(TERMINATING, this::processTerminating))
-                .processor(processTransfersInState(DEPROVISIONING, this::processDeprovisioning));
+                .processor(processTransfersInState(INITIAL, this::processInitial), concurrencyFor(INITIAL.code()), INITIAL.code())
+                .processor(processTransfersInState(PROVISIONING, this::processProvisioning), concurrencyFor(PROVISIONING.code()), PROVISIONING.code())
+                .processor(processTransfersInState(PROVISIONED, this::processProvisioned), concurrencyFor(PROVISIONED.code()), PROVISIONED.code())
+                .processor(processConsumerTransfersInState(REQUESTING, this::processRequesting), concurrencyFor(REQUESTING.code()), REQUESTING.code())
+                .processor(processProviderTransfersInState(STARTING, this::processStarting), concurrencyFor(STARTING.code()), STARTING.code())
+                .processor(processTransfersInState(COMPLETING, this::processCompleting), concurrencyFor(COMPLETING.code()), COMPLETING.code())
+                .processor(processTransfersInState(TERMINATING, this::processTerminating), concurrencyFor(TERMINATING.code()), TERMINATING.code())
+                .processor(processTransfersInState(DEPROVISIONING, this::processDeprovisioning), concurrencyFor(DEPROVISIONING.code()), DEPROVISIONING.code());
     }
 
     /**
@@ -307,11 +307,11 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     private boolean processStarting(TransferProcess process) {
         var policy = policyArchive.findPolicyForContract(process.getContractId());
 
-        return entityRetryProcessFactory.doSyncProcess(process, () -> dataFlowManager.initiate(process, policy))
-                .onSuccess((p, dataFlowResponse) -> sendTransferStartMessage(p, dataFlowResponse, policy))
+        return entityRetryProcessFactory.doAsyncStatusResultProcess(process, () -> dataFlowManager.initiateAsync(process, policy))
+                .onSuccessResult((p, dataFlowResponse) -> sendTransferStartMessage(p, dataFlowResponse, policy))
                 .onFatalError((p, failure) -> transitionToTerminating(p, failure.getFailureDetail()))
-                .onFailure((t, failure) -> transitionToStarting(t))
-                .onRetryExhausted((p, failure) -> transitionToTerminating(p, failure.getFailureDetail()))
+                .onFailure((t, throwable) -> transitionToStarting(t))
+                .onRetryExhausted((p, throwable) -> transitionToTerminating(p, throwable.getMessage(), throwable))
                 .execute("Initiate data flow");
     }
 
@@ -26,8 +26,11 @@ import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Set;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
@@ -110,6 +113,35 @@ class DataFlowManagerImplTest {
             verifyNoInteractions(lowPriority);
         }
 
+        @Test
+        void initiateAsync_shouldInitiateFlowOnCorrectController() {
+            var controller = mock(DataFlowController.class);
+            var transferProcess = TransferProcess.Builder.newInstance().build();
+            when(controller.canHandle(any())).thenReturn(true);
+            when(controller.initiateFlowAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(DataFlowResponse.Builder.newInstance().build())));
+            manager.register(controller);
+
+            var future = manager.initiateAsync(transferProcess, Policy.Builder.newInstance().build());
+
+            assertThat(future).succeedsWithin(Duration.ofSeconds(1)).satisfies(response -> assertThat(response).isSucceeded());
+        }
+
+        @Test
+        void initiateAsync_shouldReturnFatalError_whenFlowFailsExceptionally() {
+            var controller = mock(DataFlowController.class);
+            var transferProcess = TransferProcess.Builder.newInstance().build();
+            when(controller.canHandle(any())).thenReturn(true);
+            when(controller.initiateFlowAsync(any(), any())).thenReturn(failedFuture(new EdcException("error")));
+            manager.register(controller);
+
+            var future = manager.initiateAsync(transferProcess, Policy.Builder.newInstance().build());
+
+            assertThat(future).succeedsWithin(Duration.ofSeconds(1)).satisfies(response -> {
+                assertThat(response).isFailed();
+                assertThat(response.getFailure().status()).isEqualTo(FATAL_ERROR);
+            });
+        }
+
         private DataFlowController createDataFlowController() {
             var dataFlowController = mock(DataFlowController.class);
             when(dataFlowController.canHandle(any())).thenReturn(true);
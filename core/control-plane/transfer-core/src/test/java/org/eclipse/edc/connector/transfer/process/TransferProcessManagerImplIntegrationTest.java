@@ -176,7 +176,7 @@ class TransferProcessManagerImplIntegrationTest {
             when(dispatcherRegistry.dispatch(any(), isA(messageType)))
                     .thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY)))
                     .thenReturn(completedFuture(StatusResult.success(TransferProcessAck.Builder.newInstance().build())));
-            when(dataFlowManager.initiate(any(), any())).thenReturn(StatusResult.success(DataFlowResponse.Builder.newInstance().build()));
+            when(dataFlowManager.initiateAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(DataFlowResponse.Builder.newInstance().build())));
             when(dataFlowManager.terminate(any())).thenReturn(StatusResult.success());
 
             var transfer = transferProcessBuilder().type(type).state(state.code()).build();
@@ -15,8 +15,11 @@
 package org.eclipse.edc.connector.dataplane.selector;
 
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.LeastLoadedSelectionStrategy;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.PowerOfTwoChoicesSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.RandomSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.WeightedRoundRobinSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.store.InMemoryDataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.strategy.DefaultSelectionStrategyRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -45,6 +48,9 @@ public class DataPlaneSelectorDefaultServicesExtension implements ServiceExtensi
     public SelectionStrategyRegistry selectionStrategyRegistry() {
         var strategy = new DefaultSelectionStrategyRegistry();
         strategy.add(new RandomSelectionStrategy());
+        strategy.add(new LeastLoadedSelectionStrategy());
+        strategy.add(new PowerOfTwoChoicesSelectionStrategy());
+        strategy.add(new WeightedRoundRobinSelectionStrategy());
         return strategy;
     }
 }
@@ -21,12 +21,22 @@ import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrate
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Extension(value = "DataPlane core selector")
 public class DataPlaneSelectorExtension implements ServiceExtension {
 
+    private static final long DEFAULT_SNAPSHOT_TTL_SECONDS = 10;
+
+    @Setting(value = "Time in seconds the data plane instances are kept in memory by the selector, 0 reads them from the store on every selection. Default value " + DEFAULT_SNAPSHOT_TTL_SECONDS, type = "long")
+    public static final String SNAPSHOT_TTL_SECONDS = "edc.dataplane.selector.snapshot.ttl.seconds";
+
     @Inject
     private DataPlaneInstanceStore instanceStore;
 
@@ -36,9 +46,13 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
     @Inject
     private SelectionStrategyRegistry selectionStrategyRegistry;
 
+    @Inject
+    private Clock clock;
+
     @Provider
-    public DataPlaneSelectorService dataPlaneSelectorService() {
-        return new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext);
+    public DataPlaneSelectorService dataPlaneSelectorService(ServiceExtensionContext context) {
+        var snapshotTtl = Duration.ofSeconds(context.getSetting(SNAPSHOT_TTL_SECONDS, DEFAULT_SNAPSHOT_TTL_SECONDS));
+        return new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext, clock, snapshotTtl);
     }
 
 }
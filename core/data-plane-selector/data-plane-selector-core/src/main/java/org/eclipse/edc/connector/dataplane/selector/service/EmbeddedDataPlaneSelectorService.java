@@ -23,18 +23,48 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Selects the data plane instances from the {@link DataPlaneInstanceStore}. When a snapshot TTL is configured, the
+ * instances are kept in memory, indexed by source and destination type, and reloaded from the store once the TTL
+ * expires or an instance is added.
+ * <p>
+ * The selections of every instance are counted in memory, independently of the snapshot, and added to its turn count,
+ * so that load-aware strategies account for the selections made since the last load report of the data plane. The
+ * count of an instance is reset when it reports its load, i.e. when it gets added again.
+ */
 public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorService {
 
     private final DataPlaneInstanceStore store;
     private final SelectionStrategyRegistry selectionStrategyRegistry;
     private final TransactionContext transactionContext;
+    private final Clock clock;
+    private final Duration snapshotTtl;
+    private final Map<String, Selections> selections = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
 
     public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext) {
+        this(store, selectionStrategyRegistry, transactionContext, Clock.systemUTC(), Duration.ZERO);
+    }
+
+    public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext,
+                                            Clock clock, Duration snapshotTtl) {
         this.store = store;
         this.selectionStrategyRegistry = selectionStrategyRegistry;
         this.transactionContext = transactionContext;
+        this.clock = clock;
+        this.snapshotTtl = snapshotTtl;
     }
 
     @Override
@@ -53,18 +83,34 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
             throw new IllegalArgumentException("Strategy " + selectionStrategy + " was not found");
         }
 
-        return transactionContext.execute(() -> {
-            try (var stream = store.getAll()) {
-                var dataPlanes = stream.filter(dataPlane -> dataPlane.canHandle(source, destination)).toList();
-                return strategy.apply(dataPlanes);
-            }
-        });
+        List<DataPlaneInstance> candidates;
+        if (snapshotTtl.isZero()) {
+            candidates = transactionContext.execute(() -> {
+                try (var stream = store.getAll()) {
+                    return stream.filter(dataPlane -> dataPlane.canHandle(source, destination)).toList();
+                }
+            });
+        } else {
+            candidates = currentSnapshot().candidates(source.getType(), destination.getType());
+        }
+
+        var selected = strategy.apply(candidates.stream().map(this::withSelections).toList());
+        if (selected == null) {
+            return null;
+        }
+        var now = clock.millis();
+        selections.compute(selected.getId(), (id, current) -> current == null ? new Selections(1, now) : new Selections(current.count() + 1, now));
+        // the candidates already account for the previous selections
+        return selected.toBuilder()
+                .turnCount(selected.getTurnCount() + 1)
+                .lastActive(now)
+                .build();
     }
 
 
     @Override
     public ServiceResult<Void> addInstance(DataPlaneInstance instance) {
-        return transactionContext.execute(() -> {
+        var serviceResult = transactionContext.execute(() -> {
             StoreResult<Void> result;
             if (store.findById(instance.getId()) == null) {
                 result = store.create(instance);
@@ -73,5 +119,80 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
             }
             return ServiceResult.from(result);
         });
+        selections.remove(instance.getId());
+        generation.incrementAndGet();
+        return serviceResult;
+    }
+
+    /**
+     * Adds the selections counted since the last load report of the instance to its turn count.
+     */
+    private DataPlaneInstance withSelections(DataPlaneInstance instance) {
+        var counted = selections.get(instance.getId());
+        if (counted == null) {
+            return instance;
+        }
+        return instance.toBuilder()
+                .turnCount(instance.getTurnCount() + counted.count())
+                .lastActive(Math.max(instance.getLastActive(), counted.lastActive()))
+                .build();
+    }
+
+    /**
+     * Returns the current snapshot, reloading it when expired or when an instance has been added since it was loaded.
+     * The generation is read before loading, so that a snapshot loaded concurrently to an addition is not considered
+     * current once loaded.
+     */
+    private Snapshot currentSnapshot() {
+        var current = snapshot;
+        var now = clock.instant();
+        if (!isCurrent(current, now)) {
+            synchronized (this) {
+                current = snapshot;
+                if (!isCurrent(current, now)) {
+                    current = loadSnapshot(generation.get(), now.plus(snapshotTtl));
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private boolean isCurrent(Snapshot snapshot, Instant now) {
+        return snapshot != null && snapshot.generation() == generation.get() && now.isBefore(snapshot.expiresAt());
+    }
+
+    private Snapshot loadSnapshot(long generation, Instant expiresAt) {
+        return transactionContext.execute(() -> {
+            try (var stream = store.getAll()) {
+                var instances = new HashMap<String, DataPlaneInstance>();
+                var index = new HashMap<String, Map<String, List<String>>>();
+                stream.forEach(instance -> {
+                    instances.put(instance.getId(), instance);
+                    for (var sourceType : instance.getAllowedSourceTypes()) {
+                        var byDestination = index.computeIfAbsent(sourceType, k -> new HashMap<>());
+                        for (var destinationType : instance.getAllowedDestTypes()) {
+                            byDestination.computeIfAbsent(destinationType, k -> new ArrayList<>()).add(instance.getId());
+                        }
+                    }
+                });
+                return new Snapshot(generation, expiresAt, instances, index);
+            }
+        });
+    }
+
+    private record Selections(int count, long lastActive) {
+    }
+
+    private record Snapshot(long generation, Instant expiresAt, Map<String, DataPlaneInstance> instances, Map<String, Map<String, List<String>>> index) {
+
+        List<DataPlaneInstance> candidates(String sourceType, String destinationType) {
+            return index.getOrDefault(sourceType, Map.of())
+                    .getOrDefault(destinationType, List.of())
+                    .stream()
+                    .map(instances::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
     }
 }
@@ -19,16 +19,25 @@ import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstan
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.dataplane.selector.spi.testfixtures.TestFunctions.createAddress;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -62,6 +71,102 @@ public class EmbeddedDataPlaneSelectorServiceTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void select_shouldUseSnapshot_whenTtlConfigured() {
+        var clock = Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC);
+        var cachingSelector = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry, new NoopTransactionContext(), clock, Duration.ofSeconds(10));
+        var matching = createInstanceMock("matching", "srcTestType", "destTestType");
+        var other = createInstanceMock("other", "srcTestType", "otherType");
+        when(store.getAll()).thenAnswer(i -> List.of(matching, other).stream());
+        SelectionStrategy selectionStrategy = mock();
+        when(selectionStrategy.apply(any())).thenAnswer(it -> it.<List<DataPlaneInstance>>getArgument(0).get(0));
+        when(selectionStrategyRegistry.find(any())).thenReturn(selectionStrategy);
+
+        var first = cachingSelector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+        var second = cachingSelector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+
+        assertThat(first.getId()).isEqualTo("matching");
+        assertThat(first.getTurnCount()).isEqualTo(1);
+        assertThat(second.getTurnCount()).isEqualTo(2);
+        assertThat(second.getLastActive()).isEqualTo(1000);
+        verify(store, times(1)).getAll();
+    }
+
+    @Test
+    void select_shouldReloadSnapshot_whenInstanceAdded() {
+        var cachingSelector = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry, new NoopTransactionContext(), Clock.systemUTC(), Duration.ofMinutes(1));
+        var instance = createInstanceMock("instance", "srcTestType", "destTestType");
+        when(store.getAll()).thenAnswer(i -> List.of(instance).stream());
+        when(store.create(any())).thenReturn(StoreResult.success());
+        SelectionStrategy selectionStrategy = mock();
+        when(selectionStrategy.apply(any())).thenAnswer(it -> it.<List<DataPlaneInstance>>getArgument(0).get(0));
+        when(selectionStrategyRegistry.find(any())).thenReturn(selectionStrategy);
+
+        cachingSelector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+        cachingSelector.addInstance(instance);
+        var result = cachingSelector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+
+        assertThat(result.getTurnCount()).isEqualTo(1);
+        verify(store, times(2)).getAll();
+    }
+
+    @Test
+    void select_shouldCountSelections_whenNoSnapshot() {
+        var instance = createInstanceMock("instance", "srcTestType", "destTestType");
+        when(store.getAll()).thenAnswer(i -> Stream.of(instance));
+        SelectionStrategy selectionStrategy = mock();
+        when(selectionStrategy.apply(any())).thenAnswer(it -> it.<List<DataPlaneInstance>>getArgument(0).get(0));
+        when(selectionStrategyRegistry.find(any())).thenReturn(selectionStrategy);
+
+        var first = selector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+        var second = selector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+
+        assertThat(first.getTurnCount()).isEqualTo(1);
+        assertThat(second.getTurnCount()).isEqualTo(2);
+    }
+
+    @Test
+    void select_shouldKeepSelectionCount_whenSnapshotIsReloaded() {
+        Clock clock = mock();
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(1000), Instant.ofEpochMilli(20_000));
+        when(clock.millis()).thenReturn(1000L);
+        var cachingSelector = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry, new NoopTransactionContext(), clock, Duration.ofSeconds(10));
+        var instance = createInstanceMock("instance", "srcTestType", "destTestType");
+        when(store.getAll()).thenAnswer(i -> Stream.of(instance));
+        SelectionStrategy selectionStrategy = mock();
+        when(selectionStrategy.apply(any())).thenAnswer(it -> it.<List<DataPlaneInstance>>getArgument(0).get(0));
+        when(selectionStrategyRegistry.find(any())).thenReturn(selectionStrategy);
+
+        cachingSelector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+        var result = cachingSelector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+
+        assertThat(result.getTurnCount()).isEqualTo(2);
+        verify(store, times(2)).getAll();
+    }
+
+    @Test
+    void select_shouldReloadSnapshot_whenInstanceAddedWhileLoading() {
+        var cachingSelector = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry, new NoopTransactionContext(), Clock.systemUTC(), Duration.ofMinutes(1));
+        var instance = createInstanceMock("instance", "srcTestType", "destTestType");
+        var added = new AtomicBoolean();
+        when(store.getAll()).thenAnswer(i -> {
+            if (added.compareAndSet(false, true)) {
+                cachingSelector.addInstance(instance);
+            }
+            return Stream.of(instance);
+        });
+        when(store.create(any())).thenReturn(StoreResult.success());
+        SelectionStrategy selectionStrategy = mock();
+        when(selectionStrategy.apply(any())).thenAnswer(it -> it.<List<DataPlaneInstance>>getArgument(0).get(0));
+        when(selectionStrategyRegistry.find(any())).thenReturn(selectionStrategy);
+
+        cachingSelector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+        cachingSelector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+        cachingSelector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+
+        verify(store, times(2)).getAll();
+    }
+
     private DataPlaneInstance createInstanceMock(String id, String srcType, String destType) {
         return DataPlaneInstance.Builder.newInstance()
                 .url("http://any")
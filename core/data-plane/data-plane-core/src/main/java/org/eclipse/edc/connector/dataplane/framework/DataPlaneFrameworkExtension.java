@@ -28,6 +28,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -37,11 +38,13 @@ import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
 import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 /**
  * Provides core services for the Data Plane Framework.
@@ -57,6 +60,9 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Setting(value = "the batch size in the data plane state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String DATAPLANE_MACHINE_BATCH_SIZE = "edc.dataplane.state-machine.batch-size";
 
+    @Setting(value = "the number of worker threads in the data plane state machine. With more than one, every state is processed concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String DATAPLANE_MACHINE_WORKERS = "edc.dataplane.state-machine.workers";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the dataplane with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String DATAPLANE_SEND_RETRY_LIMIT = "edc.dataplane.send.retry.limit";
 
@@ -109,11 +115,12 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         context.registerService(TransferServiceRegistry.class, transferServiceRegistry);
 
         var iterationWaitMillis = context.getSetting(DATAPLANE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = new ExponentialWaitStrategy(iterationWaitMillis);
+        Supplier<WaitStrategy> waitStrategySupplier = () -> new ExponentialWaitStrategy(iterationWaitMillis);
 
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategySupplier)
                 .batchSize(context.getSetting(DATAPLANE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(DATAPLANE_MACHINE_WORKERS, DEFAULT_WORKERS))
                 .clock(clock)
                 .entityRetryProcessConfiguration(getEntityRetryProcessConfiguration(context))
                 .executorInstrumentation(executorInstrumentation)
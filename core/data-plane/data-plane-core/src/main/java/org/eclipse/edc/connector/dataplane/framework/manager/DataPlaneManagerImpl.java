@@ -57,9 +57,9 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processDataFlowInState(RECEIVED, this::processReceived))
-                .processor(processDataFlowInState(COMPLETED, this::processCompleted))
-                .processor(processDataFlowInState(FAILED, this::processFailed));
+                .processor(processDataFlowInState(RECEIVED, this::processReceived), concurrencyFor(RECEIVED.code()), RECEIVED.code())
+                .processor(processDataFlowInState(COMPLETED, this::processCompleted), concurrencyFor(COMPLETED.code()), COMPLETED.code())
+                .processor(processDataFlowInState(FAILED, this::processFailed), concurrencyFor(FAILED.code()), FAILED.code());
     }
 
     @Override
@@ -81,8 +81,11 @@ public class AsyncStreamingDataSink implements DataSink {
         var result = asyncContext.register(new AsyncResponseCallback((outputStream) -> {
             try {
                 part.openStream().transferTo(outputStream);
+                part.close();
             } catch (IOException e) {
                 throw new EdcException(e);
+            } catch (Exception e) {
+                throw new EdcException("Error closing part " + part.name(), e);
             }
         }, part.mediaType()));
 
@@ -79,11 +79,31 @@ public abstract class ParallelSink implements DataSink {
     }
 
     private Supplier<StreamResult<Object>> transfer(List<DataSource.Part> parts) {
-        return telemetry.contextPropagationMiddleware(() -> transferParts(parts), telemetry.getTraceCarrierWithCurrentContext());
+        return telemetry.contextPropagationMiddleware(() -> {
+            var result = transferParts(parts);
+            if (result.succeeded()) {
+                onPartsTransferred(parts);
+            }
+            return result;
+        }, telemetry.getTraceCarrierWithCurrentContext());
     }
 
+    /**
+     * Transfers the parts.
+     */
     protected abstract StreamResult<Object> transferParts(List<DataSource.Part> parts);
 
+    /**
+     * Called when {@link #transferParts(List)} succeeded. By default, the parts get closed, so that the source can
+     * acknowledge them. Sinks that return from {@link #transferParts(List)} before the parts have been confirmed by the
+     * destination must override this method and close the parts once they have been confirmed.
+     *
+     * @param parts the transferred parts.
+     */
+    protected void onPartsTransferred(List<DataSource.Part> parts) {
+        parts.forEach(this::closePart);
+    }
+
     /**
      * Called after all parallel parts are transferred, only if all parts were successfully transferred.
      * <p>
@@ -95,6 +115,19 @@ public abstract class ParallelSink implements DataSink {
         return StreamResult.success();
     }
 
+    /**
+     * Closes the part, logging a warning if it fails.
+     *
+     * @param part the part.
+     */
+    protected void closePart(DataSource.Part part) {
+        try {
+            part.close();
+        } catch (Exception e) {
+            monitor.warning(format("Error closing part %s for request: %s", part.name(), requestId), e);
+        }
+    }
+
     protected abstract static class Builder<B extends Builder<B, T>, T extends ParallelSink> {
         protected T sink;
 
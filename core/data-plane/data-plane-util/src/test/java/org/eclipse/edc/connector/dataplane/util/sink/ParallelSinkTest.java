@@ -30,11 +30,14 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ParallelSinkTest {
@@ -116,6 +119,31 @@ class ParallelSinkTest {
         assertThat(fakeSink.complete).isEqualTo(0);
     }
 
+    @Test
+    void transfer_shouldClosePart_whenTransferSucceeds() throws Exception {
+        var part = mock(DataSource.Part.class);
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+
+        assertThat(fakeSink.transfer(source)).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        verify(part).close();
+    }
+
+    @Test
+    void transfer_shouldNotClosePart_whenTransferFails() throws Exception {
+        fakeSink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+        var part = mock(DataSource.Part.class);
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+
+        assertThat(fakeSink.transfer(source)).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.failed()).isTrue());
+
+        verify(part, never()).close();
+    }
+
     private static class FakeParallelSink extends ParallelSink {
 
         List<DataSource.Part> parts;
@@ -32,15 +32,18 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS;
 import static org.eclipse.edc.connector.core.policy.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.connector.policy.monitor.PolicyMonitorExtension.NAME;
 import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
@@ -57,6 +60,9 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Setting(value = "the batch size in the policy monitor state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String POLICY_MONITOR_BATCH_SIZE = "edc.policy.monitor.state-machine.batch-size";
 
+    @Setting(value = "the number of worker threads in the policy monitor state machine. With more than one, every state is processed concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String POLICY_MONITOR_WORKERS = "edc.policy.monitor.state-machine.workers";
+
     @PolicyScope
     public static final String POLICY_MONITOR_SCOPE = "policy.monitor";
 
@@ -92,7 +98,7 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var iterationWaitMillis = context.getSetting(POLICY_MONITOR_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = new ExponentialWaitStrategy(iterationWaitMillis);
+        Supplier<WaitStrategy> waitStrategySupplier = () -> new ExponentialWaitStrategy(iterationWaitMillis);
 
         ruleBindingRegistry.bind(ODRL_SCHEMA + "use", POLICY_MONITOR_SCOPE);
         ruleBindingRegistry.bind(CONTRACT_EXPIRY_EVALUATION_KEY, POLICY_MONITOR_SCOPE);
@@ -101,7 +107,8 @@ public class PolicyMonitorExtension implements ServiceExtension {
         manager = PolicyMonitorManagerImpl.Builder.newInstance()
                 .clock(clock)
                 .batchSize(context.getSetting(POLICY_MONITOR_BATCH_SIZE, DEFAULT_BATCH_SIZE))
-                .waitStrategy(waitStrategy)
+                .workers(context.getSetting(POLICY_MONITOR_WORKERS, DEFAULT_WORKERS))
+                .waitStrategySupplier(waitStrategySupplier)
                 .executorInstrumentation(executorInstrumentation)
                 .monitor(context.getMonitor())
                 .telemetry(telemetry)
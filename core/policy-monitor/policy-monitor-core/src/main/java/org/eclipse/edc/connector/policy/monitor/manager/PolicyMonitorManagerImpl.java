@@ -55,7 +55,7 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processEntriesInState(STARTED, this::processMonitoring));
+                .processor(processEntriesInState(STARTED, this::processMonitoring), concurrencyFor(STARTED.code()), STARTED.code());
     }
 
     @Override
@@ -98,7 +98,7 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
                 .additional(ContractAgreement.class, contractAgreement)
                 .build();
 
-        var result = policyEngine.evaluate(POLICY_MONITOR_SCOPE, policy, policyContext);
+        var result = policyEngine.evaluate(POLICY_MONITOR_SCOPE, contractAgreement.getId(), policy, policyContext);
         if (result.failed()) {
             monitor.debug(() -> "[policy-monitor] Policy evaluation for TP %s failed: %s".formatted(entry.getId(), result.getFailureDetail()));
             var command = new TerminateTransferCommand(entry.getId(), result.getFailureDetail());
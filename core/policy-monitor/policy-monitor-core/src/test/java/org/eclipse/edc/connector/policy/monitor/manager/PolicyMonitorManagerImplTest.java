@@ -103,7 +103,7 @@ class PolicyMonitorManagerImplTest {
         when(transferProcessService.findById(entry.getId()))
                 .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
         when(contractAgreementService.findById(any())).thenReturn(contractAgreement);
-        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.failure("policy is not valid"));
+        when(policyEngine.evaluate(any(), any(), any(), isA(PolicyContext.class))).thenReturn(Result.failure("policy is not valid"));
         when(transferProcessService.terminate(any())).thenReturn(ServiceResult.success());
 
         manager.start();
@@ -111,7 +111,7 @@ class PolicyMonitorManagerImplTest {
         await().untilAsserted(() -> {
             verify(contractAgreementService).findById("contractId");
             var captor = ArgumentCaptor.forClass(PolicyContextImpl.class);
-            verify(policyEngine).evaluate(eq(POLICY_MONITOR_SCOPE), same(policy), captor.capture());
+            verify(policyEngine).evaluate(eq(POLICY_MONITOR_SCOPE), eq(contractAgreement.getId()), same(policy), captor.capture());
             var policyContext = captor.getValue();
             assertThat(policyContext.getContextData(ContractAgreement.class)).isSameAs(contractAgreement);
             verify(transferProcessService).terminate(argThat(c -> c.getEntityId().equals("transferProcessId")));
@@ -131,7 +131,7 @@ class PolicyMonitorManagerImplTest {
         when(transferProcessService.findById(entry.getId()))
                 .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
         when(contractAgreementService.findById(any())).thenReturn(createContractAgreement(policy));
-        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.failure("policy is not valid"));
+        when(policyEngine.evaluate(any(), any(), any(), isA(PolicyContext.class))).thenReturn(Result.failure("policy is not valid"));
         when(transferProcessService.terminate(any())).thenReturn(ServiceResult.conflict("failure"));
 
         manager.start();
@@ -153,7 +153,7 @@ class PolicyMonitorManagerImplTest {
         when(transferProcessService.findById(entry.getId()))
                 .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
         when(contractAgreementService.findById(any())).thenReturn(createContractAgreement(policy));
-        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        when(policyEngine.evaluate(any(), any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
 
         manager.start();
 
@@ -17,7 +17,9 @@ package org.eclipse.edc.protocol.dsp.catalog.api;
 import org.eclipse.edc.catalog.spi.DataService;
 import org.eclipse.edc.catalog.spi.DataServiceRegistry;
 import org.eclipse.edc.connector.spi.catalog.CatalogProtocolService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.protocol.dsp.api.configuration.DspApiConfiguration;
+import org.eclipse.edc.protocol.dsp.catalog.api.controller.CatalogStreamWriter;
 import org.eclipse.edc.protocol.dsp.catalog.api.controller.DspCatalogApiController;
 import org.eclipse.edc.protocol.dsp.catalog.api.validation.CatalogRequestMessageValidator;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
@@ -26,10 +28,12 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.WebService;
 
 import static org.eclipse.edc.protocol.dsp.type.DspCatalogPropertyAndTypeNames.DSPACE_TYPE_CATALOG_REQUEST_MESSAGE;
+import static org.eclipse.edc.protocol.dsp.type.DspConstants.DSP_SCOPE;
 
 /**
  * Creates and registers the controller for dataspace protocol catalog requests.
@@ -53,6 +57,10 @@ public class DspCatalogApiExtension implements ServiceExtension {
     private DspRequestHandler dspRequestHandler;
     @Inject
     private CriterionOperatorRegistry criterionOperatorRegistry;
+    @Inject
+    private TypeTransformerRegistry transformerRegistry;
+    @Inject
+    private JsonLd jsonLd;
 
     @Override
     public String name() {
@@ -63,7 +71,8 @@ public class DspCatalogApiExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         validatorRegistry.register(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE, CatalogRequestMessageValidator.instance(criterionOperatorRegistry));
 
-        var catalogController = new DspCatalogApiController(service, dspRequestHandler);
+        var catalogStreamWriter = new CatalogStreamWriter(transformerRegistry, jsonLd, DSP_SCOPE);
+        var catalogController = new DspCatalogApiController(service, dspRequestHandler, catalogStreamWriter);
         webService.registerResource(apiConfiguration.getContextAlias(), catalogController);
 
         dataServiceRegistry.register(DataService.Builder.newInstance()
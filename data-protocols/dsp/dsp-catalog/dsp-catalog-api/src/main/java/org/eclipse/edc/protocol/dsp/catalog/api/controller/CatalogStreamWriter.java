@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.api.controller;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.StreamedCatalog;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+
+/**
+ * Writes a {@link StreamedCatalog} as compacted JSON-LD, one dataset at a time.
+ * <p>
+ * The catalog envelope (data services, properties, {@code @context}) is transformed and compacted upfront, then every
+ * dataset is transformed, compacted and written as soon as it gets resolved, so the catalog is never held in memory as
+ * a whole. Datasets are compacted against the same context as the envelope, so their own {@code @context} is omitted.
+ * <p>
+ * The first dataset is compacted upfront as well, so that a failing transformation is reported before the response
+ * gets committed. A dataset failing later cannot change the response status anymore: the catalog is then left
+ * incomplete and the exception is propagated, so that the response is aborted instead of being completed.
+ */
+public class CatalogStreamWriter {
+
+    private final TypeTransformerRegistry transformerRegistry;
+    private final JsonLd jsonLd;
+    private final String scope;
+
+    public CatalogStreamWriter(TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, String scope) {
+        this.transformerRegistry = transformerRegistry;
+        this.jsonLd = jsonLd;
+        this.scope = scope;
+    }
+
+    /**
+     * Prepare the catalog envelope and return the {@link StreamingOutput} that writes the whole catalog.
+     * The {@link StreamedCatalog} gets closed once written, or immediately if the envelope or the first dataset cannot
+     * be created.
+     *
+     * @param streamedCatalog the catalog.
+     * @return the {@link StreamingOutput} if succeeded, failure otherwise.
+     */
+    public Result<StreamingOutput> write(StreamedCatalog streamedCatalog) {
+        var envelope = transformerRegistry.transform(streamedCatalog.catalog(), JsonObject.class)
+                .compose(it -> jsonLd.compact(it, scope));
+        var datasetKey = datasetKey();
+
+        if (envelope.failed() || datasetKey.failed()) {
+            streamedCatalog.close();
+            return envelope.failed() ? envelope.mapTo() : datasetKey.mapTo();
+        }
+
+        var datasets = streamedCatalog.datasets().iterator();
+        Result<JsonObject> first;
+        try {
+            first = datasets.hasNext() ? compact(datasets.next()) : null;
+        } catch (Exception e) {
+            streamedCatalog.close();
+            throw e;
+        }
+        if (first != null && first.failed()) {
+            streamedCatalog.close();
+            return first.mapTo();
+        }
+
+        return Result.success(output -> {
+            try (streamedCatalog) {
+                // the generator is closed only on success: closing it on failure would complete the truncated catalog
+                var generator = Json.createGeneratorFactory(Map.of()).createGenerator(output);
+                writeCatalog(generator, envelope.getContent(), datasetKey.getContent(), first, datasets);
+                generator.close();
+            }
+        });
+    }
+
+    private void writeCatalog(JsonGenerator generator, JsonObject envelope, String datasetKey, Result<JsonObject> first, Iterator<Dataset> datasets) {
+        generator.writeStartObject();
+        envelope.entrySet().stream()
+                .filter(entry -> !entry.getKey().equals(datasetKey))
+                .forEach(entry -> generator.write(entry.getKey(), entry.getValue()));
+
+        generator.writeStartArray(datasetKey);
+        if (first != null) {
+            writeDataset(generator, first.getContent());
+        }
+        datasets.forEachRemaining(dataset -> {
+            var compacted = compact(dataset)
+                    .orElseThrow(failure -> new EdcException("Error writing dataset %s: %s".formatted(dataset.getId(), failure.getFailureDetail())));
+            writeDataset(generator, compacted);
+        });
+        generator.writeEnd();
+
+        generator.writeEnd();
+    }
+
+    private void writeDataset(JsonGenerator generator, JsonObject compacted) {
+        generator.writeStartObject();
+        compacted.entrySet().stream()
+                .filter(entry -> !entry.getKey().equals(CONTEXT))
+                .forEach(entry -> generator.write(entry.getKey(), entry.getValue()));
+        generator.writeEnd();
+    }
+
+    private Result<JsonObject> compact(Dataset dataset) {
+        return transformerRegistry.transform(dataset, JsonObject.class)
+                .compose(it -> jsonLd.compact(it, scope));
+    }
+
+    /**
+     * The compacted form of the dcat:dataset property depends on the namespaces registered in the scope, so it's
+     * obtained by compacting an object containing only that property.
+     */
+    private Result<String> datasetKey() {
+        var probe = Json.createObjectBuilder().add(DCAT_DATASET_ATTRIBUTE, Json.createArrayBuilder()).build();
+        return jsonLd.compact(probe, scope)
+                .map(compacted -> compacted.keySet().stream()
+                        .filter(key -> !key.equals(CONTEXT))
+                        .findFirst()
+                        .orElse(DCAT_DATASET_ATTRIBUTE));
+    }
+
+}
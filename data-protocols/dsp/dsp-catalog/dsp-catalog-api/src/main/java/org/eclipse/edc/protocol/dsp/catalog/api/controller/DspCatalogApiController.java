@@ -23,9 +23,9 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Response;
-import org.eclipse.edc.catalog.spi.Catalog;
 import org.eclipse.edc.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.StreamedCatalog;
 import org.eclipse.edc.connector.spi.catalog.CatalogProtocolService;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.spi.message.GetDspRequest;
@@ -49,24 +49,26 @@ public class DspCatalogApiController {
 
     private final CatalogProtocolService service;
     private final DspRequestHandler dspRequestHandler;
+    private final CatalogStreamWriter catalogStreamWriter;
 
-    public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler) {
+    public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, CatalogStreamWriter catalogStreamWriter) {
         this.service = service;
         this.dspRequestHandler = dspRequestHandler;
+        this.catalogStreamWriter = catalogStreamWriter;
     }
 
     @POST
     @Path(CATALOG_REQUEST)
     public Response requestCatalog(JsonObject jsonObject, @HeaderParam(AUTHORIZATION) String token) {
-        var request = PostDspRequest.Builder.newInstance(CatalogRequestMessage.class, Catalog.class)
+        var request = PostDspRequest.Builder.newInstance(CatalogRequestMessage.class, StreamedCatalog.class)
                 .token(token)
                 .expectedMessageType(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE)
                 .message(jsonObject)
-                .serviceCall(service::getCatalog)
+                .serviceCall(service::streamCatalog)
                 .errorType(DSPACE_TYPE_CATALOG_ERROR)
                 .build();
 
-        return dspRequestHandler.createResource(request);
+        return dspRequestHandler.createResource(request, catalogStreamWriter::write);
     }
 
     @GET
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.api.controller;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.catalog.spi.Catalog;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.StreamedCatalog;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_CATALOG_TYPE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_TYPE;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CatalogStreamWriterTest {
+
+    private static final String SCOPE = "scope";
+    private final TypeTransformerRegistry transformerRegistry = mock();
+    private final JsonLd jsonLd = new TitaniumJsonLd(mock());
+    private final CatalogStreamWriter writer = new CatalogStreamWriter(transformerRegistry, jsonLd, SCOPE);
+
+    @BeforeEach
+    void setUp() {
+        jsonLd.registerNamespace(DCAT_PREFIX, DCAT_SCHEMA, SCOPE);
+    }
+
+    @Test
+    void write_shouldWriteCompactedCatalogWithAllDatasets() throws IOException {
+        var catalog = Catalog.Builder.newInstance().id("catalogId").datasets(List.of()).build();
+        var catalogJson = Json.createObjectBuilder()
+                .add(ID, "catalogId")
+                .add(TYPE, Json.createArrayBuilder().add(DCAT_CATALOG_TYPE))
+                .add(DCAT_DATASET_ATTRIBUTE, Json.createArrayBuilder())
+                .build();
+        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class))).thenReturn(Result.success(catalogJson));
+        when(transformerRegistry.transform(any(Dataset.class), eq(JsonObject.class))).thenAnswer(i -> {
+            var dataset = (Dataset) i.getArgument(0);
+            return Result.success(Json.createObjectBuilder().add(ID, dataset.getId()).add(TYPE, DCAT_DATASET_TYPE).build());
+        });
+        var datasets = Stream.of(dataset("dataset1"), dataset("dataset2"));
+
+        var result = writer.write(new StreamedCatalog(catalog, datasets));
+
+        assertThat(result).isSucceeded();
+        var output = new ByteArrayOutputStream();
+        result.getContent().write(output);
+        var json = Json.createReader(new StringReader(output.toString())).readObject();
+        assertThat(json.getString(ID)).isEqualTo("catalogId");
+        assertThat(json.getJsonObject(CONTEXT).getString(DCAT_PREFIX)).isEqualTo(DCAT_SCHEMA);
+        assertThat(json.getJsonArray(DCAT_PREFIX + ":dataset")).hasSize(2).allSatisfy(dataset -> {
+            assertThat(dataset.asJsonObject()).doesNotContainKey(CONTEXT);
+            assertThat(dataset.asJsonObject().getString(TYPE)).isEqualTo(DCAT_PREFIX + ":Dataset");
+        });
+    }
+
+    @Test
+    void write_shouldFailAndCloseDatasets_whenCatalogTransformationFails() {
+        var closed = new AtomicBoolean();
+        var catalog = Catalog.Builder.newInstance().id("catalogId").datasets(List.of()).build();
+        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class))).thenReturn(Result.failure("error"));
+
+        var result = writer.write(new StreamedCatalog(catalog, Stream.of(dataset("dataset")).onClose(() -> closed.set(true))));
+
+        assertThat(result).isFailed();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void write_shouldFailAndCloseDatasets_whenFirstDatasetTransformationFails() {
+        var closed = new AtomicBoolean();
+        var catalog = Catalog.Builder.newInstance().id("catalogId").datasets(List.of()).build();
+        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class))).thenReturn(Result.success(catalogJson()));
+        when(transformerRegistry.transform(any(Dataset.class), eq(JsonObject.class))).thenReturn(Result.failure("error"));
+
+        var result = writer.write(new StreamedCatalog(catalog, Stream.of(dataset("dataset")).onClose(() -> closed.set(true))));
+
+        assertThat(result).isFailed();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void write_shouldNotCompleteCatalog_whenLaterDatasetTransformationFails() {
+        var closed = new AtomicBoolean();
+        var catalog = Catalog.Builder.newInstance().id("catalogId").datasets(List.of()).build();
+        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class))).thenReturn(Result.success(catalogJson()));
+        when(transformerRegistry.transform(any(Dataset.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(Json.createObjectBuilder().add(ID, "dataset1").add(TYPE, DCAT_DATASET_TYPE).build()))
+                .thenReturn(Result.failure("error"));
+        var datasets = Stream.of(dataset("dataset1"), dataset("dataset2")).onClose(() -> closed.set(true));
+
+        var result = writer.write(new StreamedCatalog(catalog, datasets));
+
+        assertThat(result).isSucceeded();
+        var output = new ByteArrayOutputStream();
+        assertThatThrownBy(() -> result.getContent().write(output)).isInstanceOf(EdcException.class);
+        assertThat(closed).isTrue();
+        assertThatThrownBy(() -> Json.createReader(new StringReader(output.toString())).readObject()).isInstanceOf(JsonException.class);
+    }
+
+    private JsonObject catalogJson() {
+        return Json.createObjectBuilder()
+                .add(ID, "catalogId")
+                .add(TYPE, Json.createArrayBuilder().add(DCAT_CATALOG_TYPE))
+                .add(DCAT_DATASET_ATTRIBUTE, Json.createArrayBuilder())
+                .build();
+    }
+
+    private Dataset dataset(String id) {
+        return Dataset.Builder.newInstance().id(id).build();
+    }
+}
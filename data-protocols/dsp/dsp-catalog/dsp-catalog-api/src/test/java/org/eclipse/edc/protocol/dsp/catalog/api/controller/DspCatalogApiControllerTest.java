@@ -15,20 +15,16 @@
 package org.eclipse.edc.protocol.dsp.catalog.api.controller;
 
 import io.restassured.specification.RequestSpecification;
-import jakarta.json.JsonObject;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
-import org.eclipse.edc.catalog.spi.Catalog;
 import org.eclipse.edc.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.StreamedCatalog;
 import org.eclipse.edc.connector.spi.catalog.CatalogProtocolService;
-import org.eclipse.edc.jsonld.spi.JsonLdKeywords;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.spi.message.PostDspRequest;
-import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -45,7 +41,6 @@ import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.CATALOG_R
 import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.DATASET_REQUEST;
 import static org.eclipse.edc.protocol.dsp.type.DspCatalogPropertyAndTypeNames.DSPACE_TYPE_CATALOG_REQUEST_MESSAGE;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -53,17 +48,15 @@ import static org.mockito.Mockito.when;
 @ApiTest
 class DspCatalogApiControllerTest extends RestControllerTestBase {
 
-    private final TypeTransformerRegistry transformerRegistry = mock();
     private final CatalogProtocolService service = mock();
     private final DspRequestHandler dspRequestHandler = mock();
+    private final CatalogStreamWriter catalogStreamWriter = mock();
 
     @Test
     void requestCatalog_shouldCreateResource() {
         var requestBody = createObjectBuilder().add(TYPE, DSPACE_TYPE_CATALOG_REQUEST_MESSAGE).build();
-        var catalog = createObjectBuilder().add(JsonLdKeywords.TYPE, "catalog").build();
 
-        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class))).thenReturn(Result.success(catalog));
-        when(dspRequestHandler.createResource(any())).thenReturn(Response.ok().type(APPLICATION_JSON_TYPE).build());
+        when(dspRequestHandler.createResource(any(), any())).thenReturn(Response.ok().type(APPLICATION_JSON_TYPE).build());
 
         baseRequest()
                 .contentType(JSON)
@@ -74,10 +67,10 @@ class DspCatalogApiControllerTest extends RestControllerTestBase {
                 .contentType(JSON);
 
         var captor = ArgumentCaptor.forClass(PostDspRequest.class);
-        verify(dspRequestHandler).createResource(captor.capture());
+        verify(dspRequestHandler).createResource(captor.capture(), any());
         var request = captor.getValue();
         assertThat(request.getInputClass()).isEqualTo(CatalogRequestMessage.class);
-        assertThat(request.getResultClass()).isEqualTo(Catalog.class);
+        assertThat(request.getResultClass()).isEqualTo(StreamedCatalog.class);
         assertThat(request.getExpectedMessageType()).isEqualTo(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE);
         assertThat(request.getProcessId()).isNull();
         assertThat(request.getToken()).isEqualTo("auth");
@@ -105,7 +98,7 @@ class DspCatalogApiControllerTest extends RestControllerTestBase {
 
     @Override
     protected Object controller() {
-        return new DspCatalogApiController(service, dspRequestHandler);
+        return new DspCatalogApiController(service, dspRequestHandler, catalogStreamWriter);
     }
 
     private RequestSpecification baseRequest() {
@@ -31,6 +31,7 @@ import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
 import org.eclipse.edc.protocol.dsp.dispatcher.DspHttpRemoteMessageDispatcherImpl;
+import org.eclipse.edc.protocol.dsp.dispatcher.TokenCache;
 import org.eclipse.edc.protocol.dsp.message.DspRequestHandlerImpl;
 import org.eclipse.edc.protocol.dsp.serialization.JsonLdRemoteMessageSerializerImpl;
 import org.eclipse.edc.protocol.dsp.spi.dispatcher.DspHttpRemoteMessageDispatcher;
@@ -39,11 +40,13 @@ import org.eclipse.edc.protocol.dsp.spi.serialization.JsonLdRemoteMessageSeriali
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.iam.AudienceResolver;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -51,6 +54,11 @@ import org.eclipse.edc.token.spi.TokenDecorator;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.eclipse.edc.protocol.dsp.type.DspConstants.DSP_SCOPE;
 import static org.eclipse.edc.spi.CoreConstants.JSON_LD;
 
@@ -64,6 +72,23 @@ public class DspHttpCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Dataspace Protocol Core Extension";
 
+    private static final boolean DEFAULT_TOKEN_CACHE_ENABLED = true;
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 1000;
+    private static final long DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN = 30;
+    private static final long DEFAULT_TOKEN_CACHE_REFRESH_AHEAD = 60;
+
+    @Setting(value = "whether the tokens obtained for outgoing protocol messages are cached and reused until they expire. Default value " + DEFAULT_TOKEN_CACHE_ENABLED, type = "boolean")
+    private static final String TOKEN_CACHE_ENABLED = "edc.dsp.token.cache.enabled";
+
+    @Setting(value = "the max number of tokens kept in the cache, the least recently used ones get evicted first. Default value " + DEFAULT_TOKEN_CACHE_SIZE, type = "int")
+    private static final String TOKEN_CACHE_SIZE = "edc.dsp.token.cache.size";
+
+    @Setting(value = "the safety margin in seconds subtracted from the expiration of a cached token. Default value " + DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN, type = "long")
+    private static final String TOKEN_CACHE_EXPIRY_MARGIN = "edc.dsp.token.cache.expiry.margin";
+
+    @Setting(value = "how many seconds before its expiration a cached token gets refreshed. Default value " + DEFAULT_TOKEN_CACHE_REFRESH_AHEAD, type = "long")
+    private static final String TOKEN_CACHE_REFRESH_AHEAD = "edc.dsp.token.cache.refresh.ahead";
+
     /**
      * Policy scope evaluated when a contract negotiation request is made.
      */
@@ -104,9 +129,17 @@ public class DspHttpCoreExtension implements ServiceExtension {
     @Inject
     private Monitor monitor;
 
+    @Inject
+    private Clock clock;
+
     @Inject
     private JsonObjectValidatorRegistry validatorRegistry;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService tokenRefreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -122,7 +155,16 @@ public class DspHttpCoreExtension implements ServiceExtension {
             td = bldr -> bldr;
         }
 
-        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver);
+        TokenCache tokenCache = null;
+        var tokenCacheSize = context.getSetting(TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE);
+        if (context.getSetting(TOKEN_CACHE_ENABLED, DEFAULT_TOKEN_CACHE_ENABLED) && tokenCacheSize > 0) {
+            var expiryMargin = Duration.ofSeconds(context.getSetting(TOKEN_CACHE_EXPIRY_MARGIN, DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN));
+            var refreshAhead = Duration.ofSeconds(context.getSetting(TOKEN_CACHE_REFRESH_AHEAD, DEFAULT_TOKEN_CACHE_REFRESH_AHEAD));
+            tokenRefreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "DSP token refresh");
+            tokenCache = new TokenCache(clock, tokenCacheSize, expiryMargin, refreshAhead, tokenRefreshExecutor);
+        }
+
+        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver, tokenCache);
         registerNegotiationPolicyScopes(dispatcher);
         registerTransferProcessPolicyScopes(dispatcher);
         registerCatalogPolicyScopes(dispatcher);
@@ -130,6 +172,13 @@ public class DspHttpCoreExtension implements ServiceExtension {
         return dispatcher;
     }
 
+    @Override
+    public void shutdown() {
+        if (tokenRefreshExecutor != null) {
+            tokenRefreshExecutor.shutdownNow();
+        }
+    }
+
     @Provider
     public DspRequestHandler dspRequestHandler() {
         return new DspRequestHandlerImpl(monitor, validatorRegistry, transformerRegistry);
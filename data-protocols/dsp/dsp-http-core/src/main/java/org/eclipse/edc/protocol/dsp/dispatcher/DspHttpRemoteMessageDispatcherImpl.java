@@ -33,6 +33,7 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 import org.eclipse.edc.token.spi.TokenDecorator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.HashMap;
@@ -61,6 +62,7 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
     private final TokenDecorator tokenDecorator;
 
     private final AudienceResolver audienceResolver;
+    private final TokenCache tokenCache;
 
     private static final String AUDIENCE_CLAIM = "aud";
     private static final String SCOPE_CLAIM = "scope";
@@ -71,11 +73,21 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
                                               TokenDecorator decorator,
                                               PolicyEngine policyEngine,
                                               AudienceResolver audienceResolver) {
+        this(httpClient, identityService, decorator, policyEngine, audienceResolver, null);
+    }
+
+    public DspHttpRemoteMessageDispatcherImpl(EdcHttpClient httpClient,
+                                              IdentityService identityService,
+                                              TokenDecorator decorator,
+                                              PolicyEngine policyEngine,
+                                              AudienceResolver audienceResolver,
+                                              @Nullable TokenCache tokenCache) {
         this.httpClient = httpClient;
         this.identityService = identityService;
         this.policyEngine = policyEngine;
         this.tokenDecorator = decorator;
         this.audienceResolver = audienceResolver;
+        this.tokenCache = tokenCache;
     }
 
     @Override
@@ -111,7 +123,11 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
                 .claims(AUDIENCE_CLAIM, audienceResolver.resolve(message)) // enforce the audience, ignore anything a decorator might have set
                 .build();
 
-        return identityService.obtainClientCredentials(tokenParameters)
+        var tokenResult = tokenCache != null
+                ? tokenCache.obtain(tokenParameters, identityService::obtainClientCredentials)
+                : identityService.obtainClientCredentials(tokenParameters);
+
+        return tokenResult
                 .map(token -> {
                     var requestWithAuth = request.newBuilder()
                             .header("Authorization", token.getToken())
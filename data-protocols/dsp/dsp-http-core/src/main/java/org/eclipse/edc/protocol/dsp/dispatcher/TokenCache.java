@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.dispatcher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ConcurrentCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Caches the tokens obtained for outgoing protocol messages, keyed by their {@link TokenParameters}, that contain
+ * audience and scope. At most {@code cacheSize} tokens are kept, the least recently used ones are evicted first.
+ * <p>
+ * A token is reused until its expiration minus {@code expiryMargin}. The expiration is taken from
+ * {@link TokenRepresentation#getExpiresIn()} or, if missing, from the {@code exp} claim of the token if it is a JWT:
+ * tokens without a known expiration are never cached. As the expiration differs for every token, it's kept with the
+ * token instead of being a time to live of the cache. Once {@code refreshAhead} before the expiration, a new token is
+ * obtained on the {@code refreshExecutor} while the callers keep using the cached one. Concurrent requests for a key
+ * that has no valid token are deduplicated, so only one of them hits the identity service.
+ */
+public class TokenCache {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ConcurrentCache<CacheKey, CachedToken> tokens;
+    private final Map<CacheKey, CompletableFuture<Result<TokenRepresentation>>> inFlight = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Duration expiryMargin;
+    private final Duration refreshAhead;
+    private final Executor refreshExecutor;
+
+    public TokenCache(Clock clock, int cacheSize, Duration expiryMargin, Duration refreshAhead, Executor refreshExecutor) {
+        this.clock = clock;
+        this.expiryMargin = expiryMargin;
+        this.refreshAhead = refreshAhead;
+        this.refreshExecutor = refreshExecutor;
+        this.tokens = ConcurrentCache.Builder.<CacheKey, CachedToken>newInstance()
+                .maximumWeight(cacheSize)
+                .clock(clock)
+                .build();
+    }
+
+    /**
+     * Returns a valid cached token for the parameters, or obtains a new one through the passed function.
+     *
+     * @param parameters the token parameters.
+     * @param obtainer   the function that obtains a new token.
+     * @return the token, or the failure returned by the obtainer.
+     */
+    public Result<TokenRepresentation> obtain(TokenParameters parameters, Function<TokenParameters, Result<TokenRepresentation>> obtainer) {
+        var key = new CacheKey(new HashMap<>(parameters.getClaims()), new HashMap<>(parameters.getHeaders()));
+        var now = clock.instant();
+
+        var cached = tokens.get(key);
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            if (!now.isBefore(cached.refreshAt())) {
+                refresh(key, parameters, obtainer);
+            }
+            return Result.success(cached.token());
+        }
+
+        return await(fetch(key, parameters, obtainer, Runnable::run));
+    }
+
+    private void refresh(CacheKey key, TokenParameters parameters, Function<TokenParameters, Result<TokenRepresentation>> obtainer) {
+        if (!inFlight.containsKey(key)) {
+            fetch(key, parameters, obtainer, refreshExecutor);
+        }
+    }
+
+    /**
+     * Obtains a token on the executor, unless it's being obtained already: in that case the pending future is returned.
+     */
+    private CompletableFuture<Result<TokenRepresentation>> fetch(CacheKey key, TokenParameters parameters,
+                                                                Function<TokenParameters, Result<TokenRepresentation>> obtainer, Executor executor) {
+        var future = new CompletableFuture<Result<TokenRepresentation>>();
+        var existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    var result = obtainer.apply(parameters);
+                    if (result.succeeded()) {
+                        cache(key, result.getContent());
+                    }
+                    future.complete(result);
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private Result<TokenRepresentation> await(CompletableFuture<Result<TokenRepresentation>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new EdcException(e.getCause());
+        }
+    }
+
+    private void cache(CacheKey key, TokenRepresentation token) {
+        var now = clock.instant();
+        var expiration = expiration(token, now);
+        if (expiration == null) {
+            return;
+        }
+
+        var expiresAt = expiration.minus(expiryMargin);
+        if (expiresAt.isAfter(now)) {
+            var refreshAt = expiresAt.minus(refreshAhead);
+            if (refreshAt.isBefore(now)) {
+                // short-lived token: avoid refreshing it on every call
+                refreshAt = now.plus(Duration.between(now, expiresAt).dividedBy(2));
+            }
+            tokens.put(key, new CachedToken(token, refreshAt, expiresAt));
+        }
+    }
+
+    @Nullable
+    private Instant expiration(TokenRepresentation token, Instant now) {
+        if (token.getExpiresIn() != null) {
+            return now.plusSeconds(token.getExpiresIn());
+        }
+
+        var jwt = token.getToken();
+        if (jwt == null) {
+            return null;
+        }
+        var parts = jwt.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            var exp = MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+            return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record CacheKey(Map<String, Object> claims, Map<String, Object> headers) {
+    }
+
+    private record CachedToken(TokenRepresentation token, Instant refreshAt, Instant expiresAt) {
+    }
+}
@@ -29,6 +29,7 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.eclipse.edc.protocol.dsp.spi.error.DspErrorResponse.type;
 import static org.eclipse.edc.protocol.dsp.spi.types.HttpMessageProtocol.DATASPACE_PROTOCOL_HTTP;
@@ -71,6 +72,11 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
 
     @Override
     public <I extends RemoteMessage, R> Response createResource(PostDspRequest<I, R> request) {
+        return createResource(request, resource -> transformerRegistry.transform(resource, JsonObject.class));
+    }
+
+    @Override
+    public <I extends RemoteMessage, R, B> Response createResource(PostDspRequest<I, R> request, Function<R, Result<B>> bodyProvider) {
         monitor.debug(() -> "DSP: Incoming %s for %s process%s".formatted(
                 request.getInputClass().getSimpleName(),
                 request.getResultClass(),
@@ -105,7 +111,7 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
 
         var resource = serviceResult.getContent();
 
-        var outputTransformation = transformerRegistry.transform(resource, JsonObject.class);
+        var outputTransformation = bodyProvider.apply(resource);
         if (outputTransformation.failed()) {
             var errorCode = UUID.randomUUID();
             monitor.warning("Error transforming %s, error id %s: %s".formatted(request.getResultClass().getSimpleName(), errorCode, outputTransformation.getFailureDetail()));
@@ -0,0 +1,259 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.dispatcher;
+
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final Clock clock = mock();
+    private final Function<TokenParameters, Result<TokenRepresentation>> obtainer = mock();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final TokenCache cache = new TokenCache(clock, 100, Duration.ofSeconds(30), Duration.ofSeconds(60), refreshes::add);
+
+    @Test
+    void obtain_shouldReuseToken_whenNotExpired() {
+        when(clock.instant()).thenReturn(NOW);
+        when(obtainer.apply(any())).thenReturn(Result.success(token("token", 300L)));
+
+        var first = cache.obtain(parameters("aud"), obtainer);
+        var second = cache.obtain(parameters("aud"), obtainer);
+
+        assertThat(first).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token");
+        assertThat(second).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token");
+        verify(obtainer, times(1)).apply(any());
+    }
+
+    @Test
+    void obtain_shouldObtainNewToken_whenAudienceDiffers() {
+        when(clock.instant()).thenReturn(NOW);
+        when(obtainer.apply(any())).thenReturn(Result.success(token("token", 300L)));
+
+        cache.obtain(parameters("aud1"), obtainer);
+        cache.obtain(parameters("aud2"), obtainer);
+
+        verify(obtainer, times(2)).apply(any());
+    }
+
+    @Test
+    void obtain_shouldNotCache_whenExpirationIsUnknown() {
+        when(clock.instant()).thenReturn(NOW);
+        when(obtainer.apply(any())).thenReturn(Result.success(token("opaque", null)));
+
+        cache.obtain(parameters("aud"), obtainer);
+        cache.obtain(parameters("aud"), obtainer);
+
+        verify(obtainer, times(2)).apply(any());
+    }
+
+    @Test
+    void obtain_shouldNotCacheFailures() {
+        when(clock.instant()).thenReturn(NOW);
+        when(obtainer.apply(any())).thenReturn(Result.failure("error"));
+
+        assertThat(cache.obtain(parameters("aud"), obtainer)).isFailed();
+        assertThat(cache.obtain(parameters("aud"), obtainer)).isFailed();
+
+        verify(obtainer, times(2)).apply(any());
+    }
+
+    @Test
+    void obtain_shouldRefreshToken_whenCloseToExpiration() {
+        when(clock.instant()).thenReturn(NOW);
+        when(obtainer.apply(any())).thenReturn(Result.success(token("first", 300L)), Result.success(token("second", 300L)));
+        cache.obtain(parameters("aud"), obtainer);
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(215));
+        var result = cache.obtain(parameters("aud"), obtainer);
+
+        assertThat(result).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("first");
+        assertThat(refreshes).hasSize(1);
+        verify(obtainer, times(1)).apply(any());
+
+        refreshes.forEach(Runnable::run);
+
+        assertThat(cache.obtain(parameters("aud"), obtainer)).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("second");
+    }
+
+    @Test
+    void obtain_shouldRefreshOnce_whenRefreshIsPending() {
+        when(clock.instant()).thenReturn(NOW);
+        when(obtainer.apply(any())).thenReturn(Result.success(token("first", 300L)), Result.success(token("second", 300L)));
+        cache.obtain(parameters("aud"), obtainer);
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(215));
+        cache.obtain(parameters("aud"), obtainer);
+        cache.obtain(parameters("aud"), obtainer);
+
+        assertThat(refreshes).hasSize(1);
+    }
+
+    @Test
+    void obtain_shouldKeepCachedToken_whenRefreshFails() {
+        when(clock.instant()).thenReturn(NOW);
+        when(obtainer.apply(any())).thenReturn(Result.success(token("first", 300L)), Result.failure("error"));
+        cache.obtain(parameters("aud"), obtainer);
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(215));
+        cache.obtain(parameters("aud"), obtainer);
+        refreshes.forEach(Runnable::run);
+
+        var result = cache.obtain(parameters("aud"), obtainer);
+
+        assertThat(result).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("first");
+    }
+
+    @Test
+    void obtain_shouldObtainNewToken_whenExpired() {
+        when(clock.instant()).thenReturn(NOW);
+        when(obtainer.apply(any())).thenReturn(Result.success(token("first", 300L)), Result.failure("error"));
+        cache.obtain(parameters("aud"), obtainer);
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(271));
+        var result = cache.obtain(parameters("aud"), obtainer);
+
+        assertThat(result).isFailed();
+    }
+
+    @Test
+    void obtain_shouldUseJwtExpiration_whenExpiresInIsMissing() {
+        when(clock.instant()).thenReturn(NOW);
+        var jwt = jwt(NOW.plusSeconds(300).getEpochSecond());
+        when(obtainer.apply(any())).thenReturn(Result.success(token(jwt, null)));
+
+        cache.obtain(parameters("aud"), obtainer);
+        cache.obtain(parameters("aud"), obtainer);
+        verify(obtainer, times(1)).apply(any());
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(271));
+        cache.obtain(parameters("aud"), obtainer);
+        verify(obtainer, times(2)).apply(any());
+    }
+
+    @Test
+    void obtain_shouldDeduplicateConcurrentRequests() throws InterruptedException {
+        when(clock.instant()).thenReturn(NOW);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var calls = new AtomicInteger();
+        Function<TokenParameters, Result<TokenRepresentation>> slowObtainer = p -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Result.success(token("token", 300L));
+        };
+        var executor = Executors.newFixedThreadPool(2);
+        var results = new CopyOnWriteArrayList<Result<TokenRepresentation>>();
+
+        executor.submit(() -> results.add(cache.obtain(parameters("aud"), slowObtainer)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.submit(() -> results.add(cache.obtain(parameters("aud"), slowObtainer)));
+        Thread.sleep(100);
+        release.countDown();
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(results).hasSize(2).allSatisfy(r -> assertThat(r).isSucceeded());
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void obtain_shouldRethrowObtainerException_whenDeduplicated() throws InterruptedException {
+        when(clock.instant()).thenReturn(NOW);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Function<TokenParameters, Result<TokenRepresentation>> failingObtainer = p -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("identity service unavailable");
+        };
+        var executor = Executors.newFixedThreadPool(2);
+        var errors = new CopyOnWriteArrayList<Throwable>();
+
+        executor.submit(() -> errors.add(catchThrowable(() -> cache.obtain(parameters("aud"), failingObtainer))));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.submit(() -> errors.add(catchThrowable(() -> cache.obtain(parameters("aud"), failingObtainer))));
+        Thread.sleep(100);
+        release.countDown();
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(errors).hasSize(2).allSatisfy(error -> assertThat(error)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("identity service unavailable"));
+    }
+
+    @Test
+    void obtain_shouldEvictLeastRecentlyUsedToken_whenCacheIsFull() {
+        when(clock.instant()).thenReturn(NOW);
+        when(obtainer.apply(any())).thenReturn(Result.success(token("token", 300L)));
+        var smallCache = new TokenCache(clock, 1, Duration.ofSeconds(30), Duration.ofSeconds(60), refreshes::add);
+
+        smallCache.obtain(parameters("aud1"), obtainer);
+        smallCache.obtain(parameters("aud2"), obtainer);
+        smallCache.obtain(parameters("aud1"), obtainer);
+
+        verify(obtainer, times(3)).apply(any());
+    }
+
+    private TokenParameters parameters(String audience) {
+        return TokenParameters.Builder.newInstance().claims("aud", audience).claims("scope", "scope").build();
+    }
+
+    private TokenRepresentation token(String token, Long expiresIn) {
+        return TokenRepresentation.Builder.newInstance().token(token).expiresIn(expiresIn).build();
+    }
+
+    private String jwt(long exp) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"none\"}".getBytes()) + "." +
+                encoder.encodeToString(("{\"exp\":" + exp + "}").getBytes()) + ".signature";
+    }
+}
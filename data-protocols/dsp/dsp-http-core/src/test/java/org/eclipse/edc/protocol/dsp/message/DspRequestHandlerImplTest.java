@@ -43,6 +43,7 @@ import static org.eclipse.edc.validator.spi.Violation.violation;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -216,6 +217,34 @@ class DspRequestHandlerImplTest {
             assertThat(result.getStatus()).isEqualTo(500);
         }
 
+        @Test
+        void shouldUseBodyProvider_whenPassed() {
+            var message = mock(TestProcessRemoteMessage.class);
+            var content = new Object();
+            var body = "body";
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TestProcessRemoteMessage.class))).thenReturn(Result.success(message));
+            var request = postDspRequestBuilder().serviceCall((m, t) -> ServiceResult.success(content)).build();
+
+            var result = handler.createResource(request, resource -> Result.success(body));
+
+            assertThat(result.getStatus()).isEqualTo(200);
+            assertThat(result.getEntity()).isSameAs(body);
+            verify(transformerRegistry, never()).transform(any(), eq(JsonObject.class));
+        }
+
+        @Test
+        void shouldReturnInternalServerError_whenBodyProviderFails() {
+            var message = mock(TestProcessRemoteMessage.class);
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TestProcessRemoteMessage.class))).thenReturn(Result.success(message));
+            var request = postDspRequestBuilder().build();
+
+            var result = handler.createResource(request, resource -> Result.failure("error"));
+
+            assertThat(result.getStatus()).isEqualTo(500);
+        }
+
         private PostDspRequest.Builder<TestProcessRemoteMessage, Object> postDspRequestBuilder() {
             return PostDspRequest.Builder
                     .newInstance(TestProcessRemoteMessage.class, Object.class)
@@ -15,8 +15,11 @@
 package org.eclipse.edc.protocol.dsp.spi.message;
 
 import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 
+import java.util.function.Function;
+
 /**
  * Handles incoming DSP requests
  */
@@ -42,6 +45,20 @@ public interface DspRequestHandler {
      */
     <I extends RemoteMessage, R> Response createResource(PostDspRequest<I, R> request);
 
+    /**
+     * Verify identity, validate incoming message, transform, call the service to create the resource and return it as
+     * response, using the passed function to create the response body. This permits to return bodies that are not
+     * built in memory, like a {@link jakarta.ws.rs.core.StreamingOutput}.
+     *
+     * @param request      the request.
+     * @param bodyProvider function that creates the response body from the resource.
+     * @return the response to be returned to the client.
+     * @param <I> the input type.
+     * @param <R> the result type.
+     * @param <B> the response body type.
+     */
+    <I extends RemoteMessage, R, B> Response createResource(PostDspRequest<I, R> request, Function<R, Result<B>> bodyProvider);
+
     /**
      * Verify identity, validate incoming message, transform and call the service.
      *
@@ -21,19 +21,36 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.KeyParserRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+
 
 @Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class })
 @Extension(value = IdentityDidCoreExtension.NAME)
 public class IdentityDidCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Identity Did Core";
+
+    private static final int DEFAULT_DID_CACHE_SIZE = 50;
+    private static final long DEFAULT_DID_CACHE_TTL = 300;
+
+    @Setting(value = "the max number of resolved DID documents to be cached, 0 disables the cache. Default value " + DEFAULT_DID_CACHE_SIZE, type = "int")
+    private static final String DID_CACHE_SIZE = "edc.iam.did.cache.size";
+
+    @Setting(value = "the time in seconds after which a cached DID document gets resolved again. Default value " + DEFAULT_DID_CACHE_TTL, type = "long")
+    private static final String DID_CACHE_TTL = "edc.iam.did.cache.ttl";
+
     @Inject
     private KeyParserRegistry keyParserRegistry;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -41,7 +58,9 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl();
+        var cacheSize = context.getSetting(DID_CACHE_SIZE, DEFAULT_DID_CACHE_SIZE);
+        var cacheTtl = Duration.ofSeconds(context.getSetting(DID_CACHE_TTL, DEFAULT_DID_CACHE_TTL));
+        var didResolverRegistry = new DidResolverRegistryImpl(cacheSize, cacheTtl, clock);
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(keyParserRegistry, didResolverRegistry);
@@ -18,36 +18,54 @@ import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.util.collection.ConcurrentLruCache;
+import org.eclipse.edc.util.collection.ConcurrentCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 /**
- * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentLruCache}
+ * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentCache}
  */
 public class DidResolverRegistryImpl implements DidResolverRegistry {
     public static final String DID_SEPARATOR = ":";
     private static final String DID = "did";
     private static final int DID_PREFIX = 0;
     private static final int DID_METHOD_NAME = 1;
-    private final ConcurrentLruCache<String, DidDocument> didCache;
+    private static final int DEFAULT_CACHE_SIZE = 50;
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(5);
+    private final ConcurrentCache<String, DidDocument> didCache;
     private final Map<String, DidResolver> resolvers = new HashMap<>();
 
     public DidResolverRegistryImpl() {
-        didCache = new ConcurrentLruCache<>(50);
+        this(DEFAULT_CACHE_SIZE);
     }
 
     /**
      * Constructs a DidResolverRegistryImpl object with the specified cache size.
      *
-     * @param cacheSize the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
+     * @param cacheSize the maximum number of entries that the cache can hold. Pass 0 to deactivate the cache.
      */
     public DidResolverRegistryImpl(int cacheSize) {
-        didCache = new ConcurrentLruCache<>(cacheSize);
+        this(cacheSize, DEFAULT_CACHE_TTL, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a DidResolverRegistryImpl object with the specified cache size and time to live, after which a cached
+     * DID document gets resolved again, so that rotated keys are picked up.
+     *
+     * @param cacheSize the maximum number of entries that the cache can hold. Pass 0 to deactivate the cache.
+     * @param cacheTtl  the time to live of the cached documents.
+     * @param clock     the clock.
+     */
+    public DidResolverRegistryImpl(int cacheSize, Duration cacheTtl, Clock clock) {
+        didCache = cacheSize > 0
+                ? ConcurrentCache.Builder.<String, DidDocument>newInstance().maximumWeight(cacheSize).timeToLive(cacheTtl).clock(clock).build()
+                : null;
     }
 
     @Override
@@ -88,6 +106,10 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
 
     @NotNull
     private Result<DidDocument> resolveCachedDocument(String didKey, DidResolver resolver) {
+        if (didCache == null) {
+            return resolver.resolve(didKey);
+        }
+
         var didDocument = didCache.get(didKey);
         if (didDocument == null) {
 
@@ -26,6 +26,8 @@ dependencies {
     api(project(":spi:common:json-ld-spi"))
     api(project(":spi:common:transform-spi"))
 
+    implementation(project(":core:common:util"))
+
     testImplementation(project(":core:common:junit"))
     testImplementation(libs.mockserver.netty)
     testImplementation(libs.mockserver.client)
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld;
+
+import com.apicatalog.jsonld.context.cache.Cache;
+import jakarta.json.JsonValue;
+import org.eclipse.edc.util.collection.ConcurrentCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Thread-safe cache of the remote contexts shared by all the expansion and compaction calls, Titanium's default one is
+ * created for every {@link com.apicatalog.jsonld.JsonLdOptions} instance. Entries expire after the same time to live as
+ * the cached documents, so that updated contexts are picked up.
+ */
+class ContextCache implements Cache<String, JsonValue> {
+
+    private final ConcurrentCache<String, JsonValue> cache;
+    // Titanium calls containsKey and then get: the value found by containsKey is kept, so that it can't expire in between
+    private final ThreadLocal<Map.Entry<String, JsonValue>> lastFound = new ThreadLocal<>();
+
+    ContextCache(int capacity, Duration timeToLive, Clock clock) {
+        cache = ConcurrentCache.Builder.<String, JsonValue>newInstance()
+                .maximumWeight(capacity)
+                .timeToLive(timeToLive)
+                .clock(clock)
+                .build();
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        var value = cache.get(key);
+        if (value == null) {
+            lastFound.remove();
+            return false;
+        }
+        lastFound.set(Map.entry(key, value));
+        return true;
+    }
+
+    @Override
+    public JsonValue get(String key) {
+        var found = lastFound.get();
+        if (found != null && found.getKey().equals(key)) {
+            lastFound.remove();
+            return found.getValue();
+        }
+        return cache.get(key);
+    }
+
+    @Override
+    public void put(String key, JsonValue value) {
+        cache.put(key, value);
+    }
+}
@@ -14,10 +14,14 @@
 
 package org.eclipse.edc.jsonld;
 
+import java.time.Duration;
+
 public class JsonLdConfiguration {
 
     private boolean httpEnabled = false;
     private boolean httpsEnabled = false;
+    private int documentCacheSize = 100;
+    private Duration documentCacheTtl = Duration.ofHours(1);
 
     private JsonLdConfiguration() {
 
@@ -31,6 +35,14 @@ public class JsonLdConfiguration {
         return httpsEnabled;
     }
 
+    public int getDocumentCacheSize() {
+        return documentCacheSize;
+    }
+
+    public Duration getDocumentCacheTtl() {
+        return documentCacheTtl;
+    }
+
     public static class Builder {
 
         private final JsonLdConfiguration configuration = new JsonLdConfiguration();
@@ -49,6 +61,16 @@ public class JsonLdConfiguration {
             return this;
         }
 
+        public Builder documentCacheSize(int documentCacheSize) {
+            configuration.documentCacheSize = documentCacheSize;
+            return this;
+        }
+
+        public Builder documentCacheTtl(Duration documentCacheTtl) {
+            configuration.documentCacheTtl = documentCacheTtl;
+            return this;
+        }
+
         public JsonLdConfiguration build() {
             return configuration;
         }
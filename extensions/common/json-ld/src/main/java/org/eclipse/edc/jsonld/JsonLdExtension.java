@@ -32,6 +32,7 @@ import org.jetbrains.annotations.NotNull;
 import java.io.File;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
@@ -62,6 +63,12 @@ public class JsonLdExtension implements ServiceExtension {
     private static final String DEFAULT_AVOID_VOCAB_CONTEXT = "false";
     @Setting(value = "If true disable the @vocab context definition. This could be used to avoid api breaking changes", type = "boolean", defaultValue = DEFAULT_AVOID_VOCAB_CONTEXT)
     private static final String AVOID_VOCAB_CONTEXT = "edc.jsonld.vocab.disable";
+    private static final int DEFAULT_DOCUMENT_CACHE_SIZE = 100;
+    @Setting(value = "Max number of JSON-LD documents loaded at runtime (e.g. remote contexts) kept in cache. 0 disables the cache", type = "int", defaultValue = DEFAULT_DOCUMENT_CACHE_SIZE + "")
+    private static final String DOCUMENT_CACHE_SIZE_SETTING = "edc.jsonld.cache.size";
+    private static final long DEFAULT_DOCUMENT_CACHE_TTL_SECONDS = 3600;
+    @Setting(value = "Time-to-live in seconds of the JSON-LD documents loaded at runtime and kept in cache", type = "long", defaultValue = DEFAULT_DOCUMENT_CACHE_TTL_SECONDS + "")
+    private static final String DOCUMENT_CACHE_TTL_SETTING = "edc.jsonld.cache.ttl";
     @Inject
     private TypeManager typeManager;
 
@@ -81,6 +88,8 @@ public class JsonLdExtension implements ServiceExtension {
         var configuration = JsonLdConfiguration.Builder.newInstance()
                 .httpEnabled(config.getBoolean(HTTP_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
                 .httpsEnabled(config.getBoolean(HTTPS_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
+                .documentCacheSize(config.getInteger(DOCUMENT_CACHE_SIZE_SETTING, DEFAULT_DOCUMENT_CACHE_SIZE))
+                .documentCacheTtl(Duration.ofSeconds(config.getLong(DOCUMENT_CACHE_TTL_SETTING, DEFAULT_DOCUMENT_CACHE_TTL_SECONDS)))
                 .build();
         var monitor = context.getMonitor();
         var service = new TitaniumJsonLd(monitor, configuration);
@@ -16,35 +16,33 @@ package org.eclipse.edc.jsonld;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
-import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.context.cache.Cache;
 import com.apicatalog.jsonld.document.JsonDocument;
-import com.apicatalog.jsonld.loader.DocumentLoader;
-import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
 import com.apicatalog.jsonld.loader.FileLoader;
 import com.apicatalog.jsonld.loader.HttpLoader;
 import com.apicatalog.jsonld.loader.SchemeRouter;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
+import org.eclipse.edc.jsonld.document.CachedDocumentLoader;
 import org.eclipse.edc.jsonld.document.JarLoader;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 
 import java.net.URI;
+import java.time.Clock;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static jakarta.json.Json.createArrayBuilder;
-import static jakarta.json.Json.createBuilderFactory;
 import static jakarta.json.Json.createObjectBuilder;
-import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
 import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
@@ -60,7 +58,9 @@ public class TitaniumJsonLd implements JsonLd {
     private final Monitor monitor;
     private final Map<String, Map<String, String>> scopedNamespaces = new HashMap<>();
     private final Map<String, Set<String>> scopedContexts = new HashMap<>();
+    private final Map<String, JsonDocument> compactionContexts = new ConcurrentHashMap<>();
     private final CachedDocumentLoader documentLoader;
+    private final Cache<String, JsonValue> contextCache;
 
     public TitaniumJsonLd(Monitor monitor) {
         this(monitor, JsonLdConfiguration.Builder.newInstance().build());
@@ -68,7 +68,17 @@ public class TitaniumJsonLd implements JsonLd {
 
     public TitaniumJsonLd(Monitor monitor, JsonLdConfiguration configuration) {
         this.monitor = monitor;
-        this.documentLoader = new CachedDocumentLoader(configuration, monitor);
+        var loader = new SchemeRouter()
+                .set("http", configuration.isHttpEnabled() ? HttpLoader.defaultInstance() : null)
+                .set("https", configuration.isHttpsEnabled() ? HttpLoader.defaultInstance() : null)
+                .set("file", new FileLoader())
+                .set("jar", new JarLoader());
+        var clock = Clock.systemUTC();
+        this.documentLoader = new CachedDocumentLoader(loader, configuration.getDocumentCacheSize(),
+                configuration.getDocumentCacheTtl(), clock, monitor);
+        this.contextCache = configuration.getDocumentCacheSize() > 0
+                ? new ContextCache(configuration.getDocumentCacheSize(), configuration.getDocumentCacheTtl(), clock)
+                : null;
     }
 
     @Override
@@ -76,7 +86,7 @@ public class TitaniumJsonLd implements JsonLd {
         try {
             var document = JsonDocument.of(injectVocab(json));
             var expanded = com.apicatalog.jsonld.JsonLd.expand(document)
-                    .options(new JsonLdOptions(documentLoader))
+                    .options(options())
                     .get();
             if (expanded.size() > 0) {
                 return Result.success(expanded.getJsonObject(0));
@@ -92,12 +102,9 @@ public class TitaniumJsonLd implements JsonLd {
     public Result<JsonObject> compact(JsonObject json, String scope) {
         try {
             var document = JsonDocument.of(json);
-            var jsonFactory = createBuilderFactory(Map.of());
-            var contextDocument = JsonDocument.of(jsonFactory.createObjectBuilder()
-                    .add(CONTEXT, createContext(scope))
-                    .build());
+            var contextDocument = compactionContexts.computeIfAbsent(scope, this::createContextDocument);
             var compacted = com.apicatalog.jsonld.JsonLd.compact(document, contextDocument)
-                    .options(new JsonLdOptions(documentLoader))
+                    .options(options())
                     .get();
             return Result.success(compacted);
         } catch (JsonLdError e) {
@@ -110,12 +117,14 @@ public class TitaniumJsonLd implements JsonLd {
     public void registerNamespace(String prefix, String contextIri, String scope) {
         var namespaces = scopedNamespaces.computeIfAbsent(scope, k -> new LinkedHashMap<>());
         namespaces.put(prefix, contextIri);
+        compactionContexts.clear();
     }
 
     @Override
     public void registerContext(String contextIri, String scope) {
         var contexts = scopedContexts.computeIfAbsent(scope, k -> new LinkedHashSet<>());
         contexts.add(contextIri);
+        compactionContexts.clear();
     }
 
     @Override
@@ -123,21 +132,38 @@ public class TitaniumJsonLd implements JsonLd {
         documentLoader.register(contextUrl, uri);
     }
 
-    private JsonObject injectVocab(JsonObject json) {
-        var jsonObjectBuilder = createObjectBuilder(json);
+    /**
+     * Returns the statistics of the JSON-LD documents cache.
+     *
+     * @return the cache statistics.
+     */
+    public CachedDocumentLoader.Statistics documentCacheStatistics() {
+        return documentLoader.statistics();
+    }
+
+    private JsonLdOptions options() {
+        var options = new JsonLdOptions(documentLoader);
+        if (contextCache != null) {
+            options.setContextCache(contextCache);
+        }
+        return options;
+    }
 
+    private JsonObject injectVocab(JsonObject json) {
         //only inject the vocab if the @context is an object, not a URL
-        if (json.get(CONTEXT) instanceof JsonObject) {
-            var contextObject = ofNullable(json.getJsonObject(CONTEXT)).orElseGet(() -> createObjectBuilder().build());
-            var contextBuilder = createObjectBuilder(contextObject);
-            if (!contextObject.containsKey(VOCAB)) {
-                var newContextObject = contextBuilder
-                        .add(VOCAB, EDC_NAMESPACE)
-                        .build();
-                jsonObjectBuilder.add(CONTEXT, newContextObject);
-            }
+        if (json.get(CONTEXT) instanceof JsonObject contextObject && !contextObject.containsKey(VOCAB)) {
+            var newContextObject = createObjectBuilder(contextObject)
+                    .add(VOCAB, EDC_NAMESPACE)
+                    .build();
+            return createObjectBuilder(json).add(CONTEXT, newContextObject).build();
         }
-        return jsonObjectBuilder.build();
+        return json;
+    }
+
+    private JsonDocument createContextDocument(String scope) {
+        return JsonDocument.of(createObjectBuilder()
+                .add(CONTEXT, createContext(scope))
+                .build());
     }
 
     private JsonValue createContext(String scope) {
@@ -175,41 +201,4 @@ public class TitaniumJsonLd implements JsonLd {
         return scopedContexts.getOrDefault(scope, EMPTY_CONTEXTS).stream();
     }
 
-    private static class CachedDocumentLoader implements DocumentLoader {
-
-        private final Map<String, URI> uriCache = new HashMap<>();
-        private final Map<URI, Document> documentCache = new HashMap<>();
-        private final DocumentLoader loader;
-        private final Monitor monitor;
-
-        CachedDocumentLoader(JsonLdConfiguration configuration, Monitor monitor) {
-            loader = new SchemeRouter()
-                    .set("http", configuration.isHttpEnabled() ? HttpLoader.defaultInstance() : null)
-                    .set("https", configuration.isHttpsEnabled() ? HttpLoader.defaultInstance() : null)
-                    .set("file", new FileLoader())
-                    .set("jar", new JarLoader());
-            this.monitor = monitor;
-        }
-
-        @Override
-        public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
-            var uri = Optional.of(url.toString())
-                    .map(uriCache::get)
-                    .orElse(url);
-
-            return Optional.ofNullable(documentCache.get(uri))
-                    .orElse(loader.loadDocument(uri, options));
-        }
-
-        public void register(String contextUrl, URI uri) {
-            uriCache.put(contextUrl, uri);
-            try {
-                documentCache.put(uri, loader.loadDocument(uri, new DocumentLoaderOptions()));
-            } catch (JsonLdError e) {
-                monitor.warning("Error caching context URL '%s' for URI '%s'. Subsequent attempts to expand this context URL may fail.".formatted(contextUrl, uri));
-            }
-        }
-
-    }
-
 }
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld.document;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.util.collection.ConcurrentCache;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link DocumentLoader} that caches the loaded documents.
+ * <p>
+ * Documents registered through {@link #register(String, URI)} are loaded once and kept for the lifetime of the loader.
+ * Every other document (e.g. a remote {@code @context} fetched through http) is loaded through the delegate loader and
+ * kept in a bounded {@link ConcurrentCache}, whose entries expire after the configured time-to-live. A cache size of 0
+ * disables caching of non-registered documents.
+ */
+public class CachedDocumentLoader implements DocumentLoader {
+
+    private final Map<String, URI> uriCache = new ConcurrentHashMap<>();
+    private final Map<URI, Document> registeredDocuments = new ConcurrentHashMap<>();
+    private final ConcurrentCache<URI, Document> loadedDocuments;
+    private final DocumentLoader loader;
+    private final Monitor monitor;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CachedDocumentLoader(DocumentLoader loader, int cacheSize, Duration ttl, Clock clock, Monitor monitor) {
+        this.loader = loader;
+        this.monitor = monitor;
+        this.loadedDocuments = cacheSize > 0
+                ? ConcurrentCache.Builder.<URI, Document>newInstance().maximumWeight(cacheSize).timeToLive(ttl).clock(clock).build()
+                : null;
+    }
+
+    @Override
+    public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+        var uri = uriCache.getOrDefault(url.toString(), url);
+
+        var registered = registeredDocuments.get(uri);
+        if (registered != null) {
+            hits.incrementAndGet();
+            return registered;
+        }
+
+        if (loadedDocuments == null) {
+            misses.incrementAndGet();
+            return loader.loadDocument(uri, options);
+        }
+
+        var cached = loadedDocuments.get(uri);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        misses.incrementAndGet();
+        var document = loader.loadDocument(uri, options);
+        if (document != null) {
+            loadedDocuments.put(uri, document);
+        }
+        return document;
+    }
+
+    /**
+     * Register the document located at the passed uri as the one to be used for the context url. The document is loaded
+     * immediately and never evicted.
+     *
+     * @param contextUrl the context url.
+     * @param uri        the uri from which the document is loaded.
+     */
+    public void register(String contextUrl, URI uri) {
+        uriCache.put(contextUrl, uri);
+        try {
+            registeredDocuments.put(uri, loader.loadDocument(uri, new DocumentLoaderOptions()));
+        } catch (JsonLdError e) {
+            monitor.warning("Error caching context URL '%s' for URI '%s'. Subsequent attempts to expand this context URL may fail.".formatted(contextUrl, uri));
+        }
+    }
+
+    /**
+     * Returns the cache statistics.
+     *
+     * @return the cache statistics.
+     */
+    public Statistics statistics() {
+        var cachedDocuments = loadedDocuments != null ? (int) loadedDocuments.size() : 0;
+        return new Statistics(hits.get(), misses.get(), registeredDocuments.size(), cachedDocuments);
+    }
+
+    /**
+     * Document cache statistics.
+     *
+     * @param hits                number of documents served from the cache.
+     * @param misses              number of documents loaded through the delegate loader.
+     * @param registeredDocuments number of registered documents.
+     * @param cachedDocuments     number of non-registered documents currently cached.
+     */
+    public record Statistics(long hits, long misses, int registeredDocuments, int cachedDocuments) {
+    }
+
+}
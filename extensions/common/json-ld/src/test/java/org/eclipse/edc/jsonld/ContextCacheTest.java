@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld;
+
+import jakarta.json.Json;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContextCacheTest {
+
+    private static final Instant NOW = Instant.now();
+
+    private final Clock clock = mock();
+
+    @Test
+    void shouldExpireContexts_afterTimeToLive() {
+        when(clock.instant()).thenReturn(NOW);
+        var cache = new ContextCache(10, Duration.ofMinutes(1), clock);
+        var context = Json.createObjectBuilder().add("key", "value").build();
+
+        cache.put("http://context.url", context);
+
+        assertThat(cache.containsKey("http://context.url")).isTrue();
+        assertThat(cache.get("http://context.url")).isEqualTo(context);
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(1)));
+
+        assertThat(cache.containsKey("http://context.url")).isFalse();
+        assertThat(cache.get("http://context.url")).isNull();
+    }
+
+    @Test
+    void get_shouldReturnContextFoundByContainsKey_whenExpiredInBetween() {
+        when(clock.instant()).thenReturn(NOW);
+        var cache = new ContextCache(10, Duration.ofMinutes(1), clock);
+        var context = Json.createObjectBuilder().add("key", "value").build();
+        cache.put("http://context.url", context);
+
+        assertThat(cache.containsKey("http://context.url")).isTrue();
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(1)));
+
+        assertThat(cache.get("http://context.url")).isEqualTo(context);
+    }
+}
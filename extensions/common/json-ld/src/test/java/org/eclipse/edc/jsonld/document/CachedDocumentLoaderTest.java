@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld.document;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import jakarta.json.Json;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachedDocumentLoaderTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final DocumentLoader delegate = mock();
+    private final Clock clock = mock();
+
+    @Test
+    void loadDocument_shouldNotCallDelegate_whenDocumentIsRegistered() throws JsonLdError {
+        var document = document();
+        var uri = URI.create("file:/context.jsonld");
+        when(delegate.loadDocument(eq(uri), any())).thenReturn(document);
+        var loader = loader(10);
+        loader.register("http://context.url", uri);
+
+        var loaded = loader.loadDocument(URI.create("http://context.url"), new DocumentLoaderOptions());
+
+        assertThat(loaded).isSameAs(document);
+        verify(delegate, times(1)).loadDocument(any(), any());
+        assertThat(loader.statistics().hits()).isEqualTo(1);
+        assertThat(loader.statistics().registeredDocuments()).isEqualTo(1);
+    }
+
+    @Test
+    void loadDocument_shouldCacheLoadedDocument() throws JsonLdError {
+        var document = document();
+        var uri = URI.create("http://remote/context");
+        when(clock.instant()).thenReturn(NOW);
+        when(delegate.loadDocument(eq(uri), any())).thenReturn(document);
+        var loader = loader(10);
+
+        loader.loadDocument(uri, new DocumentLoaderOptions());
+        var loaded = loader.loadDocument(uri, new DocumentLoaderOptions());
+
+        assertThat(loaded).isSameAs(document);
+        verify(delegate, times(1)).loadDocument(any(), any());
+        assertThat(loader.statistics()).isEqualTo(new CachedDocumentLoader.Statistics(1, 1, 0, 1));
+    }
+
+    @Test
+    void loadDocument_shouldReload_whenEntryExpired() throws JsonLdError {
+        var uri = URI.create("http://remote/context");
+        when(clock.instant()).thenReturn(NOW);
+        when(delegate.loadDocument(eq(uri), any())).thenReturn(document());
+        var loader = loader(10);
+
+        loader.loadDocument(uri, new DocumentLoaderOptions());
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(2)));
+        loader.loadDocument(uri, new DocumentLoaderOptions());
+
+        verify(delegate, times(2)).loadDocument(any(), any());
+    }
+
+    @Test
+    void loadDocument_shouldEvictLeastRecentlyUsed_whenSizeExceeded() throws JsonLdError {
+        when(clock.instant()).thenReturn(NOW);
+        when(delegate.loadDocument(any(), any())).thenAnswer(i -> document());
+        var loader = loader(1);
+
+        loader.loadDocument(URI.create("http://remote/context1"), new DocumentLoaderOptions());
+        loader.loadDocument(URI.create("http://remote/context2"), new DocumentLoaderOptions());
+        loader.loadDocument(URI.create("http://remote/context1"), new DocumentLoaderOptions());
+
+        verify(delegate, times(3)).loadDocument(any(), any());
+        assertThat(loader.statistics().cachedDocuments()).isEqualTo(1);
+    }
+
+    @Test
+    void loadDocument_shouldNotCache_whenSizeIsZero() throws JsonLdError {
+        var uri = URI.create("http://remote/context");
+        when(delegate.loadDocument(eq(uri), any())).thenReturn(document());
+        var loader = loader(0);
+
+        loader.loadDocument(uri, new DocumentLoaderOptions());
+        loader.loadDocument(uri, new DocumentLoaderOptions());
+
+        verify(delegate, times(2)).loadDocument(any(), any());
+    }
+
+    private CachedDocumentLoader loader(int cacheSize) {
+        return new CachedDocumentLoader(delegate, cacheSize, Duration.ofMinutes(1), clock, mock());
+    }
+
+    private Document document() {
+        return JsonDocument.of(Json.createObjectBuilder().build());
+    }
+}
@@ -16,6 +16,8 @@ package org.eclipse.edc.sql.lease;
 
 import org.eclipse.edc.sql.statement.SqlStatements;
 
+import java.util.Collections;
+
 import static java.lang.String.format;
 
 /**
@@ -30,6 +32,55 @@ public interface LeaseStatements extends SqlStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * The name of the table that holds the leased entities.
+     */
+    String getEntityTableName();
+
+    /**
+     * The name of the column that holds the ID of the leased entities.
+     */
+    String getIdColumn();
+
+    /**
+     * Deletes all expired leases that are referenced by any of the given entities. Parameters are the entity IDs,
+     * followed by the current timestamp.
+     */
+    default String getDeleteExpiredLeasesByEntitiesTemplate(int count) {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s IN (%s)) AND (? > (%s + %s))",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getEntityTableName(), getIdColumn(),
+                placeholders(count), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    /**
+     * Inserts one lease for each of the given entities that is not currently leased. The lease ID is the concatenation
+     * of a prefix and the entity ID. Parameters are the prefix, the lease holder, the lease timestamp, the lease
+     * duration, followed by the entity IDs.
+     */
+    default String getInsertLeasesForEntitiesTemplate(int count) {
+        return format("INSERT INTO %s (%s, %s, %s, %s) SELECT ? || %s, ?, ?, ? FROM %s WHERE %s IN (%s) AND %s IS NULL",
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(),
+                getIdColumn(), getEntityTableName(), getIdColumn(), placeholders(count), getLeaseIdColumn());
+    }
+
+    /**
+     * Assigns the leases created by {@link #getInsertLeasesForEntitiesTemplate(int)} to the entities that are not
+     * currently leased, returning the IDs of the entities that were actually leased. Parameters are the prefix,
+     * followed by the entity IDs.
+     */
+    default String getUpdateLeasesForEntitiesTemplate(int count) {
+        return format("UPDATE %s SET %s = ? || %s WHERE %s IN (%s) AND %s IS NULL RETURNING %s",
+                getEntityTableName(), getLeaseIdColumn(), getIdColumn(), getIdColumn(), placeholders(count),
+                getLeaseIdColumn(), getIdColumn());
+    }
+
+    /**
+     * Deletes all the leases with the given lease IDs.
+     */
+    default String getDeleteLeasesTemplate(int count) {
+        return format("DELETE FROM %s WHERE %s IN (%s)", getLeaseTableName(), getLeaseIdColumn(), placeholders(count));
+    }
+
     default String getNotLeasedFilter() {
         return format("(%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))",
                 getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
@@ -56,4 +107,8 @@ public interface LeaseStatements extends SqlStatements {
         return "lease_id";
     }
 
+    private String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
 }
@@ -26,8 +26,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * SQL-based implementation of the LeaseContext.
@@ -101,6 +107,52 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Acquires leases on a set of entities with a constant number of statements, regardless of the number of entities.
+     * Expired leases are cleaned out first, then one lease is created for every entity that is not currently leased.
+     * Entities that are leased by someone else are skipped rather than causing an exception.
+     *
+     * @param entityIds The leased entities' IDs
+     * @return the IDs of the entities that were actually leased.
+     */
+    public List<String> acquireLeases(Collection<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return List.of();
+        }
+
+        return trxContext.execute(() -> {
+            var now = clock.millis();
+            var ids = new ArrayList<>(new LinkedHashSet<>(entityIds));
+            var count = ids.size();
+
+            //clean out old leases if expired
+            var deleteStmt = statements.getDeleteExpiredLeasesByEntitiesTemplate(count);
+            queryExecutor.execute(connection, deleteStmt, Stream.concat(ids.stream(), Stream.of(now)).toArray());
+
+            // create new leases in DB, the lease id is derived from the entity id to avoid a round trip per entity
+            var prefix = UUID.randomUUID() + "-";
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            var insertStmt = statements.getInsertLeasesForEntitiesTemplate(count);
+            queryExecutor.execute(connection, insertStmt, Stream.concat(Stream.of(prefix, leaseHolder, now, duration), ids.stream()).toArray());
+
+            //update entities with leases -> effectively lease entities
+            var updateStmt = statements.getUpdateLeasesForEntitiesTemplate(count);
+            List<String> leased;
+            try (var stream = queryExecutor.query(connection, false, rs -> rs.getString(1), updateStmt, Stream.concat(Stream.of(prefix), ids.stream()).toArray())) {
+                leased = stream.toList();
+            }
+
+            // remove leases that were created for entities that got leased concurrently by someone else
+            if (leased.size() < count) {
+                var leasedIds = new HashSet<>(leased);
+                var orphans = ids.stream().filter(id -> !leasedIds.contains(id)).map(id -> prefix + id).toArray();
+                queryExecutor.execute(connection, statements.getDeleteLeasesTemplate(orphans.length), orphans);
+            }
+
+            return leased;
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -36,6 +36,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -138,6 +139,58 @@ class PostgresLeaseContextTest {
         assertThatThrownBy(() -> leaseContext.acquireLease(id)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactlyInAnyOrder("id1", "id2");
+        assertThat(isLeased("id1", connection)).isTrue();
+        assertThat(isLeased("id2", connection)).isTrue();
+        assertThat(leaseContext.getLease("id1")).isNotNull()
+                .extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+        assertThat(leaseContext.getLease("id1").getLeaseId()).isNotEqualTo(leaseContext.getLease("id2").getLeaseId());
+    }
+
+    @Test
+    void acquireLeases_shouldSkipEntitiesLeasedByOther(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactly("id2");
+        assertThat(leaseContext.getLease("id1")).isNotNull()
+                .extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+    }
+
+    @Test
+    void acquireLeases_whenExpiredLeasePresent_shouldReplaceLease(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+        var leaseId = leaseContext.getLease("id1").getLeaseId();
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection);
+
+        var leased = twoMinutesAheadContext.acquireLeases(List.of("id1"));
+
+        assertThat(leased).containsExactly("id1");
+        var newLease = twoMinutesAheadContext.getLease("id1");
+        assertThat(newLease).isNotNull();
+        assertThat(newLease.getLeaseId()).isNotEqualTo(leaseId);
+        assertThat(newLease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_whenEmpty() {
+        assertThat(leaseContext.acquireLeases(List.of())).isEmpty();
+    }
+
     @Test
     void getLease(Connection connection) {
         var id = "test-id";
@@ -232,9 +285,15 @@ class PostgresLeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
         public String getEntityTableName() {
             return "edc_test_entity";
         }
+
+        @Override
+        public String getIdColumn() {
+            return "id";
+        }
     }
 
     protected static class TestEntity {
@@ -15,14 +15,23 @@
 
 package org.eclipse.edc.vault.hashicorp;
 
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.util.collection.ConcurrentCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+
 /**
  * Implements a vault backed by Hashicorp Vault.
+ * <p>
+ * Optionally, resolved secrets can be cached in a {@link ConcurrentCache}, restricted to the keys that start with one
+ * of the given path prefixes, or to all keys if no prefix is given. Cached secrets are invalidated when they are stored
+ * or deleted through this vault. Only secrets that don't exist can be negatively cached: a failing call to the vault is
+ * never cached and, when it happens while refreshing a cached secret, the cached one is kept.
  */
 public class HashicorpVault implements Vault {
 
@@ -30,33 +39,95 @@ public class HashicorpVault implements Vault {
     private final HashicorpVaultClient hashicorpVaultClient;
     @NotNull
     private final Monitor monitor;
+    @Nullable
+    private final ConcurrentCache<String, String> cache;
+    @NotNull
+    private final List<String> cachedPathPrefixes;
 
     public HashicorpVault(@NotNull HashicorpVaultClient hashicorpVaultClient, @NotNull Monitor monitor) {
+        this(hashicorpVaultClient, monitor, null, List.of());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param hashicorpVaultClient the vault client.
+     * @param monitor              the monitor.
+     * @param cache                the secret cache, null disables caching.
+     * @param cachedPathPrefixes   the prefixes of the keys that get cached, empty to cache all keys.
+     */
+    public HashicorpVault(@NotNull HashicorpVaultClient hashicorpVaultClient, @NotNull Monitor monitor,
+                          @Nullable ConcurrentCache<String, String> cache, @NotNull List<String> cachedPathPrefixes) {
         this.hashicorpVaultClient = hashicorpVaultClient;
         this.monitor = monitor;
+        this.cache = cache;
+        this.cachedPathPrefixes = cachedPathPrefixes;
     }
 
     @Override
     public @Nullable String resolveSecret(String key) {
-        var result = hashicorpVaultClient.getSecretValue(key);
-
-        if (result.failed()) {
-            monitor.debug("Failed to resolve secret '%s': %s".formatted(key, result.getFailureMessages()));
+        try {
+            if (cache != null && isCached(key)) {
+                return cache.get(key, this::fetchSecret);
+            }
+            return fetchSecret(key);
+        } catch (EdcException e) {
+            monitor.debug(e.getMessage());
             return null;
-        } 
-        
-        return result.getContent();
+        }
     }
 
     @Override
     public Result<Void> storeSecret(String key, String value) {
         var result = hashicorpVaultClient.setSecret(key, value);
+        invalidate(key);
 
         return result.succeeded() ? Result.success() : Result.failure(result.getFailureMessages());
     }
 
     @Override
     public Result<Void> deleteSecret(String key) {
-        return hashicorpVaultClient.destroySecret(key);
+        var result = hashicorpVaultClient.destroySecret(key);
+        invalidate(key);
+        return result;
+    }
+
+    /**
+     * Returns the statistics of the secret cache, null if caching is disabled.
+     *
+     * @return the cache statistics.
+     */
+    public @Nullable ConcurrentCache.Statistics cacheStatistics() {
+        return cache != null ? cache.statistics() : null;
+    }
+
+    private boolean isCached(String key) {
+        return cachedPathPrefixes.isEmpty() || cachedPathPrefixes.stream().anyMatch(key::startsWith);
+    }
+
+    private void invalidate(String key) {
+        if (cache != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Fetches the secret from the vault.
+     *
+     * @param key the secret key.
+     * @return the secret, null if it doesn't exist.
+     * @throws EdcException if the secret could not be fetched.
+     */
+    private @Nullable String fetchSecret(String key) {
+        var result = hashicorpVaultClient.getSecretValue(key);
+
+        if (result.failed()) {
+            if (result.getFailureMessages().contains(HashicorpVaultClient.SECRET_NOT_FOUND)) {
+                return null;
+            }
+            throw new EdcException("Failed to resolve secret '%s': %s".formatted(key, result.getFailureMessages()));
+        }
+
+        return result.getContent();
     }
 }
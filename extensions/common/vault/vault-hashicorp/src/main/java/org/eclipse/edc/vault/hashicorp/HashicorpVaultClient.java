@@ -47,6 +47,7 @@ public class HashicorpVaultClient {
     private static final String VAULT_SECRET_METADATA_PATH = "metadata";
     private static final String CALL_UNSUCCESSFUL_ERROR_TEMPLATE = "[Hashicorp Vault] Call unsuccessful: %s";
     private static final int HTTP_CODE_404 = 404;
+    static final String SECRET_NOT_FOUND = String.format(CALL_UNSUCCESSFUL_ERROR_TEMPLATE, "Secret not found");
     @NotNull
     private final HashicorpVaultClientConfig hashicorpVaultConfig;
     @NotNull
@@ -68,12 +69,11 @@ public class HashicorpVaultClient {
 
         try (var response = httpClient.execute(request)) {
 
-            if (response.isSuccessful()) {
-                if (response.code() == HTTP_CODE_404) {
-                    return Result.failure(
-                            String.format(CALL_UNSUCCESSFUL_ERROR_TEMPLATE, "Secret not found"));
-                }
+            if (response.code() == HTTP_CODE_404) {
+                return Result.failure(SECRET_NOT_FOUND);
+            }
 
+            if (response.isSuccessful()) {
                 var responseBody = response.body();
                 if (responseBody == null) {
                     return Result.failure(String.format(CALL_UNSUCCESSFUL_ERROR_TEMPLATE, "Response body empty"));
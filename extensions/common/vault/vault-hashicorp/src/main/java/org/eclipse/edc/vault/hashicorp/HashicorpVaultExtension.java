@@ -24,6 +24,25 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.util.collection.ConcurrentCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_ENABLED;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_ENABLED_DEFAULT;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_NEGATIVE_TTL_SECONDS;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_NEGATIVE_TTL_SECONDS_DEFAULT;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_PATH_PREFIXES;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_REFRESH_SECONDS;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_REFRESH_SECONDS_DEFAULT;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_SIZE;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_SIZE_DEFAULT;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_TTL_SECONDS;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_TTL_SECONDS_DEFAULT;
 
 @Provides({ CertificateResolver.class })
 @Extension(value = HashicorpVaultExtension.NAME)
@@ -39,6 +58,9 @@ public class HashicorpVaultExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private Clock clock;
+
     private Vault vault;
 
     @Override
@@ -57,11 +79,47 @@ public class HashicorpVaultExtension implements ServiceExtension {
             var config = HashicorpVaultClientConfig.create(context);
             var client = new HashicorpVaultClient(config, httpClient, typeManager.getMapper());
 
-            vault = new HashicorpVault(client, context.getMonitor());
+            vault = new HashicorpVault(client, context.getMonitor(), createCache(context), cachedPathPrefixes(context));
         }
         return vault;
     }
 
+    @Nullable
+    private ConcurrentCache<String, String> createCache(ServiceExtensionContext context) {
+        var size = context.getSetting(VAULT_CACHE_SIZE, VAULT_CACHE_SIZE_DEFAULT);
+        if (!context.getSetting(VAULT_CACHE_ENABLED, VAULT_CACHE_ENABLED_DEFAULT) || size <= 0) {
+            return null;
+        }
+
+        var builder = ConcurrentCache.Builder.<String, String>newInstance()
+                .maximumWeight(size)
+                .timeToLive(Duration.ofSeconds(context.getSetting(VAULT_CACHE_TTL_SECONDS, VAULT_CACHE_TTL_SECONDS_DEFAULT)))
+                .clock(clock);
+
+        var negativeTtl = context.getSetting(VAULT_CACHE_NEGATIVE_TTL_SECONDS, VAULT_CACHE_NEGATIVE_TTL_SECONDS_DEFAULT);
+        if (negativeTtl > 0) {
+            builder.negativeTimeToLive(Duration.ofSeconds(negativeTtl));
+        }
+
+        var refresh = context.getSetting(VAULT_CACHE_REFRESH_SECONDS, VAULT_CACHE_REFRESH_SECONDS_DEFAULT);
+        if (refresh > 0) {
+            builder.refreshAfter(Duration.ofSeconds(refresh));
+        }
+
+        return builder.build();
+    }
+
+    private List<String> cachedPathPrefixes(ServiceExtensionContext context) {
+        var prefixes = context.getSetting(VAULT_CACHE_PATH_PREFIXES, null);
+        if (prefixes == null) {
+            return List.of();
+        }
+        return Arrays.stream(prefixes.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toList();
+    }
+
     @Provider
     public CertificateResolver vaultResolver(ServiceExtensionContext context) {
         return new HashicorpCertificateResolver(hashicorpVault(context), context.getMonitor().withPrefix("HashicorpVaultCertificateResolver"));
@@ -21,6 +21,11 @@ public interface Constants {
     String VAULT_API_HEALTH_PATH_DEFAULT = "/v1/sys/health";
     boolean VAULT_HEALTH_CHECK_STANDBY_OK_DEFAULT = false;
     int VAULT_TIMEOUT_SECONDS_DEFAULT = 30;
+    boolean VAULT_CACHE_ENABLED_DEFAULT = false;
+    int VAULT_CACHE_SIZE_DEFAULT = 1000;
+    long VAULT_CACHE_TTL_SECONDS_DEFAULT = 60;
+    long VAULT_CACHE_NEGATIVE_TTL_SECONDS_DEFAULT = 0;
+    long VAULT_CACHE_REFRESH_SECONDS_DEFAULT = 0;
     @Setting(value = "The URL path of the vault's /secret endpoint", defaultValue = VAULT_API_SECRET_PATH_DEFAULT)
     String VAULT_API_SECRET_PATH = "edc.vault.hashicorp.api.secret.path";
 
@@ -38,4 +43,22 @@ public interface Constants {
 
     @Setting(value = "The token used to access the Hashicorp Vault", required = true)
     String VAULT_TOKEN = "edc.vault.hashicorp.token";
+
+    @Setting(value = "Enables the read-through cache of the resolved secrets", defaultValue = "false", type = "boolean")
+    String VAULT_CACHE_ENABLED = "edc.vault.hashicorp.cache.enabled";
+
+    @Setting(value = "The max number of secrets kept in the cache", defaultValue = VAULT_CACHE_SIZE_DEFAULT + "", type = "integer")
+    String VAULT_CACHE_SIZE = "edc.vault.hashicorp.cache.size";
+
+    @Setting(value = "The time to live of a cached secret, in seconds", defaultValue = VAULT_CACHE_TTL_SECONDS_DEFAULT + "", type = "long")
+    String VAULT_CACHE_TTL_SECONDS = "edc.vault.hashicorp.cache.ttl.seconds";
+
+    @Setting(value = "The time to live of a cached missing secret, in seconds. 0 disables negative caching", defaultValue = VAULT_CACHE_NEGATIVE_TTL_SECONDS_DEFAULT + "", type = "long")
+    String VAULT_CACHE_NEGATIVE_TTL_SECONDS = "edc.vault.hashicorp.cache.negative.ttl.seconds";
+
+    @Setting(value = "The age in seconds after which a cached secret gets refreshed on the next lookup, while concurrent lookups keep getting the cached one. 0 disables refresh ahead", defaultValue = VAULT_CACHE_REFRESH_SECONDS_DEFAULT + "", type = "long")
+    String VAULT_CACHE_REFRESH_SECONDS = "edc.vault.hashicorp.cache.refresh.seconds";
+
+    @Setting(value = "Comma separated list of key prefixes whose secrets get cached. If not set, all secrets get cached")
+    String VAULT_CACHE_PATH_PREFIXES = "edc.vault.hashicorp.cache.path.prefixes";
 }
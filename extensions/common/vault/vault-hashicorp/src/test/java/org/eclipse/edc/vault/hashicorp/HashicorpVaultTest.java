@@ -16,12 +16,16 @@ package org.eclipse.edc.vault.hashicorp;
 
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ConcurrentCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -120,4 +124,101 @@ class HashicorpVaultTest {
         verify(vaultClient, times(1)).destroySecret(KEY);
         assertThat(returnValue.failed()).isTrue();
     }
+
+    @Test
+    void getSecret_withCache_shouldResolveOnce() {
+        var cachingVault = new HashicorpVault(vaultClient, mock(), cache(), List.of());
+        when(vaultClient.getSecretValue(KEY)).thenReturn(Result.success("test-secret"));
+
+        assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("test-secret");
+        assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("test-secret");
+
+        verify(vaultClient, times(1)).getSecretValue(KEY);
+        assertThat(cachingVault.cacheStatistics()).isNotNull()
+                .satisfies(statistics -> assertThat(statistics.hits()).isEqualTo(1));
+    }
+
+    @Test
+    void getSecret_withCache_shouldNotCacheKeysOutsideOfPathPrefixes() {
+        var cachingVault = new HashicorpVault(vaultClient, mock(), cache(), List.of("cached/"));
+        when(vaultClient.getSecretValue(any())).thenReturn(Result.success("test-secret"));
+
+        cachingVault.resolveSecret("cached/" + KEY);
+        cachingVault.resolveSecret("cached/" + KEY);
+        cachingVault.resolveSecret(KEY);
+        cachingVault.resolveSecret(KEY);
+
+        verify(vaultClient, times(1)).getSecretValue("cached/" + KEY);
+        verify(vaultClient, times(2)).getSecretValue(KEY);
+    }
+
+    @Test
+    void getSecret_withCache_shouldNotCacheFailures_whenNegativeCachingDisabled() {
+        var cachingVault = new HashicorpVault(vaultClient, mock(), cache(), List.of());
+        when(vaultClient.getSecretValue(KEY)).thenReturn(Result.failure("test-failure"));
+
+        assertThat(cachingVault.resolveSecret(KEY)).isNull();
+        assertThat(cachingVault.resolveSecret(KEY)).isNull();
+
+        verify(vaultClient, times(2)).getSecretValue(KEY);
+    }
+
+    @Test
+    void getSecret_withCache_shouldCacheMissingSecretOnly_whenNegativeCachingEnabled() {
+        var cachingVault = new HashicorpVault(vaultClient, mock(), ConcurrentCache.Builder.<String, String>newInstance()
+                .negativeTimeToLive(Duration.ofMinutes(1))
+                .build(), List.of());
+        when(vaultClient.getSecretValue("missing")).thenReturn(Result.failure(HashicorpVaultClient.SECRET_NOT_FOUND));
+        when(vaultClient.getSecretValue("failing")).thenReturn(Result.failure("test-failure"));
+
+        assertThat(cachingVault.resolveSecret("missing")).isNull();
+        assertThat(cachingVault.resolveSecret("missing")).isNull();
+        assertThat(cachingVault.resolveSecret("failing")).isNull();
+        assertThat(cachingVault.resolveSecret("failing")).isNull();
+
+        verify(vaultClient, times(1)).getSecretValue("missing");
+        verify(vaultClient, times(2)).getSecretValue("failing");
+    }
+
+    @Test
+    void getSecret_withCache_shouldKeepCachedSecret_whenRefreshFails() {
+        var cachingVault = new HashicorpVault(vaultClient, mock(), ConcurrentCache.Builder.<String, String>newInstance()
+                .refreshAfter(Duration.ZERO)
+                .build(), List.of());
+        when(vaultClient.getSecretValue(KEY)).thenReturn(Result.success("test-secret"), Result.failure("test-failure"));
+
+        assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("test-secret");
+        assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("test-secret");
+        assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("test-secret");
+    }
+
+    @Test
+    void setSecret_withCache_shouldInvalidateCachedSecret() {
+        var cachingVault = new HashicorpVault(vaultClient, mock(), cache(), List.of());
+        when(vaultClient.getSecretValue(KEY)).thenReturn(Result.success("old-secret"), Result.success("new-secret"));
+        when(vaultClient.setSecret(KEY, "new-secret")).thenReturn(Result.success(null));
+
+        cachingVault.resolveSecret(KEY);
+        cachingVault.storeSecret(KEY, "new-secret");
+
+        assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("new-secret");
+    }
+
+    @Test
+    void destroySecret_withCache_shouldInvalidateCachedSecret() {
+        var cachingVault = new HashicorpVault(vaultClient, mock(), cache(), List.of());
+        when(vaultClient.getSecretValue(KEY)).thenReturn(Result.success("test-secret"), Result.failure(HashicorpVaultClient.SECRET_NOT_FOUND));
+        when(vaultClient.destroySecret(KEY)).thenReturn(Result.success());
+
+        cachingVault.resolveSecret(KEY);
+        cachingVault.deleteSecret(KEY);
+
+        assertThat(cachingVault.resolveSecret(KEY)).isNull();
+    }
+
+    private ConcurrentCache<String, String> cache() {
+        return ConcurrentCache.Builder.<String, String>newInstance()
+                .timeToLive(Duration.ofMinutes(1))
+                .build();
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher;
+
+import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Delivers callback messages asynchronously, without blocking the caller. Every endpoint (the callback URI) has its own
+ * bounded queue and at most {@code concurrency} messages in flight, so a slow or unreachable endpoint delays only its
+ * own messages. Failed deliveries are retried with an exponential backoff, messages that cannot be queued or delivered
+ * are logged and discarded.
+ */
+public class CallbackDeliveryQueue {
+
+    private static final int MAX_BACKOFF_EXPONENT = 10;
+
+    private final RemoteMessageDispatcherRegistry dispatcher;
+    private final ScheduledExecutorService scheduler;
+    private final Monitor monitor;
+    private final int capacity;
+    private final int concurrency;
+    private final int maxRetries;
+    private final long retryDelayMillis;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for CallbackDeliveryQueue
+     *
+     * @param dispatcher  the dispatcher that sends the messages.
+     * @param scheduler   runs the deliveries and schedules the retries.
+     * @param monitor     the monitor.
+     * @param capacity    the maximum number of messages queued for a single endpoint.
+     * @param concurrency the maximum number of messages in flight for a single endpoint, 1 preserves the event order.
+     * @param maxRetries  the number of retries before a message is discarded.
+     * @param retryDelay  the delay before the first retry, doubled at every further retry.
+     */
+    public CallbackDeliveryQueue(RemoteMessageDispatcherRegistry dispatcher, ScheduledExecutorService scheduler, Monitor monitor,
+                                 int capacity, int concurrency, int maxRetries, Duration retryDelay) {
+        this.dispatcher = dispatcher;
+        this.scheduler = scheduler;
+        this.monitor = monitor;
+        this.capacity = capacity;
+        this.concurrency = concurrency;
+        this.maxRetries = maxRetries;
+        this.retryDelayMillis = retryDelay.toMillis();
+    }
+
+    /**
+     * Queues a message for delivery.
+     *
+     * @param message the message.
+     * @return false if the queue of the endpoint is full and the message has been discarded, true otherwise.
+     */
+    public boolean enqueue(CallbackEventRemoteMessage<?> message) {
+        var address = message.getCounterPartyAddress();
+        while (true) {
+            var endpoint = endpoints.computeIfAbsent(address, Endpoint::new);
+            synchronized (endpoint) {
+                if (endpoint.removed) {
+                    // the endpoint became idle and has been removed in the meantime
+                    continue;
+                }
+                if (endpoint.queue.size() >= capacity) {
+                    monitor.severe(format("Callback queue for URI %s is full, discarding event %s", address, message.getEventEnvelope().getId()));
+                    return false;
+                }
+                endpoint.queue.add(message);
+            }
+            drain(endpoint);
+            return true;
+        }
+    }
+
+    /**
+     * Returns the number of messages queued or in flight.
+     */
+    public int size() {
+        return endpoints.values().stream().mapToInt(Endpoint::size).sum();
+    }
+
+    private void drain(Endpoint endpoint) {
+        while (true) {
+            CallbackEventRemoteMessage<?> message;
+            synchronized (endpoint) {
+                if (endpoint.inFlight >= concurrency || endpoint.queue.isEmpty()) {
+                    return;
+                }
+                message = endpoint.queue.poll();
+                endpoint.inFlight++;
+            }
+            deliver(endpoint, message, 0);
+        }
+    }
+
+    private void deliver(Endpoint endpoint, CallbackEventRemoteMessage<?> message, int attempt) {
+        dispatch(message).whenComplete((result, throwable) -> {
+            if (throwable == null && result.succeeded()) {
+                completed(endpoint);
+                return;
+            }
+
+            var failure = throwable != null ? throwable.getMessage() : result.getFailureDetail();
+            var retriable = throwable != null || !result.fatalError();
+            if (retriable && attempt < maxRetries) {
+                var delay = retryDelayMillis << Math.min(attempt, MAX_BACKOFF_EXPONENT);
+                monitor.debug(format("Failed to invoke callback at URI %s, retrying in %s ms: %s", endpoint.address, delay, failure));
+                scheduler.schedule(() -> deliver(endpoint, message, attempt + 1), delay, MILLISECONDS);
+            } else {
+                monitor.severe(format("Failed to invoke callback at URI %s after %s attempts, discarding event %s: %s",
+                        endpoint.address, attempt + 1, message.getEventEnvelope().getId(), failure));
+                completed(endpoint);
+            }
+        });
+    }
+
+    private CompletableFuture<StatusResult<Object>> dispatch(CallbackEventRemoteMessage<?> message) {
+        try {
+            return dispatcher.dispatch(Object.class, message);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void completed(Endpoint endpoint) {
+        synchronized (endpoint) {
+            endpoint.inFlight--;
+            if (endpoint.inFlight == 0 && endpoint.queue.isEmpty()) {
+                endpoint.removed = true;
+                endpoints.remove(endpoint.address, endpoint);
+                return;
+            }
+        }
+        // drain on the scheduler, to avoid recursion when the dispatcher completes synchronously
+        scheduler.execute(() -> drain(endpoint));
+    }
+
+    private static class Endpoint {
+        private final String address;
+        private final Queue<CallbackEventRemoteMessage<?>> queue = new ArrayDeque<>();
+        private int inFlight;
+        private boolean removed;
+
+        Endpoint(String address) {
+            this.address = address;
+        }
+
+        synchronized int size() {
+            return queue.size() + inFlight;
+        }
+    }
+}
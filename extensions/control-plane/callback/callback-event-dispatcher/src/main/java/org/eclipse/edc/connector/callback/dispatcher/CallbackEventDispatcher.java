@@ -24,9 +24,12 @@ import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -35,7 +38,11 @@ import static java.lang.String.format;
 /**
  * Subscriber for invoking callbacks associated to {@link Event}. If the {@link CallbackAddress#getEvents()} matches
  * the {@link Event#name()}, the callback is the invoked using a {@link RemoteMessageDispatcherRegistry} with protocol
- * extracted by {@link CallbackAddress#getUri()}
+ * extracted by {@link CallbackAddress#getUri()}.
+ * <p>
+ * When a {@link CallbackDeliveryQueue} is provided, callbacks are queued and delivered asynchronously. Otherwise,
+ * e.g. for transactional callbacks, all the matching callbacks are invoked concurrently and the subscriber waits for
+ * all of them, failing if any of them failed.
  */
 public class CallbackEventDispatcher implements EventSubscriber {
     private final RemoteMessageDispatcherRegistry dispatcher;
@@ -43,34 +50,41 @@ public class CallbackEventDispatcher implements EventSubscriber {
     private final Monitor monitor;
     private final CallbackRegistry callbackRegistry;
     private final CallbackProtocolResolverRegistry resolverRegistry;
+    private final CallbackDeliveryQueue deliveryQueue;
 
     public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry, boolean transactional, Monitor monitor) {
+        this(dispatcher, callbackRegistry, resolveRegistry, transactional, monitor, null);
+    }
+
+    public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry,
+                                   boolean transactional, Monitor monitor, @Nullable CallbackDeliveryQueue deliveryQueue) {
         this.dispatcher = dispatcher;
         this.callbackRegistry = callbackRegistry;
         this.transactional = transactional;
         this.resolverRegistry = resolveRegistry;
         this.monitor = monitor;
+        this.deliveryQueue = deliveryQueue;
     }
 
     @Override
     public <E extends Event> void on(EventEnvelope<E> eventEnvelope) {
-        var callbacks = getCallbacks(eventEnvelope);
         var eventName = eventEnvelope.getPayload().name();
+        var messages = getCallbacks(eventEnvelope).stream()
+                .filter(callback -> matches(eventName, callback))
+                .map(callback -> toMessage(callback, eventEnvelope))
+                .filter(Objects::nonNull)
+                .toList();
 
-        for (var callback : callbacks) {
-            if (matches(eventName, callback)) {
-                try {
-                    var protocol = resolverRegistry.resolve(URI.create(callback.getUri()).getScheme());
-                    if (protocol != null) {
-                        dispatcher.dispatch(Object.class, new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol)).get();
-                    } else {
-                        monitor.warning(format("Failed to resolve protocol for URI %s", callback.getUri()));
-                    }
-                } catch (Exception e) {
-                    monitor.severe(format("Failed to invoke callback at URI: %s", callback.getUri()), e);
-                    throw new EdcException(e);
-                }
-            }
+        if (deliveryQueue != null) {
+            messages.forEach(deliveryQueue::enqueue);
+            return;
+        }
+
+        var deliveries = messages.stream().map(this::dispatch).toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(deliveries).get();
+        } catch (Exception e) {
+            throw new EdcException(e);
         }
     }
 
@@ -78,6 +92,30 @@ public class CallbackEventDispatcher implements EventSubscriber {
         return transactional;
     }
 
+    @Nullable
+    private <E extends Event> CallbackEventRemoteMessage<E> toMessage(CallbackAddress callback, EventEnvelope<E> eventEnvelope) {
+        var protocol = resolverRegistry.resolve(URI.create(callback.getUri()).getScheme());
+        if (protocol == null) {
+            monitor.warning(format("Failed to resolve protocol for URI %s", callback.getUri()));
+            return null;
+        }
+        return new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol);
+    }
+
+    private CompletableFuture<?> dispatch(CallbackEventRemoteMessage<?> message) {
+        CompletableFuture<?> future;
+        try {
+            future = dispatcher.dispatch(Object.class, message);
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                monitor.severe(format("Failed to invoke callback at URI: %s", message.getCounterPartyAddress()), throwable);
+            }
+        });
+    }
+
     private <E extends Event> List<CallbackAddress> getCallbacks(EventEnvelope<E> eventEnvelope) {
         var staticCallbacks = callbackRegistry.resolve(eventEnvelope.getPayload().name()).stream();
         var dynamicCallbacks =
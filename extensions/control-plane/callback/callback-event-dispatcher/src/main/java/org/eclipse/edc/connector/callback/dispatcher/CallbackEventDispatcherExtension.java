@@ -20,19 +20,46 @@ import org.eclipse.edc.connector.spi.callback.CallbackRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
 @Provides(CallbackProtocolResolverRegistry.class)
 @Extension(value = CallbackEventDispatcherExtension.NAME)
 public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher extension";
 
+    private static final boolean DEFAULT_ASYNC_ENABLED = true;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final int DEFAULT_CONCURRENCY = 1;
+    private static final int DEFAULT_RETRY_MAX = 5;
+    private static final long DEFAULT_RETRY_DELAY_MILLIS = 1000;
+
+    @Setting(value = "If true, non-transactional callbacks are queued and delivered asynchronously. Default value " + DEFAULT_ASYNC_ENABLED, type = "boolean")
+    public static final String CALLBACK_ASYNC_ENABLED = "edc.callback.async.enabled";
+
+    @Setting(value = "Maximum number of non-transactional callbacks queued for a single callback URI. Default value " + DEFAULT_QUEUE_CAPACITY, type = "int")
+    public static final String CALLBACK_QUEUE_CAPACITY = "edc.callback.queue.capacity";
+
+    @Setting(value = "Maximum number of non-transactional callbacks in flight for a single callback URI, 1 preserves the event order. Default value " + DEFAULT_CONCURRENCY, type = "int")
+    public static final String CALLBACK_CONCURRENCY = "edc.callback.concurrency";
+
+    @Setting(value = "Number of retries of a failed non-transactional callback. Default value " + DEFAULT_RETRY_MAX, type = "int")
+    public static final String CALLBACK_RETRY_MAX = "edc.callback.retry.max";
+
+    @Setting(value = "Delay in milliseconds before the first retry of a failed non-transactional callback, doubled at every further retry. Default value " + DEFAULT_RETRY_DELAY_MILLIS, type = "long")
+    public static final String CALLBACK_RETRY_DELAY_MILLIS = "edc.callback.retry.delay.millis";
+
     @Inject
     RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -45,6 +72,11 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Inject
     CallbackRegistry callbackRegistry;
 
+    @Inject
+    ExecutorInstrumentation executorInstrumentation;
+
+    private ScheduledExecutorService scheduler;
+
     @Override
     public String name() {
         return NAME;
@@ -58,7 +90,27 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
 
         // Event listener for invoking callbacks in sync (transactional) and async (not transactional)
         router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor, deliveryQueue(context)));
+
+    }
+
+    @Override
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private CallbackDeliveryQueue deliveryQueue(ServiceExtensionContext context) {
+        if (!context.getSetting(CALLBACK_ASYNC_ENABLED, DEFAULT_ASYNC_ENABLED)) {
+            return null;
+        }
 
+        scheduler = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "Callback delivery");
+        return new CallbackDeliveryQueue(dispatcherRegistry, scheduler, monitor,
+                context.getSetting(CALLBACK_QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY),
+                context.getSetting(CALLBACK_CONCURRENCY, DEFAULT_CONCURRENCY),
+                context.getSetting(CALLBACK_RETRY_MAX, DEFAULT_RETRY_MAX),
+                Duration.ofMillis(context.getSetting(CALLBACK_RETRY_DELAY_MILLIS, DEFAULT_RETRY_DELAY_MILLIS)));
     }
 }
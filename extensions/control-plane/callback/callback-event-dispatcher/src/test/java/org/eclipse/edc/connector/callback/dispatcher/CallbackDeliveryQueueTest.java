@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher;
+
+import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallbackDeliveryQueueTest {
+
+    private final RemoteMessageDispatcherRegistry dispatcher = mock();
+    private final Monitor monitor = mock();
+    private final CallbackDeliveryQueue queue = new CallbackDeliveryQueue(dispatcher, Executors.newSingleThreadScheduledExecutor(), monitor,
+            1, 1, 2, Duration.ZERO);
+
+    @AfterEach
+    void tearDown() {
+        await().untilAsserted(() -> assertThat(queue.size()).isZero());
+    }
+
+    @Test
+    void enqueue_shouldDeliverMessage() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        var message = message("local://test");
+
+        var result = queue.enqueue(message);
+
+        assertThat(result).isTrue();
+        await().untilAsserted(() -> verify(dispatcher).dispatch(Object.class, message));
+    }
+
+    @Test
+    void enqueue_shouldRetry_whenDeliveryFails() {
+        when(dispatcher.dispatch(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.failure(ERROR_RETRY, "error")))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+
+        queue.enqueue(message("local://test"));
+
+        await().untilAsserted(() -> verify(dispatcher, times(3)).dispatch(any(), any()));
+    }
+
+    @Test
+    void enqueue_shouldDiscard_whenRetriesAreExhausted() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+
+        queue.enqueue(message("local://test"));
+
+        await().untilAsserted(() -> {
+            verify(dispatcher, times(3)).dispatch(any(), any());
+            verify(monitor).severe(argThat((String message) -> message.contains("after 3 attempts")));
+        });
+    }
+
+    @Test
+    void enqueue_shouldNotRetry_whenFailureIsFatal() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.failure(FATAL_ERROR, "error")));
+
+        queue.enqueue(message("local://test"));
+
+        await().untilAsserted(() -> verify(monitor).severe(argThat((String message) -> message.contains("after 1 attempts"))));
+        verify(dispatcher).dispatch(any(), any());
+    }
+
+    @Test
+    void enqueue_shouldDiscard_whenEndpointQueueIsFull() {
+        var pending = new CompletableFuture<StatusResult<Object>>();
+        when(dispatcher.dispatch(any(), argThat(message -> message != null && "local://slow".equals(message.getCounterPartyAddress())))).thenReturn(pending);
+        when(dispatcher.dispatch(any(), argThat(message -> message != null && "local://fast".equals(message.getCounterPartyAddress()))))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+
+        assertThat(queue.enqueue(message("local://slow"))).isTrue();
+        assertThat(queue.enqueue(message("local://slow"))).isTrue();
+        assertThat(queue.enqueue(message("local://slow"))).isFalse();
+        assertThat(queue.enqueue(message("local://fast"))).isTrue();
+
+        await().untilAsserted(() -> assertThat(queue.size()).isEqualTo(2));
+
+        pending.complete(StatusResult.success("any"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CallbackEventRemoteMessage<TransferProcessCompleted> message(String uri) {
+        var callback = CallbackAddress.Builder.newInstance()
+                .uri(uri)
+                .events(Set.of("transfer.process.completed"))
+                .build();
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id").build();
+        EventEnvelope<TransferProcessCompleted> envelope = EventEnvelope.Builder.newInstance().id("test").at(10).payload(event).build();
+        return new CallbackEventRemoteMessage<>(callback, envelope, "local");
+    }
+}
@@ -40,6 +40,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -183,8 +184,9 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
-                return negotiations;
+                var ids = negotiations.stream().map(ContractNegotiation::getId).toList();
+                var leased = new HashSet<>(leaseContext.withConnection(connection).acquireLeases(ids));
+                return negotiations.stream().filter(cn -> leased.contains(cn.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -42,6 +42,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -84,8 +85,9 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
-                return transferProcesses;
+                var ids = transferProcesses.stream().map(TransferProcess::getId).toList();
+                var leased = new HashSet<>(leaseContext.withConnection(connection).acquireLeases(ids));
+                return transferProcesses.stream().filter(transferProcess -> leased.contains(transferProcess.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
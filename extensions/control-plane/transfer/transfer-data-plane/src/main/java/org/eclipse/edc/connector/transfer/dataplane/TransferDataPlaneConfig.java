@@ -29,4 +29,8 @@ public interface TransferDataPlaneConfig {
     @Setting(value = "Alias of public key used for verifying the tokens, retrieved from the vault")
     String TOKEN_VERIFIER_PUBLIC_KEY_ALIAS = "edc.transfer.proxy.token.verifier.publickey.alias";
 
+    long DEFAULT_TRANSFER_TYPES_CACHE_SECONDS = 30;
+    @Setting(value = "Time (in seconds) the transfer types supported by the registered data planes are cached for, 0 disables the cache. Default value: " + DEFAULT_TRANSFER_TYPES_CACHE_SECONDS, type = "long")
+    String TRANSFER_TYPES_CACHE_SECONDS = "edc.transfer.dataplane.transfertypes.cache.seconds";
+
 }
@@ -44,10 +44,13 @@ import org.jetbrains.annotations.NotNull;
 
 import java.security.PrivateKey;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.function.Supplier;
 
+import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.DEFAULT_TRANSFER_TYPES_CACHE_SECONDS;
 import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_SIGNER_PRIVATE_KEY_ALIAS;
 import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_VERIFIER_PUBLIC_KEY_ALIAS;
+import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TRANSFER_TYPES_CACHE_SECONDS;
 
 @Extension(value = TransferDataPlaneCoreExtension.NAME)
 public class TransferDataPlaneCoreExtension implements ServiceExtension {
@@ -123,7 +126,8 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
 
         tokenValidationRulesRegistry.addRule(TRANSFER_DATAPLANE_TOKEN_CONTEXT, new ExpirationDateValidationRule(clock));
 
-        dataFlowManager.register(new ProviderPushTransferDataFlowController(callbackUrl, selectorService, clientFactory));
+        var transferTypesCacheTtl = Duration.ofSeconds(context.getSetting(TRANSFER_TYPES_CACHE_SECONDS, DEFAULT_TRANSFER_TYPES_CACHE_SECONDS));
+        dataFlowManager.register(new ProviderPushTransferDataFlowController(callbackUrl, selectorService, clientFactory, clock, transferTypesCacheTtl));
         dataAddressValidatorRegistry.registerDestinationValidator("HttpProxy", dataAddress -> ValidationResult.success());
     }
 
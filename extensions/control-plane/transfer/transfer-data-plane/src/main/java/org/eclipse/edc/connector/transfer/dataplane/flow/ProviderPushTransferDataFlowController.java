@@ -27,11 +27,19 @@ import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collection;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import static java.util.Map.entry;
+import static java.util.stream.Collectors.flatMapping;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toSet;
 import static org.eclipse.edc.connector.transfer.dataplane.spi.TransferDataPlaneConstants.HTTP_PROXY;
 import static org.eclipse.edc.connector.transfer.spi.flow.FlowType.PULL;
@@ -42,13 +50,32 @@ public class ProviderPushTransferDataFlowController implements DataFlowControlle
     private final ControlApiUrl callbackUrl;
     private final DataPlaneSelectorService selectorClient;
     private final DataPlaneClientFactory clientFactory;
+    private final Clock clock;
+    private final Duration transferTypesTtl;
 
     private final Set<String> transferTypes = Set.of("%s-%s".formatted("HttpData", PULL));
+    private volatile TransferTypesSnapshot transferTypesSnapshot;
 
     public ProviderPushTransferDataFlowController(ControlApiUrl callbackUrl, DataPlaneSelectorService selectorClient, DataPlaneClientFactory clientFactory) {
+        this(callbackUrl, selectorClient, clientFactory, Clock.systemUTC(), Duration.ZERO);
+    }
+
+    /**
+     * Constructor for ProviderPushTransferDataFlowController
+     *
+     * @param callbackUrl      the callback url passed to the data planes.
+     * @param selectorClient   the data plane selector.
+     * @param clientFactory    the data plane client factory.
+     * @param clock            the clock.
+     * @param transferTypesTtl how long the transfer types supported by the data planes are cached for, zero disables the cache.
+     */
+    public ProviderPushTransferDataFlowController(ControlApiUrl callbackUrl, DataPlaneSelectorService selectorClient, DataPlaneClientFactory clientFactory,
+                                                  Clock clock, Duration transferTypesTtl) {
         this.callbackUrl = callbackUrl;
         this.selectorClient = selectorClient;
         this.clientFactory = clientFactory;
+        this.clock = clock;
+        this.transferTypesTtl = transferTypesTtl;
     }
 
     @Override
@@ -61,25 +88,25 @@ public class ProviderPushTransferDataFlowController implements DataFlowControlle
 
     @Override
     public @NotNull StatusResult<DataFlowResponse> initiateFlow(TransferProcess transferProcess, Policy policy) {
-        var dataFlowRequest = DataFlowRequest.Builder.newInstance()
-                .id(UUID.randomUUID().toString())
-                .processId(transferProcess.getId())
-                .trackable(true)
-                .sourceDataAddress(transferProcess.getContentDataAddress())
-                .destinationDataAddress(transferProcess.getDataDestination())
-                .transferType(transferProcess.getTransferType())
-                .callbackAddress(callbackUrl != null ? callbackUrl.get() : null)
-                .build();
-
         var dataPlaneInstance = selectorClient.select(transferProcess.getContentDataAddress(), transferProcess.getDataDestination());
         return clientFactory.createClient(dataPlaneInstance)
-                .transfer(dataFlowRequest)
+                .transfer(createDataFlowRequest(transferProcess))
                 .map(it -> DataFlowResponse.Builder.newInstance().build());
     }
 
+    @Override
+    public @NotNull CompletableFuture<StatusResult<DataFlowResponse>> initiateFlowAsync(TransferProcess transferProcess, Policy policy) {
+        var dataPlaneInstance = selectorClient.select(transferProcess.getContentDataAddress(), transferProcess.getDataDestination());
+        return clientFactory.createClient(dataPlaneInstance)
+                .transferAsync(createDataFlowRequest(transferProcess))
+                .thenApply(result -> result.map(it -> DataFlowResponse.Builder.newInstance().build()));
+    }
+
     @Override
     public StatusResult<Void> terminate(TransferProcess transferProcess) {
-        return selectorClient.getAll().stream().map(clientFactory::createClient)
+        var dataPlanes = selectorClient.getAll();
+        refreshTransferTypes(dataPlanes);
+        return dataPlanes.stream().map(clientFactory::createClient)
                 .map(client -> client.terminate(transferProcess.getId()))
                 .reduce(StatusResult::merge)
                 .orElse(StatusResult.success());
@@ -87,12 +114,51 @@ public class ProviderPushTransferDataFlowController implements DataFlowControlle
 
     @Override
     public Set<String> transferTypesFor(Asset asset) {
-        return selectorClient.getAll().stream()
-                .filter(it -> it.getAllowedSourceTypes().contains(asset.getDataAddress().getType()))
-                .map(DataPlaneInstance::getAllowedDestTypes)
-                .flatMap(Collection::stream)
-                .map(it -> "%s-%s".formatted(it, PUSH))
-                .collect(toSet());
+        return transferTypesBySourceType().getOrDefault(asset.getDataAddress().getType(), Set.of());
+    }
+
+    /**
+     * Returns the push transfer types supported by the data planes by source type. The selector is queried once per
+     * ttl instead of once per asset, because this is called for every asset of a catalog.
+     */
+    private Map<String, Set<String>> transferTypesBySourceType() {
+        var snapshot = transferTypesSnapshot;
+        if (snapshot == null || snapshot.isExpired(clock.instant())) {
+            synchronized (this) {
+                snapshot = transferTypesSnapshot;
+                if (snapshot == null || snapshot.isExpired(clock.instant())) {
+                    snapshot = refreshTransferTypes(selectorClient.getAll());
+                }
+            }
+        }
+        return snapshot.bySourceType();
+    }
+
+    private TransferTypesSnapshot refreshTransferTypes(List<DataPlaneInstance> dataPlanes) {
+        var bySourceType = dataPlanes.stream()
+                .flatMap(dataPlane -> dataPlane.getAllowedSourceTypes().stream().map(sourceType -> entry(sourceType, dataPlane)))
+                .collect(groupingBy(Map.Entry::getKey, flatMapping(it -> it.getValue().getAllowedDestTypes().stream().map(type -> "%s-%s".formatted(type, PUSH)), toSet())));
+        var snapshot = new TransferTypesSnapshot(bySourceType, clock.instant().plus(transferTypesTtl));
+        transferTypesSnapshot = snapshot;
+        return snapshot;
+    }
+
+    private DataFlowRequest createDataFlowRequest(TransferProcess transferProcess) {
+        return DataFlowRequest.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .processId(transferProcess.getId())
+                .trackable(true)
+                .sourceDataAddress(transferProcess.getContentDataAddress())
+                .destinationDataAddress(transferProcess.getDataDestination())
+                .transferType(transferProcess.getTransferType())
+                .callbackAddress(callbackUrl != null ? callbackUrl.get() : null)
+                .build();
+    }
+
+    private record TransferTypesSnapshot(Map<String, Set<String>> bySourceType, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
     }
 
 }
@@ -31,14 +31,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.transfer.dataplane.spi.TransferDataPlaneConstants.HTTP_PROXY;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -89,6 +94,26 @@ class ProviderPushTransferDataFlowControllerTest {
         assertThat(captured.getCallbackAddress()).isNotNull();
     }
 
+    @Test
+    void initiateFlowAsync_shouldTransferAsynchronously() {
+        var transferProcess = TransferProcess.Builder.newInstance()
+                .dataRequest(createDataRequest())
+                .contentDataAddress(testDataAddress())
+                .build();
+
+        when(dataPlaneClient.transferAsync(any(DataFlowRequest.class))).thenReturn(completedFuture(StatusResult.success()));
+        when(selectorService.select(any(), any())).thenReturn(createDataPlaneInstance());
+        when(dataPlaneClientFactory.createClient(any())).thenReturn(dataPlaneClient);
+
+        var future = flowController.initiateFlowAsync(transferProcess, Policy.Builder.newInstance().build());
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(1)).satisfies(result -> assertThat(result).isSucceeded());
+        var captor = ArgumentCaptor.forClass(DataFlowRequest.class);
+        verify(dataPlaneClient).transferAsync(captor.capture());
+        assertThat(captor.getValue().getProcessId()).isEqualTo(transferProcess.getId());
+        verify(dataPlaneClient, never()).transfer(any());
+    }
+
     @Test
     void initiateFlow_returnFailedResultIfTransferFails() {
         var errorMsg = "error";
@@ -142,6 +167,23 @@ class ProviderPushTransferDataFlowControllerTest {
         assertThat(transferTypes).containsExactly("TargetDest-PUSH", "AnotherTargetDest-PUSH");
     }
 
+    @Test
+    void transferTypes_shouldQuerySelectorOnce_whenCached() {
+        var cachingController = new ProviderPushTransferDataFlowController(() -> URI.create("http://localhost"), selectorService, dataPlaneClientFactory,
+                Clock.systemUTC(), Duration.ofMinutes(1));
+        when(selectorService.getAll()).thenReturn(List.of(
+                dataPlaneInstanceBuilder().allowedSourceType("TargetSrc").allowedDestType("TargetDest").build()
+        ));
+        var asset = Asset.Builder.newInstance().dataAddress(DataAddress.Builder.newInstance().type("TargetSrc").build()).build();
+        var otherAsset = Asset.Builder.newInstance().dataAddress(DataAddress.Builder.newInstance().type("AnotherSrc").build()).build();
+
+        assertThat(cachingController.transferTypesFor(asset)).containsExactly("TargetDest-PUSH");
+        assertThat(cachingController.transferTypesFor(asset)).containsExactly("TargetDest-PUSH");
+        assertThat(cachingController.transferTypesFor(otherAsset)).isEmpty();
+
+        verify(selectorService, times(1)).getAll();
+    }
+
     private DataPlaneInstance createDataPlaneInstance() {
         return dataPlaneInstanceBuilder().build();
     }
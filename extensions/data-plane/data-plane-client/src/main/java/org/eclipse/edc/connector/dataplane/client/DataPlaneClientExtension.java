@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -35,6 +36,19 @@ import java.util.Objects;
 public class DataPlaneClientExtension implements ServiceExtension {
     public static final String NAME = "Data Plane Client";
 
+    private static final boolean DEFAULT_BATCH_ENABLED = true;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_BATCH_IN_FLIGHT = 2;
+
+    @Setting(value = "Whether the asynchronous requests to a remote data plane are coalesced into batches. Default value " + DEFAULT_BATCH_ENABLED, type = "boolean")
+    public static final String BATCH_ENABLED = "edc.dataplane.client.batch.enabled";
+
+    @Setting(value = "Maximum number of requests sent to a remote data plane in a single batch. Default value " + DEFAULT_BATCH_SIZE, type = "int")
+    public static final String BATCH_SIZE = "edc.dataplane.client.batch.size";
+
+    @Setting(value = "Maximum number of concurrent calls to a remote data plane, further requests are queued and batched. Default value " + DEFAULT_BATCH_IN_FLIGHT, type = "int")
+    public static final String BATCH_IN_FLIGHT = "edc.dataplane.client.batch.inflight";
+
     @Inject(required = false)
     private DataPlaneManager dataPlaneManager;
 
@@ -59,7 +73,11 @@ public class DataPlaneClientExtension implements ServiceExtension {
 
         context.getMonitor().debug(() -> "Using remote Data Plane client.");
         Objects.requireNonNull(httpClient, "To use remote Data Plane client, an EdcHttpClient instance must be registered");
-        return instance -> new RemoteDataPlaneClient(httpClient, typeManager.getMapper(), instance);
+        var mapper = typeManager.getMapper();
+        var batcher = context.getSetting(BATCH_ENABLED, DEFAULT_BATCH_ENABLED)
+                ? new DataPlaneRequestBatcher(httpClient, mapper, context.getSetting(BATCH_SIZE, DEFAULT_BATCH_SIZE), context.getSetting(BATCH_IN_FLIGHT, DEFAULT_BATCH_IN_FLIGHT))
+                : null;
+        return instance -> new RemoteDataPlaneClient(httpClient, mapper, instance, batcher);
     }
 }
 
@@ -0,0 +1,219 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.response.TransferBatchRequest;
+import org.eclipse.edc.connector.dataplane.spi.response.TransferBatchResponse;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.connector.dataplane.client.RemoteDataPlaneClient.TYPE_JSON;
+import static org.eclipse.edc.connector.dataplane.client.RemoteDataPlaneClient.handleResponse;
+import static org.eclipse.edc.connector.dataplane.client.RemoteDataPlaneClient.send;
+import static org.eclipse.edc.connector.dataplane.client.RemoteDataPlaneClient.terminateRequest;
+import static org.eclipse.edc.connector.dataplane.client.RemoteDataPlaneClient.transferRequest;
+import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+
+/**
+ * Coalesces the start and terminate requests sent to the same data plane. Up to {@code maxInFlight} calls are executed
+ * concurrently for every data plane, the requests submitted in the meantime are queued and sent together through the
+ * batch endpoint of the data plane control API as soon as a call completes, up to {@code maxBatchSize} per call.
+ * A single queued request is sent to its own endpoint, and data planes that do not expose the batch endpoint are
+ * detected and served with single requests.
+ */
+public class DataPlaneRequestBatcher {
+
+    private final EdcHttpClient httpClient;
+    private final ObjectMapper mapper;
+    private final int maxBatchSize;
+    private final int maxInFlight;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    public DataPlaneRequestBatcher(EdcHttpClient httpClient, ObjectMapper mapper, int maxBatchSize, int maxInFlight) {
+        this.httpClient = httpClient;
+        this.mapper = mapper;
+        this.maxBatchSize = maxBatchSize;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public CompletableFuture<StatusResult<Void>> transfer(DataPlaneInstance dataPlane, DataFlowRequest request) {
+        return submit(dataPlane, new Pending(request, null, new CompletableFuture<>()));
+    }
+
+    public CompletableFuture<StatusResult<Void>> terminate(DataPlaneInstance dataPlane, String transferProcessId) {
+        return submit(dataPlane, new Pending(null, transferProcessId, new CompletableFuture<>()));
+    }
+
+    private CompletableFuture<StatusResult<Void>> submit(DataPlaneInstance dataPlane, Pending pending) {
+        lanes.computeIfAbsent(dataPlane.getUrl().toString(), url -> new Lane(dataPlane)).submit(pending);
+        return pending.future();
+    }
+
+    /**
+     * A start request if {@code start} is set, a terminate request otherwise.
+     */
+    private record Pending(DataFlowRequest start, String terminate, CompletableFuture<StatusResult<Void>> future) {
+
+        String id() {
+            return start != null ? start.getId() : terminate;
+        }
+    }
+
+    private class Lane {
+        private final DataPlaneInstance dataPlane;
+        private final Queue<Pending> queue = new ArrayDeque<>();
+        private int inFlight;
+        private volatile boolean batchUnsupported;
+
+        Lane(DataPlaneInstance dataPlane) {
+            this.dataPlane = dataPlane;
+        }
+
+        void submit(Pending pending) {
+            List<Pending> batch;
+            synchronized (this) {
+                queue.add(pending);
+                batch = nextBatch();
+            }
+            if (batch != null) {
+                send(batch);
+            }
+        }
+
+        private List<Pending> nextBatch() {
+            if (inFlight >= maxInFlight || queue.isEmpty()) {
+                return null;
+            }
+            inFlight++;
+            var batch = new ArrayList<Pending>();
+            while (batch.size() < maxBatchSize && !queue.isEmpty()) {
+                batch.add(queue.poll());
+            }
+            return batch;
+        }
+
+        private void send(List<Pending> batch) {
+            CompletableFuture<Void> call;
+            try {
+                call = batch.size() == 1 || batchUnsupported ? sendSingle(batch) : sendBatch(batch);
+            } catch (Exception e) {
+                batch.forEach(pending -> pending.future().complete(StatusResult.failure(FATAL_ERROR, e.getMessage())));
+                call = CompletableFuture.completedFuture(null);
+            }
+
+            call.whenComplete((result, throwable) -> {
+                List<Pending> next;
+                synchronized (this) {
+                    inFlight--;
+                    next = nextBatch();
+                }
+                if (next != null) {
+                    send(next);
+                }
+            });
+        }
+
+        private CompletableFuture<Void> sendSingle(List<Pending> batch) {
+            var calls = batch.stream()
+                    .map(pending -> {
+                        var request = pending.start() != null ? transferRequest(mapper, dataPlane, pending.start()) : terminateRequest(dataPlane, pending.terminate());
+                        return send(httpClient, mapper, request, pending.id()).thenAccept(pending.future()::complete);
+                    })
+                    .toArray(CompletableFuture[]::new);
+            return CompletableFuture.allOf(calls);
+        }
+
+        private CompletableFuture<Void> sendBatch(List<Pending> batch) {
+            var starts = batch.stream().filter(it -> it.start() != null).toList();
+            var terminates = batch.stream().filter(it -> it.start() == null).toList();
+            var body = new TransferBatchRequest(starts.stream().map(Pending::start).toList(), terminates.stream().map(Pending::terminate).toList());
+
+            RequestBody requestBody;
+            try {
+                requestBody = RequestBody.create(mapper.writeValueAsString(body), TYPE_JSON);
+            } catch (JsonProcessingException e) {
+                throw new EdcException(e);
+            }
+            var request = new Request.Builder().post(requestBody).url(dataPlane.getUrl() + "/batch").build();
+
+            return httpClient.executeAsync(request, this::readBatchResponse)
+                    .thenCompose(response -> {
+                        if (response == null) {
+                            batchUnsupported = true;
+                            return sendSingle(batch);
+                        }
+                        complete(starts, response.getStart());
+                        complete(terminates, response.getTerminate());
+                        return CompletableFuture.<Void>completedFuture(null);
+                    })
+                    .exceptionally(throwable -> {
+                        batch.forEach(pending -> pending.future().complete(StatusResult.failure(FATAL_ERROR, throwable.getMessage())));
+                        return null;
+                    });
+        }
+
+        /**
+         * Returns null if the data plane does not support the batch endpoint.
+         */
+        private TransferBatchResponse readBatchResponse(Response response) {
+            if (response.code() == 404 || response.code() == 405) {
+                return null;
+            }
+            if (!response.isSuccessful()) {
+                var failure = handleResponse(mapper, response, "batch");
+                throw new EdcException(failure.getFailureDetail());
+            }
+            try {
+                return mapper.readValue(response.body().string(), TransferBatchResponse.class);
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
+
+        private void complete(List<Pending> pendings, List<TransferBatchResponse.Result> results) {
+            for (var i = 0; i < pendings.size(); i++) {
+                var pending = pendings.get(i);
+                if (i >= results.size()) {
+                    pending.future().complete(StatusResult.failure(FATAL_ERROR, format("Transfer request failed for request %s: missing result in batch response", pending.id())));
+                    continue;
+                }
+                var result = results.get(i);
+                if (result.succeeded()) {
+                    pending.future().complete(StatusResult.success());
+                } else {
+                    pending.future().complete(StatusResult.failure(FATAL_ERROR, format("Transfer request failed for request %s: %s", pending.id(), String.join(", ", result.getErrors()))));
+                }
+            }
+        }
+    }
+}
@@ -30,9 +30,11 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
@@ -45,26 +47,34 @@ public class RemoteDataPlaneClient implements DataPlaneClient {
     private final EdcHttpClient httpClient;
     private final ObjectMapper mapper;
     private final DataPlaneInstance dataPlane;
+    private final DataPlaneRequestBatcher batcher;
 
     public RemoteDataPlaneClient(EdcHttpClient httpClient, ObjectMapper mapper, DataPlaneInstance dataPlane) {
+        this(httpClient, mapper, dataPlane, null);
+    }
+
+    /**
+     * Constructor for RemoteDataPlaneClient
+     *
+     * @param httpClient the http client.
+     * @param mapper     the object mapper.
+     * @param dataPlane  the data plane instance.
+     * @param batcher    the batcher that coalesces the asynchronous requests, if null every request is sent on its own.
+     */
+    public RemoteDataPlaneClient(EdcHttpClient httpClient, ObjectMapper mapper, DataPlaneInstance dataPlane, @Nullable DataPlaneRequestBatcher batcher) {
         this.httpClient = httpClient;
         this.mapper = mapper;
         this.dataPlane = dataPlane;
+        this.batcher = batcher;
     }
 
     @WithSpan
     @Override
     public StatusResult<Void> transfer(DataFlowRequest dataFlowRequest) {
-        RequestBody body;
-        try {
-            body = RequestBody.create(mapper.writeValueAsString(dataFlowRequest), TYPE_JSON);
-        } catch (JsonProcessingException e) {
-            throw new EdcException(e);
-        }
-        var request = new Request.Builder().post(body).url(dataPlane.getUrl()).build();
+        var request = transferRequest(mapper, dataPlane, dataFlowRequest);
 
         try (var response = httpClient.execute(request)) {
-            return handleResponse(response, dataFlowRequest.getId());
+            return handleResponse(mapper, response, dataFlowRequest.getId());
         } catch (IOException e) {
             return StatusResult.failure(FATAL_ERROR, e.getMessage());
         }
@@ -72,31 +82,67 @@ public class RemoteDataPlaneClient implements DataPlaneClient {
 
     @Override
     public StatusResult<Void> terminate(String transferProcessId) {
-        var request = new Request.Builder().delete().url(dataPlane.getUrl() + "/" + transferProcessId).build();
+        var request = terminateRequest(dataPlane, transferProcessId);
 
         try (var response = httpClient.execute(request)) {
-            return handleResponse(response, transferProcessId);
+            return handleResponse(mapper, response, transferProcessId);
         } catch (IOException e) {
             return StatusResult.<Void>failure(FATAL_ERROR, e.getMessage());
         }
     }
 
-    private StatusResult<Void> handleResponse(Response response, String requestId) {
+    @WithSpan
+    @Override
+    public CompletableFuture<StatusResult<Void>> transferAsync(DataFlowRequest dataFlowRequest) {
+        if (batcher != null) {
+            return batcher.transfer(dataPlane, dataFlowRequest);
+        }
+        return send(httpClient, mapper, transferRequest(mapper, dataPlane, dataFlowRequest), dataFlowRequest.getId());
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<Void>> terminateAsync(String transferProcessId) {
+        if (batcher != null) {
+            return batcher.terminate(dataPlane, transferProcessId);
+        }
+        return send(httpClient, mapper, terminateRequest(dataPlane, transferProcessId), transferProcessId);
+    }
+
+    static Request transferRequest(ObjectMapper mapper, DataPlaneInstance dataPlane, DataFlowRequest dataFlowRequest) {
+        RequestBody body;
+        try {
+            body = RequestBody.create(mapper.writeValueAsString(dataFlowRequest), TYPE_JSON);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+        return new Request.Builder().post(body).url(dataPlane.getUrl()).build();
+    }
+
+    static Request terminateRequest(DataPlaneInstance dataPlane, String transferProcessId) {
+        return new Request.Builder().delete().url(dataPlane.getUrl() + "/" + transferProcessId).build();
+    }
+
+    static CompletableFuture<StatusResult<Void>> send(EdcHttpClient httpClient, ObjectMapper mapper, Request request, String requestId) {
+        return httpClient.executeAsync(request, response -> handleResponse(mapper, response, requestId))
+                .exceptionally(throwable -> StatusResult.failure(FATAL_ERROR, throwable.getMessage()));
+    }
+
+    static StatusResult<Void> handleResponse(ObjectMapper mapper, Response response, String requestId) {
         if (response.isSuccessful()) {
             return StatusResult.success();
         } else {
-            return handleError(response, requestId);
+            return handleError(mapper, response, requestId);
         }
     }
 
-    private StatusResult<Void> handleError(Response response, String requestId) {
+    private static StatusResult<Void> handleError(ObjectMapper mapper, Response response, String requestId) {
         var errorMsg = Optional.ofNullable(response.body())
-                .map(this::formatErrorMessage)
+                .map(body -> formatErrorMessage(mapper, body))
                 .orElse("null response body");
         return StatusResult.failure(FATAL_ERROR, format("Transfer request failed with status code %s for request %s: %s", response.code(), requestId, errorMsg));
     }
 
-    private String formatErrorMessage(ResponseBody body) {
+    private static String formatErrorMessage(ObjectMapper mapper, ResponseBody body) {
         try {
             var errorResponse = mapper.readValue(body.string(), TransferErrorResponse.class);
             return String.join(", ", errorResponse.getErrors());
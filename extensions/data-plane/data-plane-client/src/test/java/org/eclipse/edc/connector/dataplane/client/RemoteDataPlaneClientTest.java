@@ -18,6 +18,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.response.TransferBatchResponse;
 import org.eclipse.edc.connector.dataplane.spi.response.TransferErrorResponse;
 import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -38,6 +39,8 @@ import java.util.List;
 import java.util.UUID;
 
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getFreePort;
@@ -46,7 +49,9 @@ import static org.mockserver.integration.ClientAndServer.startClientAndServer;
 import static org.mockserver.matchers.Times.once;
 import static org.mockserver.model.HttpResponse.response;
 import static org.mockserver.model.HttpStatusCode.CONFLICT_409;
+import static org.mockserver.model.HttpStatusCode.NOT_FOUND_404;
 import static org.mockserver.model.HttpStatusCode.NO_CONTENT_204;
+import static org.mockserver.model.HttpStatusCode.OK_200;
 import static org.mockserver.stop.Stop.stopQuietly;
 
 class RemoteDataPlaneClientTest {
@@ -149,6 +154,43 @@ class RemoteDataPlaneClientTest {
         assertThat(result).isFailed();
     }
 
+    @Test
+    void transferAsync_shouldBatchRequestsQueuedWhileACallIsInFlight() throws JsonProcessingException {
+        var batchingClient = new RemoteDataPlaneClient(testHttpClient(), MAPPER, instance, new DataPlaneRequestBatcher(testHttpClient(), MAPPER, 10, 1));
+        var singleRequest = new HttpRequest().withMethod("POST").withPath(DATA_PLANE_PATH);
+        var batchRequest = new HttpRequest().withMethod("POST").withPath(DATA_PLANE_PATH + "/batch");
+        var batchResponse = new TransferBatchResponse(List.of(new TransferBatchResponse.Result("123", List.of()), new TransferBatchResponse.Result("123", List.of("error"))), List.of());
+        dataPlane.when(singleRequest).respond(response().withStatusCode(OK_200.code()).withDelay(MILLISECONDS, 500));
+        dataPlane.when(batchRequest).respond(response().withStatusCode(OK_200.code()).withBody(MAPPER.writeValueAsString(batchResponse), MediaType.APPLICATION_JSON));
+
+        var first = batchingClient.transferAsync(createDataFlowRequest());
+        var second = batchingClient.transferAsync(createDataFlowRequest());
+        var third = batchingClient.transferAsync(createDataFlowRequest());
+
+        assertThat(first).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(second).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(third).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result).isFailed());
+        dataPlane.verify(singleRequest, VerificationTimes.once());
+        dataPlane.verify(batchRequest, VerificationTimes.once());
+    }
+
+    @Test
+    void transferAsync_shouldSendSingleRequests_whenBatchEndpointNotAvailable() {
+        var batchingClient = new RemoteDataPlaneClient(testHttpClient(), MAPPER, instance, new DataPlaneRequestBatcher(testHttpClient(), MAPPER, 10, 1));
+        var singleRequest = new HttpRequest().withMethod("POST").withPath(DATA_PLANE_PATH);
+        var batchRequest = new HttpRequest().withMethod("POST").withPath(DATA_PLANE_PATH + "/batch");
+        dataPlane.when(singleRequest).respond(response().withStatusCode(OK_200.code()).withDelay(MILLISECONDS, 500));
+        dataPlane.when(batchRequest).respond(response().withStatusCode(NOT_FOUND_404.code()));
+
+        var futures = List.of(
+                batchingClient.transferAsync(createDataFlowRequest()),
+                batchingClient.transferAsync(createDataFlowRequest()),
+                batchingClient.transferAsync(createDataFlowRequest()));
+
+        assertThat(futures).allSatisfy(future -> assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> assertThat(result).isSucceeded()));
+        dataPlane.verify(singleRequest, VerificationTimes.exactly(3));
+    }
+
     private static HttpResponse withResponse(String errorMsg) throws JsonProcessingException {
         return response().withStatusCode(HttpStatusCode.BAD_REQUEST_400.code())
                 .withBody(MAPPER.writeValueAsString(new TransferErrorResponse(List.of(errorMsg))), MediaType.APPLICATION_JSON);
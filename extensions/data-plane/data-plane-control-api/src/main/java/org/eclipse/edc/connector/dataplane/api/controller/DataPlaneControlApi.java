@@ -20,6 +20,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.ws.rs.container.AsyncResponse;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
+import org.eclipse.edc.connector.dataplane.spi.response.TransferBatchRequest;
+import org.eclipse.edc.connector.dataplane.spi.response.TransferBatchResponse;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 
 @OpenAPIDefinition
@@ -36,6 +38,12 @@ public interface DataPlaneControlApi {
     )
     void initiateTransfer(DataFlowRequest request, AsyncResponse response);
 
+    @Operation(description = "Initiates and terminates a batch of data transfers. Every request of the batch is handled " +
+            "independently, the response contains one result for each of them, in the same order.",
+            responses = @ApiResponse(responseCode = "200", description = "Batch processed")
+    )
+    TransferBatchResponse batch(TransferBatchRequest request);
+
     @Operation(description = "Get the current state of a data transfer.",
             responses = @ApiResponse(responseCode = "200", description = "Missing access token")
     )
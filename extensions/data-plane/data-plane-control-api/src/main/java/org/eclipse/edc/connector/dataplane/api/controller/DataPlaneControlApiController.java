@@ -27,6 +27,8 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.response.TransferBatchRequest;
+import org.eclipse.edc.connector.dataplane.spi.response.TransferBatchResponse;
 import org.eclipse.edc.connector.dataplane.spi.response.TransferErrorResponse;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 
@@ -61,6 +63,15 @@ public class DataPlaneControlApiController implements DataPlaneControlApi {
         }
     }
 
+    @POST
+    @Path("/batch")
+    @Override
+    public TransferBatchResponse batch(TransferBatchRequest request) {
+        var start = request.getStart().stream().map(this::start).toList();
+        var terminate = request.getTerminate().stream().map(this::terminate).toList();
+        return new TransferBatchResponse(start, terminate);
+    }
+
     @GET
     @Override
     @Path("/{transferProcessId}")
@@ -77,6 +88,22 @@ public class DataPlaneControlApiController implements DataPlaneControlApi {
                 .onFailure(f -> response.resume(badRequest(List.of("Cannot terminate transfer: " + f.getFailureDetail()))));
     }
 
+    private TransferBatchResponse.Result start(DataFlowRequest request) {
+        var result = dataPlaneManager.validate(request);
+        if (result.failed()) {
+            var errors = result.getFailureMessages().isEmpty() ? List.of(format("Failed to validate request: %s", request.getId())) : result.getFailureMessages();
+            return new TransferBatchResponse.Result(request.getId(), errors);
+        }
+        dataPlaneManager.initiate(request);
+        return new TransferBatchResponse.Result(request.getId(), List.of());
+    }
+
+    private TransferBatchResponse.Result terminate(String transferProcessId) {
+        var result = dataPlaneManager.terminate(transferProcessId);
+        var errors = result.succeeded() ? List.<String>of() : List.of("Cannot terminate transfer: " + result.getFailureDetail());
+        return new TransferBatchResponse.Result(transferProcessId, errors);
+    }
+
     private Response badRequest(String error) {
         return badRequest(List.of(error));
     }
@@ -19,6 +19,7 @@ import io.restassured.specification.RequestSpecification;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.response.TransferBatchRequest;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
@@ -34,6 +35,7 @@ import java.util.UUID;
 import static io.restassured.RestAssured.given;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -113,6 +115,38 @@ class DataPlaneControlApiControllerTest extends RestControllerTestBase {
         verify(manager).terminate("transferId");
     }
 
+    @Test
+    void batch_shouldStartAndTerminateTransfers() {
+        var valid = DataFlowRequest.Builder.newInstance()
+                .id("valid")
+                .processId(UUID.randomUUID().toString())
+                .sourceDataAddress(testDestAddress())
+                .destinationDataAddress(testDestAddress())
+                .build();
+        var invalid = DataFlowRequest.Builder.newInstance()
+                .id("invalid")
+                .processId(UUID.randomUUID().toString())
+                .sourceDataAddress(testDestAddress())
+                .destinationDataAddress(testDestAddress())
+                .build();
+        when(manager.validate(argThat(request -> request != null && "valid".equals(request.getId())))).thenReturn(Result.success(Boolean.TRUE));
+        when(manager.validate(argThat(request -> request != null && "invalid".equals(request.getId())))).thenReturn(Result.failure("invalid request"));
+        when(manager.terminate(any())).thenReturn(StatusResult.success());
+
+        baseRequest()
+                .contentType(ContentType.JSON)
+                .body(new TransferBatchRequest(List.of(valid, invalid), List.of("transferId")))
+                .post("/transfer/batch")
+                .then()
+                .statusCode(200)
+                .body("start[0].errors", CoreMatchers.equalTo(List.of()))
+                .body("start[1].errors", CoreMatchers.equalTo(List.of("invalid request")))
+                .body("terminate[0].id", CoreMatchers.equalTo("transferId"));
+
+        verify(manager).initiate(isA(DataFlowRequest.class));
+        verify(manager).terminate("transferId");
+    }
+
     @Override
     protected Object controller() {
         return new DataPlaneControlApiController(manager);
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.dataplane.http;
 
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestParamsProviderImpl;
+import org.eclipse.edc.connector.dataplane.http.pipeline.ChunkedTransferRequestBody;
 import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSinkFactory;
 import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSourceFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
@@ -40,10 +41,14 @@ import org.eclipse.edc.spi.types.TypeManager;
 public class DataPlaneHttpExtension implements ServiceExtension {
     public static final String NAME = "Data Plane HTTP";
     private static final int DEFAULT_PART_SIZE = 5;
+    private static final int DEFAULT_CHUNK_SIZE = ChunkedTransferRequestBody.DEFAULT_CHUNK_SIZE;
 
     @Setting
     private static final String EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE = "edc.dataplane.http.sink.partition.size";
 
+    @Setting(value = "the maximum number of bytes moved from the source to the HTTP sink per write in chunked transfers. Default value " + DEFAULT_CHUNK_SIZE, type = "int")
+    private static final String EDC_DATAPLANE_HTTP_SINK_CHUNK_SIZE = "edc.dataplane.http.sink.chunk.size";
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -68,11 +73,12 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
         var sinkPartitionSize = context.getSetting(EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE, DEFAULT_PART_SIZE);
+        var sinkChunkSize = context.getSetting(EDC_DATAPLANE_HTTP_SINK_CHUNK_SIZE, DEFAULT_CHUNK_SIZE);
 
         var paramsProvider = new HttpRequestParamsProviderImpl(vault, typeManager);
         context.registerService(HttpRequestParamsProvider.class, paramsProvider);
 
-        var httpRequestFactory = new HttpRequestFactory();
+        var httpRequestFactory = new HttpRequestFactory(sinkChunkSize);
 
         var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory);
         pipelineService.registerFactory(sourceFactory);
@@ -17,7 +17,9 @@ package org.eclipse.edc.connector.dataplane.http.params;
 import okhttp3.HttpUrl;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import okio.Okio;
 import org.eclipse.edc.connector.dataplane.http.pipeline.ChunkedTransferRequestBody;
+import org.eclipse.edc.connector.dataplane.http.pipeline.HttpPart;
 import org.eclipse.edc.connector.dataplane.http.pipeline.NonChunkedTransferRequestBody;
 import org.eclipse.edc.connector.dataplane.http.pipeline.StringRequestBodySupplier;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
@@ -40,6 +42,21 @@ public class HttpRequestFactory {
     private static final String SLASH = "/";
     private static final String BACKSLASH = "\\";
 
+    private final long chunkSize;
+
+    public HttpRequestFactory() {
+        this(ChunkedTransferRequestBody.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a factory whose chunked request bodies read at most {@code chunkSize} bytes from the source per write.
+     *
+     * @param chunkSize the chunk size in bytes.
+     */
+    public HttpRequestFactory(long chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
     /**
      * Creates HTTP request from the provided set of parameters.
      *
@@ -63,6 +80,10 @@ public class HttpRequestFactory {
      * @return HTTP request.
      */
     public Request toRequest(HttpRequestParams params, DataSource.Part part) {
+        if (part instanceof HttpPart httpPart && httpPart.source() != null && !params.isNonChunkedTransfer() && part.mediaType() != null) {
+            // pipe the upstream Okio source segments straight into the request body
+            return toRequest(params, new ChunkedTransferRequestBody(httpPart::source, part.mediaType(), chunkSize));
+        }
         return toRequest(params, createRequestBody(params, part::openStream, part.mediaType()));
     }
 
@@ -82,7 +103,7 @@ public class HttpRequestFactory {
         }
         return params.isNonChunkedTransfer()
                 ? new NonChunkedTransferRequestBody(bodySupplier, contentType)
-                : new ChunkedTransferRequestBody(bodySupplier, contentType);
+                : new ChunkedTransferRequestBody(() -> Okio.source(bodySupplier.get()), contentType, chunkSize);
     }
 
     /**
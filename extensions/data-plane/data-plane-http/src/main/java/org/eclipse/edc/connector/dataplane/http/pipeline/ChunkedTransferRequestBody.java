@@ -15,6 +15,8 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
@@ -24,23 +26,42 @@ import java.util.function.Supplier;
 /**
  * Streams content into an OK HTTP buffered sink in chunks.
  * <p>
+ * Content is read from an Okio {@link Source} directly into the sink buffer, at most {@code chunkSize} bytes at a time,
+ * and complete segments are emitted to the network after every read. When the source is an Okio buffered source (e.g.
+ * the body of an upstream HTTP response) its segments are moved to the sink without copying, and the blocking write
+ * provides backpressure towards the source.
+ * <p>
  * Due to OkHttp implementation an extra header will be created (no-overridable) Transfer-Encoding with value chunked
  *
  * @see <a href="https://github.com/square/okhttp/blob/master/docs/features/calls.md">OkHttp Dcoumentation</a>
  */
 public class ChunkedTransferRequestBody extends AbstractTransferRequestBody {
 
-    private final Supplier<InputStream> bodySupplier;
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final Supplier<? extends Source> sourceSupplier;
+    private final long chunkSize;
 
     public ChunkedTransferRequestBody(Supplier<InputStream> bodySupplier, String contentType) {
+        this(() -> Okio.source(bodySupplier.get()), contentType, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ChunkedTransferRequestBody(Supplier<? extends Source> sourceSupplier, String contentType, long chunkSize) {
         super(contentType);
-        this.bodySupplier = bodySupplier;
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0");
+        }
+        this.sourceSupplier = sourceSupplier;
+        this.chunkSize = chunkSize;
     }
 
     @Override
     public void writeTo(@NotNull BufferedSink sink) throws IOException {
-        try (var os = sink.outputStream(); var is = bodySupplier.get()) {
-            is.transferTo(os);
+        try (var source = sourceSupplier.get()) {
+            while (source.read(sink.getBuffer(), chunkSize) != -1) {
+                sink.emitCompleteSegments();
+            }
         }
+        sink.emit();
     }
 }
@@ -65,10 +65,11 @@ public class HttpDataSource implements DataSource {
                 if (body == null) {
                     throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
                 }
-                var stream = body.byteStream();
+                var source = body.source();
+                var stream = source.inputStream();
                 responseBodyStream.set(new ResponseBodyStream(body, stream));
                 var mediaType = Optional.ofNullable(body.contentType()).map(MediaType::toString).orElse(OCTET_STREAM);
-                return success(Stream.of(new HttpPart(name, stream, mediaType)));
+                return success(Stream.of(new HttpPart(name, stream, mediaType, source)));
             } else {
                 try {
                     if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
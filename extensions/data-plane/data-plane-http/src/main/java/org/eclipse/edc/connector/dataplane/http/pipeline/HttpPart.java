@@ -14,11 +14,26 @@
 
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
+import okio.BufferedSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.InputStream;
 
-public record HttpPart(String name, InputStream content, String mediaType) implements DataSource.Part {
+/**
+ * A part read from an HTTP response. When available, the underlying Okio {@link BufferedSource} is exposed so that
+ * HTTP sinks can move its buffer segments straight into the request body instead of copying through the {@link InputStream}.
+ *
+ * @param name      the part name.
+ * @param content   the content stream.
+ * @param mediaType the media type.
+ * @param source    the Okio source backing {@code content}, may be null.
+ */
+public record HttpPart(String name, InputStream content, String mediaType, @Nullable BufferedSource source) implements DataSource.Part {
+
+    public HttpPart(String name, InputStream content, String mediaType) {
+        this(name, content, mediaType, null);
+    }
 
     @Override
     public long size() {
@@ -15,6 +15,8 @@
 package org.eclipse.edc.connector.dataplane.http.params;
 
 import io.netty.handler.codec.http.HttpMethod;
+import okio.Buffer;
+import org.eclipse.edc.connector.dataplane.http.pipeline.HttpPart;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.junit.jupiter.api.Nested;
@@ -216,6 +218,24 @@ class HttpRequestFactoryTest {
             assertThat(body.contentLength()).isEqualTo(6);
         }
 
+        @Test
+        void verifyChunkedRequest_fromHttpPartSource() throws IOException {
+            var params = HttpRequestParams.Builder.newInstance()
+                    .baseUrl(BASE_URL)
+                    .method(POST.name())
+                    .nonChunkedTransfer(false)
+                    .build();
+            var source = new Buffer().writeUtf8("a body");
+            var part = new HttpPart("test", source.inputStream(), "application/octet-stream", source);
+
+            var request = paramsToRequest.toRequest(params, part);
+
+            var body = request.body();
+            assertThat(body).isNotNull();
+            assertThat(body.contentLength()).isEqualTo(-1);
+            assertThat(formatRequestBodyAsString(body)).isEqualTo("a body");
+        }
+
         private record TestPart(String mediaType, String data) implements DataSource.Part {
 
             @Override
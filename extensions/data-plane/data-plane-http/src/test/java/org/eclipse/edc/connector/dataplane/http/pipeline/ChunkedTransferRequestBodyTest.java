@@ -14,31 +14,45 @@
 
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
-import okio.BufferedSink;
+import okio.Buffer;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ChunkedTransferRequestBodyTest {
 
     @Test
     void verifyStreamingTransfer() throws IOException {
         var content = "Test content";
-        var sink = mock(BufferedSink.class);
-        var outputStream = new ByteArrayOutputStream();
-
-        when(sink.outputStream()).thenReturn(outputStream);
+        var sink = new Buffer();
 
         var body = new ChunkedTransferRequestBody(() -> new ByteArrayInputStream(content.getBytes()), HttpDataAddress.OCTET_STREAM);
         body.writeTo(sink);
 
-        assertThat(outputStream).hasToString(content);
+        assertThat(sink.readUtf8()).isEqualTo(content);
+    }
+
+    @Test
+    void verifyStreamingTransfer_fromOkioSource() throws IOException {
+        var content = "x".repeat(100_000);
+        var source = new Buffer().writeUtf8(content);
+        var sink = new Buffer();
+
+        var body = new ChunkedTransferRequestBody(() -> source, HttpDataAddress.OCTET_STREAM, 1024);
+        body.writeTo(sink);
+
+        assertThat(sink.readUtf8()).isEqualTo(content);
+        assertThat(source.size()).isZero();
+    }
+
+    @Test
+    void shouldRejectInvalidChunkSize() {
+        assertThatThrownBy(() -> new ChunkedTransferRequestBody(Buffer::new, HttpDataAddress.OCTET_STREAM, 0))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 }
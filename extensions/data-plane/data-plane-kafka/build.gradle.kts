@@ -13,6 +13,7 @@ dependencies {
     implementation(libs.kafkaClients)
 
     testImplementation(project(":core:common:junit"))
+    testImplementation(testFixtures(project(":spi:data-plane:data-plane-spi")))
     testImplementation(libs.mockserver.netty)
     testImplementation(libs.restAssured)
     testImplementation(libs.awaitility)
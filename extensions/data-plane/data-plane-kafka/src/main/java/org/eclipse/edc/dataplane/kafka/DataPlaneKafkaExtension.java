@@ -21,16 +21,27 @@ import org.eclipse.edc.dataplane.kafka.pipeline.KafkaDataSinkFactory;
 import org.eclipse.edc.dataplane.kafka.pipeline.KafkaDataSourceFactory;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.time.Duration;
 
 @Extension(value = DataPlaneKafkaExtension.NAME)
 public class DataPlaneKafkaExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Kafka";
 
+    private static final int DEFAULT_SINK_MAX_IN_FLIGHT = 1000;
+    private static final long DEFAULT_SINK_ACK_TIMEOUT_SECONDS = 30;
+
+    @Setting(value = "Maximum number of records a Kafka sink publishes without having received the broker acknowledgement. Default value " + DEFAULT_SINK_MAX_IN_FLIGHT, type = "int")
+    public static final String SINK_MAX_IN_FLIGHT = "edc.dataplane.kafka.sink.max.inflight";
+
+    @Setting(value = "Time in seconds a Kafka sink waits for the pending acknowledgements when the transfer completes. Default value " + DEFAULT_SINK_ACK_TIMEOUT_SECONDS, type = "long")
+    public static final String SINK_ACK_TIMEOUT_SECONDS = "edc.dataplane.kafka.sink.ack.timeout.seconds";
+
     @Inject
     private DataTransferExecutorServiceContainer executorContainer;
 
@@ -51,6 +62,8 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
         var propertiesFactory = new KafkaPropertiesFactory();
 
         pipelineService.registerFactory(new KafkaDataSourceFactory(monitor, propertiesFactory, clock));
-        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory));
+        var maxInFlight = context.getSetting(SINK_MAX_IN_FLIGHT, DEFAULT_SINK_MAX_IN_FLIGHT);
+        var ackTimeout = Duration.ofSeconds(context.getSetting(SINK_ACK_TIMEOUT_SECONDS, DEFAULT_SINK_ACK_TIMEOUT_SECONDS));
+        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, maxInFlight, ackTimeout));
     }
 }
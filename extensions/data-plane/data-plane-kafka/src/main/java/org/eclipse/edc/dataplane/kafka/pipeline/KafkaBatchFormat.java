@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import java.util.Arrays;
+
+/**
+ * How the records consumed by the {@link KafkaDataSource} are delivered as parts.
+ */
+public enum KafkaBatchFormat {
+
+    /**
+     * One part per record, containing the record value.
+     */
+    RECORD("record"),
+
+    /**
+     * One part per poll, the values are followed by a new line.
+     */
+    NDJSON("ndjson"),
+
+    /**
+     * One part per poll, the values are prefixed by their length as a 4 bytes big-endian integer.
+     */
+    LENGTH_DELIMITED("length-delimited");
+
+    private final String value;
+
+    KafkaBatchFormat(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static KafkaBatchFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown Kafka batch format: " + value));
+    }
+}
@@ -16,26 +16,63 @@ package org.eclipse.edc.dataplane.kafka.pipeline;
 
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
-import org.eclipse.edc.spi.result.AbstractResult;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static java.lang.String.format;
+
+/**
+ * Publishes every part as a record on the topic. The sends are asynchronous, but at most {@code maxInFlight} records
+ * can wait for the broker acknowledgement, further parts block until a slot is released. The first failed send fails
+ * the transfer, and the transfer is reported as completed only after all the records have been acknowledged.
+ * <p>
+ * Idempotent delivery is enabled through the {@code enable.idempotence} producer property. When a
+ * {@code transactional.id} is configured, all the records of the transfer are published in a single transaction,
+ * committed on completion and aborted on failure. The configured id is used as a prefix, completed with the request
+ * id, so that concurrent transfers do not fence each other. Transactions are initialized when the first part is
+ * published, on the transfer executor.
+ * <p>
+ * A part is closed, i.e. acknowledged to the source, only once its record has been acknowledged by the broker, or,
+ * when transactional, once the transaction has been committed. The parts of an aborted transaction are closed on abort.
+ */
 class KafkaDataSink extends ParallelSink implements Closeable {
 
+    private static final int SCRATCH_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+    private static final ThreadLocal<ScratchBuffer> SCRATCH_BUFFER = ThreadLocal.withInitial(ScratchBuffer::new);
+
     private String topic;
     private Producer<String, byte[]> producer;
+    private boolean transactional;
+    private int maxInFlight = 1000;
+    private Duration ackTimeout = Duration.ofSeconds(30);
+    private Semaphore inFlight;
+    private final AtomicReference<String> sendFailure = new AtomicReference<>();
+    private final Queue<DataSource.Part> uncommittedParts = new ConcurrentLinkedQueue<>();
+    private boolean transactionsInitialized;
+    private boolean transactionStarted;
 
     private KafkaDataSink() {
     }
-    
+
     @Override
     public void close() {
         if (producer != null) {
@@ -43,26 +80,205 @@ class KafkaDataSink extends ParallelSink implements Closeable {
         }
     }
 
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        return super.transfer(source).thenApply(result -> {
+            if (result.failed()) {
+                abortTransaction();
+            }
+            return result;
+        });
+    }
+
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
-        return parts.stream()
-                .map(this::publishPart)
-                .filter(AbstractResult::failed)
-                .findFirst()
-                .orElse(StreamResult.success());
+        for (var part : parts) {
+            var result = publishPart(part);
+            if (result.failed()) {
+                return result;
+            }
+        }
+        return StreamResult.success();
+    }
+
+    /**
+     * The parts are closed when the broker acknowledges their records, as {@link #transferParts(List)} only sends
+     * them.
+     */
+    @Override
+    protected void onPartsTransferred(List<DataSource.Part> parts) {
+    }
+
+    @Override
+    protected StreamResult<Object> complete() {
+        try {
+            producer.flush();
+            if (!inFlight.tryAcquire(maxInFlight, ackTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return StreamResult.error(format("Timed out waiting for the acknowledgement of the records published on topic %s", topic));
+            }
+            inFlight.release(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return StreamResult.error(format("Interrupted while waiting for the acknowledgement of the records published on topic %s", topic));
+        }
+
+        var failure = sendFailure.get();
+        if (failure != null) {
+            return StreamResult.error(failure);
+        }
+
+        return commitTransaction();
     }
 
     private StreamResult<Object> publishPart(DataSource.Part part) {
+        var failure = sendFailure.get();
+        if (failure != null) {
+            return StreamResult.error(failure);
+        }
+
+        byte[] value;
         try (var is = part.openStream()) {
-            // asynchronous publishing
-            producer.send(new ProducerRecord<>(topic, null, is.readAllBytes()), (metadata, exception) -> {
-                if (exception != null) {
-                    monitor.warning("Failed to publish message:  " + metadata, exception);
+            value = readValue(is, part.size());
+        } catch (IOException e) {
+            return StreamResult.error("Failed to open part with name: " + part.name());
+        }
+
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return StreamResult.error("Interrupted while publishing part with name: " + part.name());
+        }
+
+        try {
+            beginTransaction();
+            producer.send(new ProducerRecord<>(topic, null, value), (metadata, exception) -> {
+                inFlight.release();
+                if (exception == null) {
+                    acknowledge(part);
+                } else {
+                    var message = format("Failed to publish part %s on topic %s: %s", part.name(), topic, exception.getMessage());
+                    if (sendFailure.compareAndSet(null, message)) {
+                        monitor.warning(message, exception);
+                    }
                 }
             });
             return StreamResult.success();
-        } catch (IOException e) {
-            return StreamResult.error("Failed to open part with name: " + part.name());
+        } catch (Exception e) {
+            inFlight.release();
+            var message = format("Failed to publish part %s on topic %s: %s", part.name(), topic, e.getMessage());
+            sendFailure.compareAndSet(null, message);
+            return StreamResult.error(message);
+        }
+    }
+
+    /**
+     * Reads the part content. The record value is owned by the producer until it is serialized, so it cannot be
+     * recycled: when the size is known the content is read straight into an array of the exact size, otherwise it's
+     * read through a per-thread scratch buffer that is reused across records.
+     */
+    private byte[] readValue(InputStream is, long size) throws IOException {
+        byte[] head = null;
+        var read = 0;
+        var probe = -1;
+        if (size >= 0 && size < Integer.MAX_VALUE) {
+            head = new byte[(int) size];
+            read = is.readNBytes(head, 0, head.length);
+            if (read == head.length) {
+                probe = is.read();
+                if (probe == -1) {
+                    return head;
+                }
+            }
+        }
+
+        // size unknown or not matching the content
+        var buffer = SCRATCH_BUFFER.get();
+        try {
+            if (head != null) {
+                buffer.write(head, 0, read);
+            }
+            if (probe != -1) {
+                buffer.write(probe);
+            }
+            is.transferTo(buffer);
+            return buffer.toByteArray();
+        } finally {
+            buffer.recycle();
+        }
+    }
+
+    private synchronized void beginTransaction() {
+        if (transactional && !transactionStarted) {
+            if (!transactionsInitialized) {
+                producer.initTransactions();
+                transactionsInitialized = true;
+            }
+            producer.beginTransaction();
+            transactionStarted = true;
+        }
+    }
+
+    private void acknowledge(DataSource.Part part) {
+        if (transactional) {
+            uncommittedParts.add(part);
+        } else {
+            closePart(part);
+        }
+    }
+
+    private synchronized StreamResult<Object> commitTransaction() {
+        if (transactionStarted) {
+            try {
+                producer.commitTransaction();
+            } catch (Exception e) {
+                // the parts are closed when the failed transfer gets aborted
+                return StreamResult.error(format("Failed to commit transaction on topic %s: %s", topic, e.getMessage()));
+            } finally {
+                transactionStarted = false;
+            }
+        }
+
+        closeUncommittedParts();
+        return StreamResult.success();
+    }
+
+    private synchronized void abortTransaction() {
+        if (transactionStarted) {
+            try {
+                producer.abortTransaction();
+            } catch (Exception e) {
+                monitor.warning(format("Failed to abort transaction on topic %s", topic), e);
+            } finally {
+                transactionStarted = false;
+            }
+        }
+        closeUncommittedParts();
+    }
+
+    private void closeUncommittedParts() {
+        DataSource.Part part;
+        while ((part = uncommittedParts.poll()) != null) {
+            closePart(part);
+        }
+    }
+
+    /**
+     * Growable buffer that keeps its backing array across resets, so that it's allocated once per thread.
+     */
+    private static class ScratchBuffer extends ByteArrayOutputStream {
+        ScratchBuffer() {
+            super(SCRATCH_BUFFER_SIZE);
+        }
+
+        /**
+         * Resets the buffer, dropping the backing array if it grew too large to be retained.
+         */
+        void recycle() {
+            reset();
+            if (buf.length > MAX_RETAINED_BUFFER_SIZE) {
+                buf = new byte[SCRATCH_BUFFER_SIZE];
+            }
         }
     }
 
@@ -88,13 +304,67 @@ class KafkaDataSink extends ParallelSink implements Closeable {
             return this;
         }
 
+        /**
+         * The producer to be used, if not set it's created from the producer properties.
+         */
+        public Builder producer(Producer<String, byte[]> producer) {
+            sink.producer = producer;
+            return this;
+        }
+
+        /**
+         * Publish all the records of the transfer in a single transaction. Implied when the producer properties
+         * contain a {@code transactional.id}, which is then used as prefix of the id of the transfer producer.
+         */
+        public Builder transactional(boolean transactional) {
+            sink.transactional = transactional;
+            return this;
+        }
+
+        /**
+         * Maximum number of records waiting for the broker acknowledgement.
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            sink.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Maximum time to wait for the acknowledgement of the pending records on completion.
+         */
+        public Builder ackTimeout(Duration ackTimeout) {
+            sink.ackTimeout = ackTimeout;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.monitor, "monitor");
             Objects.requireNonNull(sink.topic, "topic");
-            Objects.requireNonNull(producerProperties, "producerProperties");
+            if (producerProperties != null && producerProperties.containsKey(ProducerConfig.TRANSACTIONAL_ID_CONFIG)) {
+                sink.transactional = true;
+            }
+            if (sink.producer == null) {
+                Objects.requireNonNull(producerProperties, "producerProperties");
+                sink.producer = new KafkaProducer<>(transferProducerProperties());
+            }
+
+            sink.inFlight = new Semaphore(sink.maxInFlight);
+        }
 
-            sink.producer = new KafkaProducer<>(producerProperties);
+        /**
+         * Completes the configured transactional id with the request id: the broker fences producers sharing the
+         * same id, so every transfer needs its own.
+         */
+        private Properties transferProducerProperties() {
+            var transactionalId = producerProperties.getProperty(ProducerConfig.TRANSACTIONAL_ID_CONFIG);
+            if (transactionalId == null) {
+                return producerProperties;
+            }
+            var properties = new Properties();
+            properties.putAll(producerProperties);
+            properties.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, transactionalId + "-" + sink.requestId);
+            return properties;
         }
     }
 }
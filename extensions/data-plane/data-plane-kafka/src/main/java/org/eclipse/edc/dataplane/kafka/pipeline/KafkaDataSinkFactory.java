@@ -27,6 +27,7 @@ import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
@@ -38,12 +39,29 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
     private final Monitor monitor;
     private final KafkaPropertiesFactory propertiesFactory;
     private final Validator<DataAddress> validation;
+    private final int maxInFlight;
+    private final Duration ackTimeout;
 
     public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory) {
+        this(executorService, monitor, propertiesFactory, 1000, Duration.ofSeconds(30));
+    }
+
+    /**
+     * Constructor for KafkaDataSinkFactory
+     *
+     * @param executorService   the executor service.
+     * @param monitor           the monitor.
+     * @param propertiesFactory the kafka properties factory.
+     * @param maxInFlight       maximum number of records waiting for the broker acknowledgement for every sink.
+     * @param ackTimeout        maximum time to wait for the pending acknowledgements when a transfer completes.
+     */
+    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, int maxInFlight, Duration ackTimeout) {
         this.executorService = executorService;
         this.monitor = monitor;
         this.propertiesFactory = propertiesFactory;
         this.validation = new KafkaDataAddressValidator();
+        this.maxInFlight = maxInFlight;
+        this.ackTimeout = ackTimeout;
     }
 
     @Override
@@ -73,6 +91,8 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
                 .requestId(request.getId())
                 .topic(destination.getStringProperty(TOPIC))
                 .producerProperties(producerProps)
+                .maxInFlight(maxInFlight)
+                .ackTimeout(ackTimeout)
                 .executorService(executorService)
                 .build();
     }
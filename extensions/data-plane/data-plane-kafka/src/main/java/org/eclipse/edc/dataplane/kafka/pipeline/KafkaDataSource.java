@@ -15,39 +15,72 @@
 package org.eclipse.edc.dataplane.kafka.pipeline;
 
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
-import org.jetbrains.annotations.NotNull;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.StreamSupport.stream;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 
+/**
+ * Consumes a topic and delivers the records as parts, one per record or one per poll depending on the
+ * {@link KafkaBatchFormat}. With more than one consumer, every consumer polls its own partitions on a dedicated thread
+ * and the parts are handed over to the stream through a bounded queue.
+ * <p>
+ * When auto commit is disabled, the offsets are committed only once the sink has closed the parts, in the order they
+ * were polled by each consumer. Parts closed after the stream ended are not committed and will be consumed again.
+ */
 class KafkaDataSource implements DataSource {
 
+    private static final int QUEUE_CAPACITY = 1000;
+
     private String name;
     private Monitor monitor;
     private Duration pollDuration;
     private Duration maxDuration;
-    private Consumer<String, byte[]> consumer;
     private Clock clock;
+    private KafkaBatchFormat batchFormat = KafkaBatchFormat.RECORD;
+    private boolean trackAcknowledgements;
+    private final List<Poller> pollers = new ArrayList<>();
     private final AtomicBoolean active = new AtomicBoolean(true);
+    private final AtomicReference<Exception> consumerFailure = new AtomicReference<>();
 
     private KafkaDataSource() {
     }
@@ -59,25 +92,49 @@ class KafkaDataSource implements DataSource {
 
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
-        var stream = openRecordsStream()
-                .flatMap(consumerRecords -> consumerRecords.partitions().stream()
-                        .flatMap(p -> consumerRecords.records(p).stream())
-                        .map(KafkaPart::new)
-                        .map(Part.class::cast))
-                .onClose(() -> consumer.close());
+        if (pollers.size() == 1) {
+            var poller = pollers.get(0);
+            var stream = stream(spliteratorUnknownSize(new PollIterator(poller), 0), /* not parallel */ false)
+                    .flatMap(List::stream)
+                    .onClose(poller::close);
+            return success(stream);
+        }
 
+        var queue = new ArrayBlockingQueue<Part>(QUEUE_CAPACITY);
+        var executorService = Executors.newFixedThreadPool(pollers.size());
+        pollers.forEach(poller -> executorService.submit(() -> poller.pollInto(queue)));
+        var stream = stream(spliteratorUnknownSize(new QueueIterator(queue), 0), /* not parallel */ false)
+                .onClose(() -> {
+                    active.set(false);
+                    executorService.shutdown();
+                });
         return success(stream);
     }
 
-    @NotNull
-    private Stream<ConsumerRecords<String, byte[]>> openRecordsStream() {
-        return stream(spliteratorUnknownSize(new ConsumerRecordsIterator(), 0), /* not parallel */ false);
+    private boolean isOpen(Instant streamEnd) {
+        var isMaxDurationReached = clock.instant().isAfter(streamEnd);
+        if (isMaxDurationReached) {
+            debug("max duration reached");
+        }
+        return active.get() && !isMaxDurationReached;
+    }
+
+    private Instant streamEnd() {
+        var streamEnd = maxDuration == null ? Instant.MAX : clock.instant().plus(maxDuration);
+        debug("starts consuming events until: " + streamEnd);
+        return streamEnd;
+    }
+
+    private void debug(String message) {
+        monitor.debug(String.format("KafkaDataSource %s %s", name, message));
     }
 
     public static class Builder {
 
         private Properties consumerProperties;
         private String topic;
+        private int consumers = 1;
+        private Supplier<Consumer<String, byte[]>> consumerFactory;
         private final KafkaDataSource dataSource;
 
         public static Builder newInstance() {
@@ -119,15 +176,43 @@ class KafkaDataSource implements DataSource {
             return this;
         }
 
+        public Builder batchFormat(KafkaBatchFormat batchFormat) {
+            dataSource.batchFormat = batchFormat;
+            return this;
+        }
+
+        public Builder consumers(int consumers) {
+            this.consumers = consumers;
+            return this;
+        }
+
+        /**
+         * Creates the consumers, if not set they're created from the consumer properties.
+         */
+        public Builder consumerFactory(Supplier<Consumer<String, byte[]>> consumerFactory) {
+            this.consumerFactory = consumerFactory;
+            return this;
+        }
+
         public KafkaDataSource build() {
             Objects.requireNonNull(dataSource.monitor, "monitor");
             Objects.requireNonNull(dataSource.pollDuration, "pollDuration");
             Objects.requireNonNull(topic, "topic");
-            Objects.requireNonNull(consumerProperties, "consumerProperties");
             Objects.requireNonNull(dataSource.clock, "clock");
+            Objects.requireNonNull(dataSource.batchFormat, "batchFormat");
+            if (consumerFactory == null) {
+                Objects.requireNonNull(consumerProperties, "consumerProperties");
+                consumerFactory = () -> new KafkaConsumer<>(consumerProperties);
+            }
+
+            dataSource.trackAcknowledgements = consumerProperties != null &&
+                    "false".equalsIgnoreCase(String.valueOf(consumerProperties.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG)));
 
-            dataSource.consumer = new KafkaConsumer<>(consumerProperties);
-            dataSource.consumer.subscribe(List.of(topic));
+            for (var i = 0; i < Math.max(1, consumers); i++) {
+                var consumer = consumerFactory.get();
+                consumer.subscribe(List.of(topic));
+                dataSource.pollers.add(dataSource.new Poller(consumer));
+            }
 
             return dataSource;
         }
@@ -137,12 +222,18 @@ class KafkaDataSource implements DataSource {
         }
     }
 
+    /**
+     * A part that holds the offsets to be committed once it has been closed by the sink.
+     */
     private class KafkaPart implements Part {
 
-        private final ConsumerRecord<String, byte[]> consumerRecord;
+        private final byte[] content;
+        private final Map<TopicPartition, OffsetAndMetadata> offsets;
+        private volatile boolean acknowledged;
 
-        private KafkaPart(ConsumerRecord<String, byte[]> consumerRecord) {
-            this.consumerRecord = consumerRecord;
+        private KafkaPart(byte[] content, Map<TopicPartition, OffsetAndMetadata> offsets) {
+            this.content = content;
+            this.offsets = offsets;
         }
 
         @Override
@@ -150,42 +241,211 @@ class KafkaDataSource implements DataSource {
             return name;
         }
 
+        @Override
+        public long size() {
+            return content.length;
+        }
+
         @Override
         public InputStream openStream() {
-            return new ByteArrayInputStream(consumerRecord.value());
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public String mediaType() {
+            return batchFormat == KafkaBatchFormat.NDJSON ? "application/x-ndjson" : Part.super.mediaType();
+        }
+
+        @Override
+        public void close() {
+            acknowledged = true;
         }
     }
 
-    private class ConsumerRecordsIterator implements Iterator<ConsumerRecords<String, byte[]>> {
+    /**
+     * Polls a consumer. The consumer is not thread-safe, so it must be used by a single thread at a time, including
+     * the commits.
+     */
+    private class Poller {
 
+        private final Consumer<String, byte[]> consumer;
+        private final Deque<KafkaPart> pending = new ArrayDeque<>();
+
+        Poller(Consumer<String, byte[]> consumer) {
+            this.consumer = consumer;
+        }
+
+        List<Part> poll() {
+            commitAcknowledged();
+            var records = consumer.poll(pollDuration);
+            if (records.isEmpty()) {
+                return List.of();
+            }
+
+            var parts = toParts(records);
+            if (trackAcknowledgements) {
+                pending.addAll(parts);
+            }
+            return new ArrayList<>(parts);
+        }
+
+        void pollInto(BlockingQueue<Part> queue) {
+            try {
+                while (active.get()) {
+                    for (var part : poll()) {
+                        while (!queue.offer(part, pollDuration.toMillis(), MILLISECONDS)) {
+                            if (!active.get()) {
+                                return;
+                            }
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                monitor.severe(String.format("KafkaDataSource %s consumer failed", name), e);
+                consumerFailure.compareAndSet(null, e);
+                active.set(false);
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            try {
+                var offsets = acknowledgedOffsets();
+                if (!offsets.isEmpty()) {
+                    consumer.commitSync(offsets);
+                }
+            } catch (Exception e) {
+                monitor.warning(String.format("KafkaDataSource %s failed to commit offsets", name), e);
+            } finally {
+                consumer.close();
+            }
+        }
+
+        private void commitAcknowledged() {
+            var offsets = acknowledgedOffsets();
+            if (!offsets.isEmpty()) {
+                consumer.commitAsync(offsets, (committed, exception) -> {
+                    if (exception != null) {
+                        monitor.warning(String.format("KafkaDataSource %s failed to commit offsets", name), exception);
+                    }
+                });
+            }
+        }
+
+        /**
+         * Returns the offsets of the acknowledged parts that have been polled before any part still pending.
+         */
+        private Map<TopicPartition, OffsetAndMetadata> acknowledgedOffsets() {
+            var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+            while (!pending.isEmpty() && pending.peekFirst().acknowledged) {
+                offsets.putAll(pending.pollFirst().offsets);
+            }
+            return offsets;
+        }
+
+        private List<KafkaPart> toParts(ConsumerRecords<String, byte[]> records) {
+            if (batchFormat == KafkaBatchFormat.RECORD) {
+                var parts = new ArrayList<KafkaPart>(records.count());
+                for (var record : records) {
+                    parts.add(new KafkaPart(valueOf(record), Map.of(topicPartition(record), new OffsetAndMetadata(record.offset() + 1))));
+                }
+                return parts;
+            }
+
+            var output = new ByteArrayOutputStream();
+            var data = new DataOutputStream(output);
+            var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+            try {
+                for (var record : records) {
+                    var value = valueOf(record);
+                    if (batchFormat == KafkaBatchFormat.LENGTH_DELIMITED) {
+                        data.writeInt(value.length);
+                        data.write(value);
+                    } else {
+                        data.write(value);
+                        data.write('\n');
+                    }
+                    offsets.put(topicPartition(record), new OffsetAndMetadata(record.offset() + 1));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return List.of(new KafkaPart(output.toByteArray(), offsets));
+        }
+
+        private byte[] valueOf(ConsumerRecord<String, byte[]> record) {
+            return record.value() == null ? new byte[0] : record.value();
+        }
+
+        private TopicPartition topicPartition(ConsumerRecord<String, byte[]> record) {
+            return new TopicPartition(record.topic(), record.partition());
+        }
+    }
+
+    private class PollIterator implements Iterator<List<Part>> {
+
+        private final Poller poller;
         private final Instant streamEnd;
 
-        ConsumerRecordsIterator() {
-            this.streamEnd = maxDuration == null ? Instant.MAX : clock.instant().plus(maxDuration);
-            debug("starts consuming events until: " + streamEnd);
+        PollIterator(Poller poller) {
+            this.poller = poller;
+            this.streamEnd = streamEnd();
         }
 
         @Override
         public boolean hasNext() {
-            var isMaxDurationReached = clock.instant().isAfter(streamEnd);
-            if (isMaxDurationReached) {
-                debug("max duration reached");
-            }
-            return active.get() && !isMaxDurationReached;
+            return isOpen(streamEnd);
         }
 
         @Override
-        public ConsumerRecords<String, byte[]> next() {
-            ConsumerRecords<String, byte[]> records;
+        public List<Part> next() {
+            List<Part> parts;
             do {
-                records = consumer.poll(pollDuration);
-            } while (active.get() && records.isEmpty());
+                parts = poller.poll();
+            } while (active.get() && parts.isEmpty());
+
+            return parts;
+        }
+    }
+
+    private class QueueIterator implements Iterator<Part> {
+
+        private final BlockingQueue<Part> queue;
+        private final Instant streamEnd;
+        private Part next;
 
-            return records;
+        QueueIterator(BlockingQueue<Part> queue) {
+            this.queue = queue;
+            this.streamEnd = streamEnd();
         }
 
-        private void debug(String message) {
-            monitor.debug(String.format("KafkaDataSource %s %s", name, message));
+        @Override
+        public boolean hasNext() {
+            while (next == null && isOpen(streamEnd)) {
+                try {
+                    next = queue.poll(pollDuration.toMillis(), MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            if (next == null && consumerFailure.get() != null) {
+                throw new EdcException(String.format("KafkaDataSource %s consumer failed", name), consumerFailure.get());
+            }
+            return next != null;
+        }
+
+        @Override
+        public Part next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var part = next;
+            next = null;
+            return part;
         }
     }
 }
@@ -32,6 +32,8 @@ import java.time.Clock;
 import java.time.Duration;
 import java.util.Optional;
 
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BATCH_FORMAT;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.CONSUMERS;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.MAX_DURATION;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.NAME;
@@ -62,7 +64,21 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
     @Override
     public @NotNull Result<Void> validateRequest(DataFlowRequest request) {
         var source = request.getSourceDataAddress();
-        return validation.validate(source).flatMap(ValidationResult::toResult);
+        var result = validation.validate(source).flatMap(ValidationResult::toResult);
+        if (result.failed()) {
+            return result;
+        }
+
+        try {
+            batchFormat(source);
+            var consumers = consumers(source);
+            if (consumers < 1) {
+                return Result.failure("'%s' must be greater than 0".formatted(CONSUMERS));
+            }
+        } catch (IllegalArgumentException e) {
+            return Result.failure(e.getMessage());
+        }
+        return Result.success();
     }
 
     @Override
@@ -78,6 +94,8 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
         var consumerProps = propertiesFactory.getConsumerProperties(source.getProperties())
                 .orElseThrow(failure -> new IllegalArgumentException(failure.getFailureDetail()));
         consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        // offsets are committed once the parts have been transferred
+        consumerProps.putIfAbsent(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
 
         var topic = source.getStringProperty(TOPIC);
         var name = source.getStringProperty(NAME);
@@ -98,6 +116,20 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
                 .pollDuration(pollDuration)
                 .maxDuration(maxDuration)
                 .consumerProperties(consumerProps)
+                .batchFormat(batchFormat(source))
+                .consumers(consumers(source))
                 .build();
     }
+
+    private KafkaBatchFormat batchFormat(DataAddress source) {
+        return Optional.ofNullable(source.getStringProperty(BATCH_FORMAT))
+                .map(KafkaBatchFormat::from)
+                .orElse(KafkaBatchFormat.RECORD);
+    }
+
+    private int consumers(DataAddress source) {
+        return Optional.ofNullable(source.getStringProperty(CONSUMERS))
+                .map(Integer::parseInt)
+                .orElse(1);
+    }
 }
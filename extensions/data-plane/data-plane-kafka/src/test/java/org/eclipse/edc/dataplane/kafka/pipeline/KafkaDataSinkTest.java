@@ -0,0 +1,249 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.MultipleBinaryPartsDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class KafkaDataSinkTest {
+
+    private static final byte[] MESSAGE = "message".getBytes();
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void transfer_shouldSucceed_whenAllRecordsAreAcknowledged() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer).build();
+
+        var future = sink.transfer(new MultipleBinaryPartsDataSource("part", MESSAGE, 3));
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5)).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(producer.history()).hasSize(3).allSatisfy(record -> {
+            assertThat(record.topic()).isEqualTo("topic");
+            assertThat(record.value()).isEqualTo(MESSAGE);
+        });
+    }
+
+    @Test
+    void transfer_shouldFail_whenRecordIsNotAcknowledged() {
+        var producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer).maxInFlight(1).build();
+
+        var future = sink.transfer(new MultipleBinaryPartsDataSource("part", MESSAGE, 3));
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(1));
+        producer.errorNext(new RuntimeException("broker error"));
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5)).satisfies(result -> {
+            assertThat(result).isFailed();
+            assertThat(result.getFailureDetail()).contains("broker error");
+        });
+    }
+
+    @Test
+    void transfer_shouldCommitTransaction_whenTransactional() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer).transactional(true).build();
+
+        var future = sink.transfer(new MultipleBinaryPartsDataSource("part", MESSAGE, 3));
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5)).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(producer.transactionCommitted()).isTrue();
+        assertThat(producer.history()).hasSize(3);
+    }
+
+    @Test
+    void transfer_shouldSendWholeContent_whenPartSizeIsSmallerThanContent() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer).build();
+        var part = new DataSource.Part() {
+            @Override
+            public String name() {
+                return "part";
+            }
+
+            @Override
+            public long size() {
+                return MESSAGE.length - 2;
+            }
+
+            @Override
+            public InputStream openStream() {
+                return new ByteArrayInputStream(MESSAGE);
+            }
+        };
+
+        var future = sink.transfer(partsSource(part));
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5)).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(producer.history()).hasSize(1).first().satisfies(record -> assertThat(record.value()).isEqualTo(MESSAGE));
+    }
+
+    @Test
+    void transfer_shouldClosePart_whenRecordIsAcknowledged() {
+        var producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer).maxInFlight(1).build();
+        var firstClosed = new AtomicBoolean();
+        var secondClosed = new AtomicBoolean();
+
+        var future = sink.transfer(partsSource(new ClosingPart(firstClosed), new ClosingPart(secondClosed)));
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(1));
+        assertThat(firstClosed).isFalse();
+
+        producer.completeNext();
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5)).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(firstClosed).isTrue();
+        assertThat(secondClosed).isTrue();
+    }
+
+    @Test
+    void transfer_shouldClosePart_whenTransactionIsCommitted() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer).transactional(true).build();
+        var closed = new AtomicBoolean();
+
+        var future = sink.transfer(partsSource(new ClosingPart(closed)));
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5)).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(producer.transactionCommitted()).isTrue();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void transfer_shouldInitTransactions_whenFirstPartIsPublished() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer).transactional(true).build();
+
+        assertThat(producer.transactionInitialized()).isFalse();
+
+        var future = sink.transfer(new MultipleBinaryPartsDataSource("part", MESSAGE, 1));
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5)).satisfies(result -> assertThat(result).isSucceeded());
+        assertThat(producer.transactionInitialized()).isTrue();
+    }
+
+    @Test
+    void transfer_shouldClosePart_whenTransactionIsAborted() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer).transactional(true).build();
+        var closed = new AtomicBoolean();
+        var failingPart = new DataSource.Part() {
+            @Override
+            public String name() {
+                return "failing";
+            }
+
+            @Override
+            public InputStream openStream() {
+                return new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("cannot read");
+                    }
+                };
+            }
+        };
+
+        var future = sink.transfer(partsSource(new ClosingPart(closed), failingPart));
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5)).satisfies(result -> assertThat(result).isFailed());
+        assertThat(producer.transactionAborted()).isTrue();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void transfer_shouldNotClosePart_whenRecordIsNotAcknowledged() {
+        var producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer).maxInFlight(1).build();
+        var closed = new AtomicBoolean();
+
+        var future = sink.transfer(partsSource(new ClosingPart(closed), new ClosingPart(new AtomicBoolean())));
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(1));
+        producer.errorNext(new RuntimeException("broker error"));
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5)).satisfies(result -> assertThat(result).isFailed());
+        assertThat(closed).isFalse();
+    }
+
+    private DataSource partsSource(DataSource.Part... parts) {
+        return new DataSource() {
+            @Override
+            public StreamResult<Stream<Part>> openPartStream() {
+                return StreamResult.success(Stream.of(parts));
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private KafkaDataSink.Builder createSink(MockProducer<String, byte[]> producer) {
+        return KafkaDataSink.Builder.newInstance()
+                .requestId("requestId")
+                .monitor(mock(Monitor.class))
+                .executorService(executorService)
+                .topic("topic")
+                .producer(producer);
+    }
+
+    private record ClosingPart(AtomicBoolean closed) implements DataSource.Part {
+
+        @Override
+        public String name() {
+            return "part";
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(MESSAGE);
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import java.util.Properties;
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BATCH_FORMAT;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BOOTSTRAP_SERVERS;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TOPIC;
@@ -77,6 +78,15 @@ class KafkaDataSourceFactoryTest {
         assertThat(result.getFailureDetail()).contains("topic");
     }
 
+    @Test
+    void verifyValidateReturnsFailedResult_ifBatchFormatIsUnknown() {
+        var request = createRequest(KAFKA_TYPE, Map.of(TOPIC, "test", BOOTSTRAP_SERVERS, "any", BATCH_FORMAT, "unknown"));
+
+        var result = factory.validateRequest(request);
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.getFailureDetail()).contains("unknown");
+    }
+
     @Test
     void verifyValidateReturnsFailedResult_ifKafkaPropertiesFactoryFails() {
         var errorMsg = "test-error";
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class KafkaDataSourceTest {
+
+    private static final String TOPIC = "topic";
+
+    @Test
+    void openPartStream_shouldDeliverOnePartPerPoll_whenBatchFormatIsNdjson() {
+        var partition = new TopicPartition(TOPIC, 0);
+        var consumer = new MockConsumer<String, byte[]>(OffsetResetStrategy.EARLIEST);
+        var source = createSource(() -> consumer).batchFormat(KafkaBatchFormat.NDJSON).build();
+        assign(consumer, partition);
+        addRecord(consumer, partition, 0, "{\"a\":1}");
+        addRecord(consumer, partition, 1, "{\"a\":2}");
+
+        try (var stream = source.openPartStream().getContent()) {
+            var part = stream.iterator().next();
+
+            assertThat(part.mediaType()).isEqualTo("application/x-ndjson");
+            assertThat(content(part)).isEqualTo("{\"a\":1}\n{\"a\":2}\n");
+            assertThat(part.size()).isEqualTo(16);
+        }
+    }
+
+    @Test
+    void openPartStream_shouldCommitOffsets_whenPartIsClosed() throws Exception {
+        var partition = new TopicPartition(TOPIC, 0);
+        var consumer = new MockConsumer<String, byte[]>(OffsetResetStrategy.EARLIEST);
+        var source = createSource(() -> consumer).build();
+        assign(consumer, partition);
+        addRecord(consumer, partition, 0, "first");
+
+        try (var stream = source.openPartStream().getContent()) {
+            var iterator = stream.iterator();
+            var first = iterator.next();
+
+            addRecord(consumer, partition, 1, "second");
+            var second = iterator.next();
+            assertThat(consumer.committed(Set.of(partition)).get(partition)).isNull();
+
+            first.close();
+            addRecord(consumer, partition, 2, "third");
+            iterator.next();
+
+            assertThat(consumer.committed(Set.of(partition)).get(partition).offset()).isEqualTo(1);
+            assertThat(content(second)).isEqualTo("second");
+        }
+    }
+
+    @Test
+    void openPartStream_shouldDeliverRecordsOfAllConsumers() {
+        var consumers = new ArrayList<MockConsumer<String, byte[]>>();
+        var source = createSource(() -> {
+            var consumer = new MockConsumer<String, byte[]>(OffsetResetStrategy.EARLIEST);
+            consumers.add(consumer);
+            return consumer;
+        }).consumers(2).build();
+        for (var i = 0; i < consumers.size(); i++) {
+            var partition = new TopicPartition(TOPIC, i);
+            assign(consumers.get(i), partition);
+            addRecord(consumers.get(i), partition, 0, "record-" + i);
+        }
+
+        try (var stream = source.openPartStream().getContent()) {
+            var contents = stream.limit(2).map(this::content).toList();
+
+            assertThat(contents).containsExactlyInAnyOrder("record-0", "record-1");
+        }
+    }
+
+    @Test
+    void openPartStream_shouldFail_whenConsumerFails() {
+        var consumers = new ArrayList<MockConsumer<String, byte[]>>();
+        var source = createSource(() -> {
+            var consumer = new MockConsumer<String, byte[]>(OffsetResetStrategy.EARLIEST);
+            consumers.add(consumer);
+            return consumer;
+        }).consumers(2).build();
+        for (var i = 0; i < consumers.size(); i++) {
+            assign(consumers.get(i), new TopicPartition(TOPIC, i));
+        }
+        consumers.get(0).setPollException(new KafkaException("broker unavailable"));
+
+        try (var stream = source.openPartStream().getContent()) {
+            assertThatThrownBy(stream::toList).isInstanceOf(EdcException.class)
+                    .hasRootCauseInstanceOf(KafkaException.class);
+        }
+    }
+
+    private KafkaDataSource.Builder createSource(Supplier<MockConsumer<String, byte[]>> consumerFactory) {
+        var properties = new Properties();
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        return KafkaDataSource.Builder.newInstance()
+                .name("name")
+                .monitor(mock(Monitor.class))
+                .clock(Clock.systemUTC())
+                .topic(TOPIC)
+                .pollDuration(Duration.ofMillis(10))
+                .consumerProperties(properties)
+                .consumerFactory(consumerFactory::get);
+    }
+
+    private void assign(MockConsumer<String, byte[]> consumer, TopicPartition partition) {
+        consumer.rebalance(List.of(partition));
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+    }
+
+    private void addRecord(MockConsumer<String, byte[]> consumer, TopicPartition partition, long offset, String value) {
+        consumer.addRecord(new ConsumerRecord<>(TOPIC, partition.partition(), offset, null, value.getBytes()));
+    }
+
+    private String content(Part part) {
+        try (var stream = part.openStream()) {
+            return new String(stream.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
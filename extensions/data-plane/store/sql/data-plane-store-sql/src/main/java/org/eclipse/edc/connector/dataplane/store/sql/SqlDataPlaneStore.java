@@ -37,6 +37,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -89,8 +90,9 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                     var stream = queryExecutor.query(connection, true, this::mapDataFlow, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                var ids = entries.stream().map(DataFlow::getId).toList();
+                var leased = new HashSet<>(leaseContext.withConnection(connection).acquireLeases(ids));
+                return entries.stream().filter(entry -> leased.contains(entry.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
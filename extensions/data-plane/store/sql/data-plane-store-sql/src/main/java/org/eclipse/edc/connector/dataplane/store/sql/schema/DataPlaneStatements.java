@@ -32,6 +32,11 @@ public interface DataPlaneStatements extends StatefulEntityStatements, LeaseStat
         return "edc_data_plane";
     }
 
+    @Override
+    default String getEntityTableName() {
+        return getDataPlaneTable();
+    }
+
     default String getCallbackAddressColumn() {
         return "callback_address";
     }
@@ -35,6 +35,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -83,8 +84,9 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                     var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                var ids = entries.stream().map(PolicyMonitorEntry::getId).toList();
+                var leased = new HashSet<>(leaseContext.withConnection(connection).acquireLeases(ids));
+                return entries.stream().filter(entry -> leased.contains(entry.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -35,6 +35,20 @@ public interface DatasetResolver {
     @NotNull
     Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec);
 
+    /**
+     * Resolves {@link Dataset}s given the {@link ParticipantAgent} and a {@link QuerySpec}, lazily. The offers available
+     * to the agent are resolved once, when the method is called, while assets are fetched {@code pageSize} at a time,
+     * each page in its own transaction, as the stream is consumed. The stream can then be consumed after the calling
+     * transaction has ended.
+     *
+     * @param agent the participant agent that requested the dataset.
+     * @param querySpec the query spec for filtering and pagination.
+     * @param pageSize the max number of assets fetched at once.
+     * @return a lazy stream of datasets.
+     */
+    @NotNull
+    Stream<Dataset> queryInPages(ParticipantAgent agent, QuerySpec querySpec, int pageSize);
+
     /**
      * Resolves a {@link Dataset} given its id
      *
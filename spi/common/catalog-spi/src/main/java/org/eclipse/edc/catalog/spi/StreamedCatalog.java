@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.spi;
+
+import java.util.stream.Stream;
+
+/**
+ * A {@link Catalog} whose datasets are resolved lazily, so that they can be written out one by one without holding the
+ * whole catalog in memory. The {@link Catalog} carries no datasets itself.
+ * <p>
+ * The datasets stream can be backed by open resources (e.g. a database cursor), so it must be closed after consumption.
+ *
+ * @param catalog  the catalog, without datasets.
+ * @param datasets the datasets contained in the catalog.
+ */
+public record StreamedCatalog(Catalog catalog, Stream<Dataset> datasets) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        datasets.close();
+    }
+}
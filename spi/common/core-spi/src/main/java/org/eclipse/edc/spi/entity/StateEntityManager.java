@@ -28,4 +28,11 @@ public interface StateEntityManager {
      * stop the manager.
      */
     void stop();
+
+    /**
+     * Signals the manager that some entities could be ready to be processed, e.g. because they have been created or
+     * updated by another component, so that they get processed without waiting for the next polling iteration.
+     */
+    default void wakeUp() {
+    }
 }
@@ -29,6 +29,15 @@ public abstract class Event {
         return new ArrayList<>();
     }
 
+    /**
+     * The id of the entity the event refers to, used to deliver the events of the same entity in order.
+     *
+     * @return the entity id, null if the event does not refer to a specific entity.
+     */
+    public String entityId() {
+        return null;
+    }
+
 
     /**
      * The name of the event in dot notation.
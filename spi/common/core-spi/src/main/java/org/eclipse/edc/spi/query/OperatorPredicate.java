@@ -15,9 +15,21 @@
 package org.eclipse.edc.spi.query;
 
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 
 /**
  * Represent a predicate for an operator. The result is true when the two objects match with the operator.
  */
 public interface OperatorPredicate extends BiPredicate<Object, Object> {
+
+    /**
+     * Compile the predicate for a given right operand, so that the work that depends only on it (e.g. building a
+     * pattern) is done once instead of for every tested property.
+     *
+     * @param operandRight the right operand.
+     * @return the predicate on the property.
+     */
+    default Predicate<Object> compile(Object operandRight) {
+        return property -> test(property, operandRight);
+    }
 }
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.spi.query;
 
+import java.util.function.Function;
+
 /**
  * Extract the property value from an object
  */
@@ -29,4 +31,15 @@ public interface PropertyLookup {
      */
     Object getProperty(String key, Object object);
 
+    /**
+     * Compile the lookup for a given key, so that the work that depends only on it (e.g. parsing the path) is done
+     * once instead of for every object.
+     *
+     * @param key the key.
+     * @return the function that extracts the property value from an object, returning null if it does not exist.
+     */
+    default Function<Object, Object> compile(String key) {
+        return object -> getProperty(key, object);
+    }
+
 }
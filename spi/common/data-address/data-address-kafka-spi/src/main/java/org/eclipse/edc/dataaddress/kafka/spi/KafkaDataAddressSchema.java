@@ -66,4 +66,21 @@ public interface KafkaDataAddressSchema {
      * @see java.time.Duration#parse(CharSequence) for ISO-8601 duration format
      */
     String MAX_DURATION = EDC_NAMESPACE + "maxDuration";
+
+    /**
+     * How the consumed records are delivered.
+     * <p>
+     * "record" delivers one part per record. "ndjson" and "length-delimited" deliver one part per poll containing the
+     * values of all the polled records, followed by a new line or prefixed by their length as a 4 bytes big-endian
+     * integer respectively.
+     * This parameter is optional. Default value is "record".
+     */
+    String BATCH_FORMAT = EDC_NAMESPACE + "batchFormat";
+
+    /**
+     * Number of consumers that poll the partitions of the topic in parallel.
+     * <p>
+     * This parameter is optional. Default value is 1.
+     */
+    String CONSUMERS = EDC_NAMESPACE + "consumers";
 }
@@ -20,6 +20,7 @@ import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.policy.model.Rule;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.function.BiFunction;
 
@@ -58,6 +59,21 @@ public interface PolicyEngine {
      */
     Result<Void> evaluate(String scope, Policy policy, PolicyContext context);
 
+    /**
+     * Evaluates the given policy with a context for the given scope. The policy id identifies the policy content, so
+     * that implementations can reuse the work done for previous evaluations of the same policy: it must only be passed
+     * for policies whose content never changes, e.g. the id of a contract agreement.
+     *
+     * @param scope    the scope.
+     * @param policyId the id of the policy, null if the policy has no immutable id.
+     * @param policy   the policy.
+     * @param context  the context.
+     * @return successful result if the policy is fulfilled, failure otherwise.
+     */
+    default Result<Void> evaluate(String scope, @Nullable String policyId, Policy policy, PolicyContext context) {
+        return evaluate(scope, policy, context);
+    }
+
     /**
      * Registers a function that is invoked when a policy contains an atomic constraint whose left operator expression evaluates to the given key for the specified scope.
      *
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.spi.catalog;
 import org.eclipse.edc.catalog.spi.Catalog;
 import org.eclipse.edc.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.StreamedCatalog;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -37,6 +38,17 @@ public interface CatalogProtocolService {
     @NotNull
     ServiceResult<Catalog> getCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation);
 
+    /**
+     * Returns a catalog given a {@link CatalogRequestMessage} and a {@link ClaimToken}, with datasets resolved lazily.
+     * The returned {@link StreamedCatalog} must be closed once its datasets have been consumed.
+     *
+     * @param message             the request message.
+     * @param tokenRepresentation the claim token.
+     * @return succeeded result with the {@link StreamedCatalog}, failed result otherwise.
+     */
+    @NotNull
+    ServiceResult<StreamedCatalog> streamCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation);
+
     /**
      * Returns a dataset given its id and a {@link ClaimToken}
      *
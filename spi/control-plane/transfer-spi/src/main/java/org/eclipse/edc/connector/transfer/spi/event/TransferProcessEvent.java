@@ -35,6 +35,11 @@ public abstract class TransferProcessEvent extends Event {
         return transferProcessId;
     }
 
+    @Override
+    public String entityId() {
+        return transferProcessId;
+    }
+
     @Override
     public List<CallbackAddress> getCallbackAddresses() {
         return callbackAddresses;
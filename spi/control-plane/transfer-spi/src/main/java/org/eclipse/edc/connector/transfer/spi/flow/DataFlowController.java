@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Handles a data flow.
@@ -49,6 +50,18 @@ public interface DataFlowController {
     @NotNull
     StatusResult<DataFlowResponse> initiateFlow(TransferProcess transferProcess, Policy policy);
 
+    /**
+     * Initiate a data flow without blocking the caller, by default it delegates to {@link #initiateFlow(TransferProcess, Policy)}.
+     *
+     * @param transferProcess    the transfer process
+     * @param policy             the contract agreement usage policy for the asset being transferred
+     * @return the future that completes with the result of the initiation.
+     */
+    @NotNull
+    default CompletableFuture<StatusResult<DataFlowResponse>> initiateFlowAsync(TransferProcess transferProcess, Policy policy) {
+        return CompletableFuture.completedFuture(initiateFlow(transferProcess, policy));
+    }
+
     /**
      * Terminate a data flow.
      *
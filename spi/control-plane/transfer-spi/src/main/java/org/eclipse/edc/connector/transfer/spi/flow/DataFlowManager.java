@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Manages data flows and dispatches to {@link DataFlowController}s.
@@ -55,6 +56,18 @@ public interface DataFlowManager {
     @NotNull
     StatusResult<DataFlowResponse> initiate(TransferProcess transferProcess, Policy policy);
 
+    /**
+     * Initiates a data flow without blocking the caller.
+     *
+     * @param transferProcess the transfer process
+     * @param policy          the contract agreement usage policy for the asset being transferred
+     * @return the future that completes with the result of the initiation.
+     */
+    @NotNull
+    default CompletableFuture<StatusResult<DataFlowResponse>> initiateAsync(TransferProcess transferProcess, Policy policy) {
+        return CompletableFuture.completedFuture(initiate(transferProcess, policy));
+    }
+
     /**
      * Terminates a data flow.
      *
@@ -18,6 +18,8 @@ import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Main interaction interface for an EDC runtime (=control plane) to communicate with the DPF.
  */
@@ -36,4 +38,25 @@ public interface DataPlaneClient {
      * @return success if the transfer has been terminated, failure otherwise.
      */
     StatusResult<Void> terminate(String transferProcessId);
+
+    /**
+     * Delegates data transfer to the Data Plane without blocking the caller. Implementations that talk to a remote data
+     * plane can coalesce concurrent requests into a single call.
+     *
+     * @param request the data flow request.
+     * @return the future that completes with the result of the transfer request.
+     */
+    default CompletableFuture<StatusResult<Void>> transferAsync(DataFlowRequest request) {
+        return CompletableFuture.completedFuture(transfer(request));
+    }
+
+    /**
+     * Terminate the transfer without blocking the caller.
+     *
+     * @param transferProcessId the transfer process id.
+     * @return the future that completes with the result of the termination.
+     */
+    default CompletableFuture<StatusResult<Void>> terminateAsync(String transferProcessId) {
+        return CompletableFuture.completedFuture(terminate(transferProcessId));
+    }
 }
@@ -45,6 +45,13 @@ public class DataPlaneInstance {
     public static final String PROPERTIES = EDC_NAMESPACE + "properties";
     public static final String ALLOWED_SOURCE_TYPES = EDC_NAMESPACE + "allowedSourceTypes";
     public static final String ALLOWED_DEST_TYPES = EDC_NAMESPACE + "allowedDestTypes";
+    /**
+     * Well-known properties a data plane can use to report its load by updating its registration, see {@link DataPlaneLoad}.
+     */
+    public static final String ACTIVE_FLOWS = EDC_NAMESPACE + "activeFlows";
+    public static final String QUEUE_DEPTH = EDC_NAMESPACE + "queueDepth";
+    public static final String BYTES_PER_SECOND = EDC_NAMESPACE + "bytesPerSecond";
+    public static final String WEIGHT = EDC_NAMESPACE + "weight";
 
     private Map<String, Object> properties = new HashMap<>();
     private Set<String> allowedSourceTypes = new HashSet<>();
@@ -99,6 +106,17 @@ public class DataPlaneInstance {
         return Collections.unmodifiableSet(allowedDestTypes);
     }
 
+    public Builder toBuilder() {
+        return Builder.newInstance()
+                .id(id)
+                .url(url)
+                .turnCount(turnCount)
+                .lastActive(lastActive)
+                .allowedSourceTypes(new HashSet<>(allowedSourceTypes))
+                .allowedDestTypes(new HashSet<>(allowedDestTypes))
+                .properties(new HashMap<>(properties));
+    }
+
     @JsonPOJOBuilder(withPrefix = "")
     public static final class Builder {
         private final DataPlaneInstance instance;
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.instance;
+
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.ACTIVE_FLOWS;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.BYTES_PER_SECOND;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.QUEUE_DEPTH;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.WEIGHT;
+
+/**
+ * The load of a {@link DataPlaneInstance}. The data plane reports its active flows, queue depth, throughput and weight
+ * as properties of its registration, while the turn count holds the number of times the instance has been selected
+ * since that registration, so that the selections are accounted for until the next report.
+ *
+ * @param activeFlows    the number of flows the data plane is running.
+ * @param queueDepth     the number of flows waiting to be started.
+ * @param bytesPerSecond the current throughput.
+ * @param selections     the number of selections since the last report.
+ * @param weight         the relative capacity of the data plane, 1 by default.
+ */
+public record DataPlaneLoad(long activeFlows, long queueDepth, long bytesPerSecond, long selections, long weight) {
+
+    /**
+     * Reads the load of a data plane instance, missing or invalid values are considered 0 (1 for the weight).
+     */
+    public static DataPlaneLoad of(DataPlaneInstance instance) {
+        var properties = instance.getProperties();
+        return new DataPlaneLoad(
+                toLong(properties.get(ACTIVE_FLOWS), 0),
+                toLong(properties.get(QUEUE_DEPTH), 0),
+                toLong(properties.get(BYTES_PER_SECOND), 0),
+                instance.getTurnCount(),
+                Math.max(1, toLong(properties.get(WEIGHT), 1)));
+    }
+
+    /**
+     * The number of flows the data plane is running or is about to run, relative to its weight. Lower is better.
+     */
+    public double score() {
+        return (double) (activeFlows + queueDepth + selections) / weight;
+    }
+
+    private static long toLong(Object value, long defaultValue) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String string) {
+            try {
+                return Long.parseLong(string.trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneLoad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects the {@link DataPlaneInstance} with the lowest {@link DataPlaneLoad#score()}, ties are broken at random.
+ */
+public class LeastLoadedSelectionStrategy implements SelectionStrategy {
+
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+
+        var lowest = Double.MAX_VALUE;
+        var candidates = new ArrayList<DataPlaneInstance>();
+        for (var instance : instances) {
+            var score = DataPlaneLoad.of(instance).score();
+            if (score < lowest) {
+                lowest = score;
+                candidates.clear();
+            }
+            if (score == lowest) {
+                candidates.add(instance);
+            }
+        }
+        return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+    }
+
+    @Override
+    public String getName() {
+        return "least-loaded";
+    }
+}
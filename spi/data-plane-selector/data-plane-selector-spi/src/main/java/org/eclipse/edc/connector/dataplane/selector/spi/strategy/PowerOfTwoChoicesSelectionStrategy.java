@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneLoad;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks two {@link DataPlaneInstance}s at random and selects the one with the lower {@link DataPlaneLoad#score()}.
+ * Compared to {@link LeastLoadedSelectionStrategy}, it avoids sending every request to the same instance when the
+ * reported load is stale.
+ */
+public class PowerOfTwoChoicesSelectionStrategy implements SelectionStrategy {
+
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+        if (instances.size() == 1) {
+            return instances.get(0);
+        }
+
+        var random = ThreadLocalRandom.current();
+        var first = random.nextInt(instances.size());
+        var second = random.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        var firstInstance = instances.get(first);
+        var secondInstance = instances.get(second);
+        return DataPlaneLoad.of(secondInstance).score() < DataPlaneLoad.of(firstInstance).score() ? secondInstance : firstInstance;
+    }
+
+    @Override
+    public String getName() {
+        return "power-of-two-choices";
+    }
+}
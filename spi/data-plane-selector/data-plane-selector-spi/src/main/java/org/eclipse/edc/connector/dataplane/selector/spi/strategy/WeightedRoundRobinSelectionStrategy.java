@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneLoad;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distributes the selections among the {@link DataPlaneInstance}s proportionally to their {@link DataPlaneLoad#weight()},
+ * interleaving them as evenly as possible (smooth weighted round robin).
+ */
+public class WeightedRoundRobinSelectionStrategy implements SelectionStrategy {
+
+    private final Map<String, Long> currentWeights = new HashMap<>();
+
+    @Override
+    public synchronized DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+
+        DataPlaneInstance selected = null;
+        var selectedWeight = Long.MIN_VALUE;
+        var totalWeight = 0L;
+        for (var instance : instances) {
+            var weight = DataPlaneLoad.of(instance).weight();
+            totalWeight += weight;
+            var currentWeight = currentWeights.merge(instance.getId(), weight, Long::sum);
+            if (currentWeight > selectedWeight) {
+                selected = instance;
+                selectedWeight = currentWeight;
+            }
+        }
+        currentWeights.put(selected.getId(), selectedWeight - totalWeight);
+        return selected;
+    }
+
+    @Override
+    public String getName() {
+        return "weighted-round-robin";
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.ACTIVE_FLOWS;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.QUEUE_DEPTH;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.WEIGHT;
+
+class LeastLoadedSelectionStrategyTest {
+
+    private final LeastLoadedSelectionStrategy strategy = new LeastLoadedSelectionStrategy();
+
+    @Test
+    void shouldSelectInstanceWithLowestLoad() {
+        var busy = DataPlaneInstance.Builder.newInstance().id("busy").url("http://any").property(ACTIVE_FLOWS, 10).build();
+        var queued = DataPlaneInstance.Builder.newInstance().id("queued").url("http://any").property(ACTIVE_FLOWS, "2").property(QUEUE_DEPTH, 3).build();
+        var idle = DataPlaneInstance.Builder.newInstance().id("idle").url("http://any").property(ACTIVE_FLOWS, 1).turnCount(1).build();
+
+        assertThat(strategy.apply(List.of(busy, queued, idle))).isSameAs(idle);
+    }
+
+    @Test
+    void shouldWeighLoad() {
+        var small = DataPlaneInstance.Builder.newInstance().id("small").url("http://any").property(ACTIVE_FLOWS, 2).build();
+        var large = DataPlaneInstance.Builder.newInstance().id("large").url("http://any").property(ACTIVE_FLOWS, 6).property(WEIGHT, 4).build();
+
+        assertThat(strategy.apply(List.of(small, large))).isSameAs(large);
+    }
+
+    @Test
+    void shouldReturnNull_whenNoInstances() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.WEIGHT;
+
+class WeightedRoundRobinSelectionStrategyTest {
+
+    private final WeightedRoundRobinSelectionStrategy strategy = new WeightedRoundRobinSelectionStrategy();
+
+    @Test
+    void shouldDistributeSelectionsByWeight() {
+        var heavy = DataPlaneInstance.Builder.newInstance().id("heavy").url("http://any").property(WEIGHT, 3).build();
+        var light = DataPlaneInstance.Builder.newInstance().id("light").url("http://any").build();
+        var instances = List.of(heavy, light);
+
+        var selected = range(0, 8).mapToObj(i -> strategy.apply(instances).getId()).toList();
+
+        assertThat(selected).containsExactly("heavy", "heavy", "light", "heavy", "heavy", "heavy", "light", "heavy");
+    }
+
+    @Test
+    void shouldReturnNull_whenNoInstances() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+}
@@ -62,6 +62,10 @@ public interface DataSource extends AutoCloseable {
             return "application/octet-stream";
         }
 
+        /**
+         * Releases the part. Sinks call it once the destination has confirmed the part, so sources can use it as
+         * the acknowledgement of the part.
+         */
         @Override
         default void close() throws Exception {
             // no-op
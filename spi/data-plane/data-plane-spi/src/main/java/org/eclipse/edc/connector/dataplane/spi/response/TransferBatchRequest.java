@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Batch of transfers to be started and terminated by the data plane in a single call.
+ */
+public class TransferBatchRequest {
+    private final List<DataFlowRequest> start;
+    private final List<String> terminate;
+
+    public TransferBatchRequest(@JsonProperty("start") List<DataFlowRequest> start, @JsonProperty("terminate") List<String> terminate) {
+        this.start = Objects.requireNonNullElse(start, List.of());
+        this.terminate = Objects.requireNonNullElse(terminate, List.of());
+    }
+
+    @JsonProperty("start")
+    public List<DataFlowRequest> getStart() {
+        return start;
+    }
+
+    @JsonProperty("terminate")
+    public List<String> getTerminate() {
+        return terminate;
+    }
+}
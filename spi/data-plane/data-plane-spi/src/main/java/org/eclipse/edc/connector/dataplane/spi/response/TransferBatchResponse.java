@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Response to a {@link TransferBatchRequest}, contains one result for every start and terminate request, in the same order.
+ */
+public class TransferBatchResponse {
+    private final List<Result> start;
+    private final List<Result> terminate;
+
+    public TransferBatchResponse(@JsonProperty("start") List<Result> start, @JsonProperty("terminate") List<Result> terminate) {
+        this.start = Objects.requireNonNullElse(start, List.of());
+        this.terminate = Objects.requireNonNullElse(terminate, List.of());
+    }
+
+    @JsonProperty("start")
+    public List<Result> getStart() {
+        return start;
+    }
+
+    @JsonProperty("terminate")
+    public List<Result> getTerminate() {
+        return terminate;
+    }
+
+    /**
+     * The result of a single request of the batch, it succeeded if there are no errors.
+     */
+    public static class Result {
+        private final String id;
+        private final List<String> errors;
+
+        public Result(@JsonProperty("id") String id, @JsonProperty("errors") List<String> errors) {
+            this.id = id;
+            this.errors = Objects.requireNonNullElse(errors, List.of());
+        }
+
+        @JsonProperty("id")
+        public String getId() {
+            return id;
+        }
+
+        @JsonProperty("errors")
+        public List<String> getErrors() {
+            return errors;
+        }
+
+        @JsonIgnore
+        public boolean succeeded() {
+            return errors.isEmpty();
+        }
+    }
+}